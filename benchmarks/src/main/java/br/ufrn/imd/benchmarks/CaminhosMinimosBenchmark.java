@@ -0,0 +1,78 @@
+package br.ufrn.imd.benchmarks;
+
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.alcancabilidade.FechoTransitivo;
+import br.ufrn.imd.algorithms.bellman_ford.BellmanFord;
+import br.ufrn.imd.algorithms.busca_largura.BuscaLarguraTodosPares;
+import br.ufrn.imd.algorithms.dijkstra.Dijkstra;
+import br.ufrn.imd.algorithms.floyd_warshall.FloydWarshall;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminhos mínimos (origem única e todos os pares) e alcançabilidade em grafos direcionados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CaminhosMinimosBenchmark {
+
+    @Param({"100", "400"})
+    int vertices;
+
+    @Param({"0.01", "0.1"})
+    double densidade;
+
+    @Param({"UNITARIO", "INTEIRO_PEQUENO", "INTEIRO_GRANDE", "REAL"})
+    GrafosSinteticos.DistribuicaoPesos pesos;
+
+    private Grafo grafo;
+    private Vertice origem;
+
+    @Setup
+    public void preparar() {
+        grafo = GrafosSinteticos.gerar(vertices, densidade, pesos, true).construir();
+        origem = grafo.getVertice(GrafosSinteticos.rotulo(0));
+    }
+
+    @Benchmark
+    public Map<Vertice, Double> bellmanFord() {
+        return BellmanFord.calcular(grafo, origem);
+    }
+
+    @Benchmark
+    public Map<Vertice, Double> dijkstra() {
+        return Dijkstra.calcular(grafo, origem);
+    }
+
+    @Benchmark
+    public FloydWarshall.Resultado floydWarshall() {
+        return FloydWarshall.calcular(grafo);
+    }
+
+    @Benchmark
+    public BuscaLarguraTodosPares.Resultado bfsTodosPares() {
+        return BuscaLarguraTodosPares.calcular(grafo);
+    }
+
+    @Benchmark
+    public FechoTransitivo.Resultado fechoTransitivo() {
+        return FechoTransitivo.calcular(grafo);
+    }
+}
@@ -0,0 +1,57 @@
+package br.ufrn.imd.benchmarks;
+
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.GrafoCompacto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construção de grafos: a API incremental do Grafo e a conversão para GrafoCompacto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstrucaoGrafoBenchmark {
+
+    @Param({"1000", "10000"})
+    int vertices;
+
+    @Param({"0.001", "0.01"})
+    double densidade;
+
+    @Param({"true", "false"})
+    boolean direcionado;
+
+    private GrafosSinteticos arestas;
+    private Grafo grafo;
+
+    @Setup
+    public void preparar() {
+        arestas = GrafosSinteticos.gerar(vertices, densidade, GrafosSinteticos.DistribuicaoPesos.REAL, direcionado);
+        grafo = arestas.construir();
+    }
+
+    @Benchmark
+    public Grafo construirGrafo() {
+        return arestas.construir();
+    }
+
+    @Benchmark
+    public GrafoCompacto construirCompacto() {
+        return GrafoCompacto.de(grafo);
+    }
+}
@@ -0,0 +1,39 @@
+package br.ufrn.imd.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ponto de entrada do jar de benchmarks.
+ * * Aceita as mesmas opções do JMH, mas por padrão grava os resultados em
+ * JSON (jmh-resultados.json), para que execuções de commits diferentes
+ * possam ser comparadas.
+ */
+public class ExecutarBenchmarks {
+
+    public static final String ARQUIVO_PADRAO = "jmh-resultados.json";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions opcoes = new CommandLineOptions(args);
+
+        // Listagens e ajuda ficam com o Main do próprio JMH
+        if (opcoes.shouldHelp() || opcoes.shouldList() || opcoes.shouldListWithParams()
+                || opcoes.shouldListProfilers() || opcoes.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder construtor = new OptionsBuilder().parent(opcoes);
+        if (!opcoes.getResultFormat().hasValue()) {
+            construtor.resultFormat(ResultFormatType.JSON);
+        }
+        if (!opcoes.getResult().hasValue()) {
+            construtor.result(ARQUIVO_PADRAO);
+        }
+
+        new Runner(construtor.build()).run();
+    }
+}
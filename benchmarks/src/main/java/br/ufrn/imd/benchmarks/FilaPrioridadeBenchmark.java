@@ -0,0 +1,86 @@
+package br.ufrn.imd.benchmarks;
+
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.fila_prioridade.FilaBaldes;
+import br.ufrn.imd.algorithms.fila_prioridade.FilaPrioridade;
+import br.ufrn.imd.algorithms.fila_prioridade.HeapRadix;
+import br.ufrn.imd.algorithms.prim.HeapBinarioMin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operações das filas de prioridade: insere N vértices, diminui a chave
+ * de metade deles e extrai todos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilaPrioridadeBenchmark {
+
+    public enum TipoFila { BINARIO, BALDES, RADIX }
+
+    private static final int CHAVE_MAXIMA = 1000;
+
+    @Param({"1000", "100000"})
+    int tamanho;
+
+    @Param({"BINARIO", "BALDES", "RADIX"})
+    TipoFila fila;
+
+    private Vertice[] vertices;
+    private int[] chaves;
+    private int[] diminuidos;
+
+    @Setup
+    public void preparar() {
+        SplittableRandom aleatorio = new SplittableRandom(42L);
+        vertices = new Vertice[tamanho];
+        chaves = new int[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            vertices[i] = new Vertice(GrafosSinteticos.rotulo(i));
+            chaves[i] = 1 + aleatorio.nextInt(CHAVE_MAXIMA);
+        }
+        diminuidos = new int[tamanho / 2];
+        for (int i = 0; i < diminuidos.length; i++) {
+            diminuidos[i] = aleatorio.nextInt(tamanho);
+        }
+    }
+
+    private FilaPrioridade novaFila() {
+        return switch (fila) {
+            case BINARIO -> new HeapBinarioMin();
+            case BALDES -> new FilaBaldes(CHAVE_MAXIMA + 1);
+            case RADIX -> new HeapRadix();
+        };
+    }
+
+    @Benchmark
+    public void inserirDiminuirExtrair(Blackhole buraco) {
+        FilaPrioridade f = novaFila();
+        for (int i = 0; i < tamanho; i++) {
+            f.inserir(vertices[i], chaves[i]);
+        }
+        for (int i : diminuidos) {
+            f.decreaseKey(vertices[i], chaves[i] / 2);
+        }
+        while (!f.isEmpty()) {
+            buraco.consume(f.extrairMin());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package br.ufrn.imd.benchmarks;
+
+import br.ufrn.imd.Grafo;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Arestas aleatórias (com semente fixa) usadas como entrada dos benchmarks.
+ * * A densidade é a fração de todos os pares possíveis que viram aresta,
+ * então V=1000 e densidade=0.01 dão cerca de 5 mil arestas em um grafo
+ * não-direcionado. Arestas repetidas são permitidas.
+ */
+public class GrafosSinteticos {
+
+    /**
+     * Como os pesos das arestas são sorteados.
+     */
+    public enum DistribuicaoPesos {
+        UNITARIO,        // Todos os pesos iguais a 1 (grafo não-ponderado)
+        INTEIRO_PEQUENO, // Inteiros entre 1 e 16 (caminho rápido de baldes)
+        INTEIRO_GRANDE,  // Inteiros entre 1 e 1.000.000 (heap radix)
+        REAL             // Reais entre 0 e 100 (heap binário)
+    }
+
+    private static final long SEMENTE = 42L;
+
+    final int numVertices;
+    final boolean direcionado;
+    final int[] origens;
+    final int[] destinos;
+    final double[] pesos;
+
+    private GrafosSinteticos(int numVertices, boolean direcionado, int[] origens, int[] destinos, double[] pesos) {
+        this.numVertices = numVertices;
+        this.direcionado = direcionado;
+        this.origens = origens;
+        this.destinos = destinos;
+        this.pesos = pesos;
+    }
+
+    public static GrafosSinteticos gerar(int numVertices, double densidade, DistribuicaoPesos distribuicao,
+                                         boolean direcionado) {
+        SplittableRandom aleatorio = new SplittableRandom(SEMENTE);
+        long pares = (long) numVertices * (numVertices - 1) / (direcionado ? 1 : 2);
+        int m = (int) Math.max(numVertices - 1, Math.round(pares * densidade));
+
+        int[] origens = new int[m];
+        int[] destinos = new int[m];
+        double[] pesos = new double[m];
+
+        // As primeiras V-1 arestas formam um caminho, para o grafo ser conexo
+        for (int i = 0; i < m; i++) {
+            if (i < numVertices - 1) {
+                origens[i] = i;
+                destinos[i] = i + 1;
+            } else {
+                origens[i] = aleatorio.nextInt(numVertices);
+                destinos[i] = aleatorio.nextInt(numVertices);
+            }
+            pesos[i] = switch (distribuicao) {
+                case UNITARIO -> 1.0;
+                case INTEIRO_PEQUENO -> 1 + aleatorio.nextInt(16);
+                case INTEIRO_GRANDE -> 1 + aleatorio.nextInt(1_000_000);
+                case REAL -> aleatorio.nextDouble(100.0);
+            };
+        }
+
+        return new GrafosSinteticos(numVertices, direcionado, origens, destinos, pesos);
+    }
+
+    public static String rotulo(int i) {
+        return "v" + i;
+    }
+
+    /**
+     * Monta um Grafo com as arestas geradas, usando a API normal (addAresta).
+     */
+    public Grafo construir() {
+        Grafo grafo = new Grafo(direcionado);
+        for (int i = 0; i < numVertices; i++) {
+            grafo.addVertice(rotulo(i));
+        }
+        for (int i = 0; i < origens.length; i++) {
+            grafo.addAresta(rotulo(origens[i]), rotulo(destinos[i]), pesos[i]);
+        }
+        // Todos os pesos são explícitos (o Floyd-Warshall não deve tratá-los como ausentes)
+        grafo.setArestasSemPeso(Set.of());
+        return grafo;
+    }
+
+    /**
+     * Escreve as arestas geradas em um arquivo DOT temporário.
+     */
+    public Path escreverDot() throws IOException {
+        Path arquivo = Files.createTempFile("benchmark", ".dot");
+        arquivo.toFile().deleteOnExit();
+        String ligacao = direcionado ? " -> " : " -- ";
+        try (Writer saida = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8)) {
+            saida.write(direcionado ? "digraph g {\n" : "graph g {\n");
+            for (int i = 0; i < origens.length; i++) {
+                saida.write("    " + rotulo(origens[i]) + ligacao + rotulo(destinos[i])
+                        + " [weight=" + pesos[i] + "];\n");
+            }
+            saida.write("}\n");
+        }
+        return arquivo;
+    }
+}
@@ -0,0 +1,53 @@
+package br.ufrn.imd.benchmarks;
+
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.LeitorDOT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitura de arquivos DOT (parser do graphviz-java + montagem do Grafo).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeitorDOTBenchmark {
+
+    @Param({"100", "1000"})
+    int vertices;
+
+    @Param({"0.01", "0.1"})
+    double densidade;
+
+    @Param({"INTEIRO_PEQUENO", "REAL"})
+    GrafosSinteticos.DistribuicaoPesos pesos;
+
+    private String caminhoArquivo;
+    private LeitorDOT leitor;
+
+    @Setup
+    public void preparar() throws IOException {
+        caminhoArquivo = GrafosSinteticos.gerar(vertices, densidade, pesos, false).escreverDot().toString();
+        leitor = new LeitorDOT();
+    }
+
+    @Benchmark
+    public Grafo lerArquivo() throws IOException {
+        return leitor.lerArquivo(caminhoArquivo);
+    }
+}
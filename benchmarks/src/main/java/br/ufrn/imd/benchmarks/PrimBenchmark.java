@@ -0,0 +1,56 @@
+package br.ufrn.imd.benchmarks;
+
+import br.ufrn.imd.Aresta;
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.prim.Prim;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Árvore geradora mínima (Prim) em grafos não-direcionados.
+ * A distribuição de pesos decide a fila usada (baldes, heap binário).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimBenchmark {
+
+    @Param({"1000", "5000"})
+    int vertices;
+
+    @Param({"0.001", "0.01"})
+    double densidade;
+
+    @Param({"INTEIRO_PEQUENO", "INTEIRO_GRANDE", "REAL"})
+    GrafosSinteticos.DistribuicaoPesos pesos;
+
+    private Grafo grafo;
+    private Vertice inicio;
+
+    @Setup
+    public void preparar() {
+        grafo = GrafosSinteticos.gerar(vertices, densidade, pesos, false).construir();
+        inicio = grafo.getVertice(GrafosSinteticos.rotulo(0));
+    }
+
+    @Benchmark
+    public List<Aresta> prim() {
+        return new Prim().executar(grafo, inicio);
+    }
+}
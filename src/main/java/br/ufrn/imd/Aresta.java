@@ -1,6 +1,10 @@
 package br.ufrn.imd;
 
-public class Aresta {
+import java.io.Serializable;
+
+public class Aresta implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final Vertice origem;
     private final Vertice destino;
     private final double peso; 
@@ -0,0 +1,104 @@
+package br.ufrn.imd;
+
+import guru.nidi.graphviz.model.MutableGraph;
+import guru.nidi.graphviz.model.MutableNode;
+import guru.nidi.graphviz.parse.Parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Regra única de quais arestas os algoritmos de todos os pares (Floyd-Warshall,
+ * Johnson e Floyd-Warshall por componentes) tratam como sem peso, isto é, como
+ * inexistentes. A informação vem, nesta ordem:
+ * 1. do próprio grafo ({@link Grafo#getArestasSemPeso()});
+ * 2. do arquivo DOT original, se o grafo não a tiver e o caminho for informado;
+ * 3. sem nenhum dos dois, todas as arestas contam como sem peso.
+ */
+public final class ArestasSemPeso {
+
+    private ArestasSemPeso() {
+    }
+
+    /**
+     * @param caminhoArquivoDOT Arquivo DOT original (ou null)
+     * @return Teste que diz se uma aresta do grafo deve ser ignorada
+     * @throws UncheckedIOException se o arquivo DOT precisar ser lido e não puder
+     */
+    public static Predicate<Aresta> resolver(Grafo grafo, String caminhoArquivoDOT) {
+        Set<String> semPeso = grafo.getArestasSemPeso();
+        if (semPeso != null) {
+            return semPeso.isEmpty() ? aresta -> false : grafo::isSemPeso;
+        }
+        if (caminhoArquivoDOT == null) {
+            return aresta -> true;
+        }
+
+        Set<String> comPeso;
+        try {
+            comPeso = detectarArestasComPesoExplicito(caminhoArquivoDOT);
+        } catch (IOException e) {
+            // Sem o arquivo não há como saber quais arestas têm peso: falhar é melhor
+            // do que trocar em silêncio o significado das arestas
+            throw new UncheckedIOException("Não foi possível ler o arquivo DOT para detectar pesos explícitos: "
+                    + e.getMessage(), e);
+        }
+        return aresta -> !comPeso.contains(
+                Grafo.chaveAresta(aresta.getOrigem().getRotulo(), aresta.getDestino().getRotulo()));
+    }
+
+    /**
+     * Detecta quais arestas têm peso explícito (atributo weight) no arquivo DOT.
+     *
+     * @param caminhoArquivoDOT Caminho para o arquivo DOT
+     * @return Conjunto de chaves de arestas que têm peso explícito
+     * @throws IOException Se houver erro ao ler o arquivo
+     */
+    private static Set<String> detectarArestasComPesoExplicito(String caminhoArquivoDOT) throws IOException {
+        Set<String> arestasComPeso = new HashSet<>();
+        Set<String> arestasProcessadas = new HashSet<>(); // Para evitar duplicatas em grafos não-direcionados
+
+        MutableGraph gvGraph = new Parser().read(new File(caminhoArquivoDOT));
+        boolean direcionado = gvGraph.isDirected();
+
+        for (MutableNode node : gvGraph.nodes()) {
+            String rotuloOrigem = node.name().value();
+
+            node.links().forEach(link -> {
+                String rotuloDestino = link.to().name().value();
+
+                // Para grafos não-direcionados, cria uma chave normalizada para evitar processar duas vezes
+                String chaveArestaNormalizada;
+                if (direcionado) {
+                    chaveArestaNormalizada = rotuloOrigem + "->" + rotuloDestino;
+                } else {
+                    // Para não-direcionados, normaliza a ordem (menor primeiro)
+                    if (rotuloOrigem.compareTo(rotuloDestino) < 0) {
+                        chaveArestaNormalizada = rotuloOrigem + "--" + rotuloDestino;
+                    } else {
+                        chaveArestaNormalizada = rotuloDestino + "--" + rotuloOrigem;
+                    }
+                }
+
+                // Processa cada aresta apenas uma vez
+                if (arestasProcessadas.add(chaveArestaNormalizada)) {
+                    // Verifica se a aresta tem o atributo weight
+                    Object weightAttr = link.attrs().get("weight");
+                    if (weightAttr != null) {
+                        // Aresta tem peso explícito - adiciona ambas as direções se for não-direcionado
+                        arestasComPeso.add(Grafo.chaveAresta(rotuloOrigem, rotuloDestino));
+                        if (!direcionado) {
+                            arestasComPeso.add(Grafo.chaveAresta(rotuloDestino, rotuloOrigem));
+                        }
+                    }
+                }
+            });
+        }
+
+        return arestasComPeso;
+    }
+}
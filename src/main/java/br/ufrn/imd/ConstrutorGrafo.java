@@ -0,0 +1,349 @@
+package br.ufrn.imd;
+
+import br.ufrn.imd.metricas.Contador;
+import br.ufrn.imd.metricas.Metricas;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Monta um Grafo grande de uma vez, em vez de aresta por aresta.
+ * * 1. Os rótulos viram índices (internamento concorrente) e as arestas
+ *      ficam em vetores primitivos, em lotes, até a construção.
+ * 2. Na construção os graus são contados, cada lista de adjacência é
+ *      alocada com o tamanho exato e preenchida em paralelo.
+ * 3. Cada lista é ordenada pela ordem de inserção, então o Grafo final é
+ *      idêntico ao que seria montado com addVertice/addAresta na mesma ordem.
+ * Os métodos de inserção podem ser chamados de várias threads; a ordem
+ * entre lotes de threads diferentes é a ordem em que chegaram.
+ */
+public class ConstrutorGrafo {
+
+    /**
+     * Arestas por lote (lotes maiores são divididos, para equilibrar o trabalho paralelo).
+     */
+    static final int TAMANHO_LOTE = 1 << 16;
+
+    /**
+     * Capacidade do primeiro lote de arestas avulsas. Cada lote seguinte tem o
+     * dobro, até TAMANHO_LOTE: um arquivo pequeno não paga um lote inteiro.
+     */
+    private static final int TAMANHO_LOTE_INICIAL = 64;
+
+    /**
+     * Abaixo deste número de arestas a construção roda em uma única thread.
+     */
+    private static final int MINIMO_ARESTAS_PARALELO = 1 << 14;
+
+    /**
+     * Arestas de um lote, já com os rótulos trocados por índices.
+     */
+    private static final class Lote {
+        final int[] origens;
+        final int[] destinos;
+        final double[] pesos;
+        int tamanho;
+
+        Lote(int capacidade) {
+            this.origens = new int[capacidade];
+            this.destinos = new int[capacidade];
+            this.pesos = new double[capacidade];
+        }
+    }
+
+    private final boolean direcionado;
+    private final Metricas metricas;
+
+    private final ConcurrentHashMap<String, Integer> indices = new ConcurrentHashMap<>();
+    private final AtomicInteger proximoIndice = new AtomicInteger();
+
+    // Lotes completos, na ordem de chegada, e o lote das arestas avulsas (guardados por this)
+    private final List<Lote> lotes = new ArrayList<>();
+    private Lote atual;
+    private int capacidadeProximoLote = TAMANHO_LOTE_INICIAL;
+
+    public ConstrutorGrafo(boolean direcionado) {
+        this(direcionado, Metricas.NENHUMA);
+    }
+
+    /**
+     * @param metricas Recebe a contagem de vértices e arestas do grafo construído
+     */
+    public ConstrutorGrafo(boolean direcionado, Metricas metricas) {
+        this.direcionado = direcionado;
+        this.metricas = metricas;
+    }
+
+    /**
+     * Adiciona um vértice (se ainda não existir) e retorna seu índice.
+     * Os índices são atribuídos em ordem de chegada, a partir de 0.
+     */
+    public int addVertice(String rotulo) {
+        Integer indice = indices.get(rotulo);
+        if (indice != null) {
+            return indice;
+        }
+        return indices.computeIfAbsent(rotulo, r -> proximoIndice.getAndIncrement());
+    }
+
+    public void addAresta(String rotuloOrigem, String rotuloDestino, double peso) {
+        addAresta(addVertice(rotuloOrigem), addVertice(rotuloDestino), peso);
+    }
+
+    /**
+     * Adiciona uma aresta entre vértices já adicionados, pelos seus índices.
+     */
+    public synchronized void addAresta(int origem, int destino, double peso) {
+        if (atual == null) {
+            atual = new Lote(capacidadeProximoLote);
+            capacidadeProximoLote = Math.min(2 * capacidadeProximoLote, TAMANHO_LOTE);
+        }
+        atual.origens[atual.tamanho] = origem;
+        atual.destinos[atual.tamanho] = destino;
+        atual.pesos[atual.tamanho] = peso;
+        if (++atual.tamanho == atual.origens.length) {
+            lotes.add(atual);
+            atual = null;
+        }
+    }
+
+    /**
+     * Adiciona as primeiras {@code quantidade} arestas dos vetores.
+     * Os rótulos são internados fora de qualquer lock, então várias threads
+     * podem enviar lotes ao mesmo tempo.
+     */
+    public void addArestas(String[] origens, String[] destinos, double[] pesos, int quantidade) {
+        List<Lote> novos = new ArrayList<>();
+        for (int inicio = 0; inicio < quantidade; inicio += TAMANHO_LOTE) {
+            Lote lote = new Lote(Math.min(TAMANHO_LOTE, quantidade - inicio));
+            for (int i = 0; i < lote.origens.length; i++) {
+                lote.origens[i] = addVertice(origens[inicio + i]);
+                lote.destinos[i] = addVertice(destinos[inicio + i]);
+                lote.pesos[i] = pesos[inicio + i];
+            }
+            lote.tamanho = lote.origens.length;
+            novos.add(lote);
+        }
+        synchronized (this) {
+            fecharLoteAtual();
+            lotes.addAll(novos);
+        }
+    }
+
+    public int getNumVertices() {
+        return proximoIndice.get();
+    }
+
+    /**
+     * Constrói o Grafo com tudo o que foi adicionado até agora.
+     * Pode ser chamado enquanto outras threads ainda inserem: o grafo terá as
+     * arestas já enviadas e os vértices já criados quando ele começou (um
+     * vértice ainda sendo criado fica de fora, junto com as arestas dele).
+     *
+     * @throws IllegalArgumentException se o grafo tiver mais arestas do que cabem em uma lista
+     */
+    public Grafo construir() {
+        List<Lote> copia;
+        synchronized (this) {
+            fecharLoteAtual();
+            copia = new ArrayList<>(lotes);
+        }
+
+        // Cópia dos rótulos feita depois da dos lotes: toda aresta copiada usa
+        // vértices que já estão no mapa. Um vértice que outra thread ainda está
+        // criando pode deixar um índice vago, mas nenhuma aresta copiada aponta para ele.
+        Map<String, Integer> rotulos = new HashMap<>(indices);
+        int n = 0;
+        for (int indice : rotulos.values()) {
+            n = Math.max(n, indice + 1);
+        }
+        long totalLotes = 0;
+        for (Lote lote : copia) {
+            totalLotes += lote.tamanho;
+        }
+        long totalGuardadas = direcionado ? totalLotes : 2 * totalLotes;
+        if (totalGuardadas > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Grafo grande demais: " + totalGuardadas + " arestas");
+        }
+        int m = (int) totalLotes;
+        int guardadas = (int) totalGuardadas;
+        boolean paralelo = m >= MINIMO_ARESTAS_PARALELO;
+
+        // 1. Junta os lotes em vetores únicos, indexados pela ordem de inserção
+        int[] origens = new int[m];
+        int[] destinos = new int[m];
+        double[] pesos = new double[m];
+        int[] deslocamentos = new int[copia.size()];
+        for (int b = 1; b < copia.size(); b++) {
+            deslocamentos[b] = deslocamentos[b - 1] + copia.get(b - 1).tamanho;
+        }
+        faixa(copia.size(), paralelo).forEach(b -> {
+            Lote lote = copia.get(b);
+            System.arraycopy(lote.origens, 0, origens, deslocamentos[b], lote.tamanho);
+            System.arraycopy(lote.destinos, 0, destinos, deslocamentos[b], lote.tamanho);
+            System.arraycopy(lote.pesos, 0, pesos, deslocamentos[b], lote.tamanho);
+        });
+
+        // 2. Contagem de graus (cada aresta não-direcionada conta nas duas pontas)
+        AtomicIntegerArray graus = new AtomicIntegerArray(n);
+        faixa(m, paralelo).forEach(e -> {
+            graus.incrementAndGet(origens[e]);
+            if (!direcionado) {
+                graus.incrementAndGet(destinos[e]);
+            }
+        });
+        int[] inicio = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            inicio[v + 1] = inicio[v] + graus.get(v);
+        }
+
+        // 3. Cada posição recebe o número da aresta guardada: e (direcionado),
+        //    ou 2e para a ida e 2e+1 para a volta (na ordem em que Grafo as guardaria)
+        int[] numeros = new int[guardadas];
+        for (int v = 0; v < n; v++) {
+            graus.set(v, inicio[v]);
+        }
+        faixa(m, paralelo).forEach(e -> {
+            if (direcionado) {
+                numeros[graus.getAndIncrement(origens[e])] = e;
+            } else {
+                numeros[graus.getAndIncrement(origens[e])] = 2 * e;
+                numeros[graus.getAndIncrement(destinos[e])] = 2 * e + 1;
+            }
+        });
+
+        // 4. Vértices e listas de tamanho exato, com as arestas na ordem de inserção
+        Vertice[] vertices = new Vertice[n];
+        rotulos.forEach((rotulo, indice) -> vertices[indice] = new Vertice(rotulo));
+        Aresta[] todas = new Aresta[guardadas];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        List<Aresta>[] listas = new List[n];
+        faixa(n, paralelo).forEach(v -> {
+            Arrays.sort(numeros, inicio[v], inicio[v + 1]);
+            List<Aresta> lista = new ArrayList<>(inicio[v + 1] - inicio[v]);
+            for (int pos = inicio[v]; pos < inicio[v + 1]; pos++) {
+                int numero = numeros[pos];
+                int e = direcionado ? numero : numero >>> 1;
+                boolean volta = !direcionado && (numero & 1) == 1;
+                Aresta aresta = volta
+                        ? new Aresta(vertices[destinos[e]], vertices[origens[e]], pesos[e])
+                        : new Aresta(vertices[origens[e]], vertices[destinos[e]], pesos[e]);
+                lista.add(aresta);
+                todas[numero] = aresta;
+            }
+            listas[v] = lista;
+        });
+
+        // Os mapas são preenchidos como em Grafo.addVertice (mesma capacidade e
+        // mesmos métodos de inserção), para que a ordem de iteração dos vértices
+        // seja a mesma de um grafo montado aresta por aresta
+        Map<String, Vertice> porRotulo = new HashMap<>();
+        Map<Vertice, List<Aresta>> adjacencia = new HashMap<>();
+        for (int v = 0; v < n; v++) {
+            Vertice vertice = vertices[v];
+            if (vertice == null) {
+                continue;
+            }
+            porRotulo.computeIfAbsent(vertice.getRotulo(), r -> vertice);
+            adjacencia.put(vertice, listas[v]);
+        }
+
+        // 5. Estatísticas dos pesos
+        boolean inteiros = true;
+        boolean inteirosNaoNegativos = true;
+        boolean unitarios = true;
+        double minimo = 0.0;
+        double maximo = 0.0;
+        for (int e = 0; e < m; e++) {
+            double peso = pesos[e];
+            boolean inteiro = peso == Math.rint(peso) && !Double.isInfinite(peso);
+            inteiros &= inteiro;
+            inteirosNaoNegativos &= inteiro && peso >= 0;
+            unitarios &= peso == 1.0;
+            if (e == 0 || peso < minimo) {
+                minimo = peso;
+            }
+            if (e == 0 || peso > maximo) {
+                maximo = peso;
+            }
+        }
+
+        metricas.incrementar(Contador.VERTICES_ADICIONADOS, rotulos.size());
+        metricas.incrementar(Contador.ARESTAS_ADICIONADAS, m);
+        return new Grafo(direcionado, metricas, porRotulo, adjacencia, new ArrayList<>(Arrays.asList(todas)),
+                inteirosNaoNegativos, inteiros, minimo, maximo, unitarios);
+    }
+
+    /**
+     * Constrói a forma comprimida ({@link GrafoComprimido}) direto dos lotes, sem
+     * montar o Grafo nem a forma CSR, para grafos que não caberiam na memória
+     * desse jeito. Os índices são os de addVertice (na ordem de chegada) e cada
+     * lista tem as arestas em ordem de destino.
+     * Como em {@link #construir()}, vale o que foi adicionado até agora.
+     *
+     * @throws IllegalArgumentException se o grafo não couber na forma comprimida
+     */
+    public GrafoComprimido construirComprimido() {
+        List<Lote> copia;
+        synchronized (this) {
+            fecharLoteAtual();
+            copia = new ArrayList<>(lotes);
+        }
+
+        Map<String, Integer> rotulos = new HashMap<>(indices);
+        int n = 0;
+        for (int indice : rotulos.values()) {
+            n = Math.max(n, indice + 1);
+        }
+        Vertice[] porIndice = new Vertice[n];
+        rotulos.forEach((rotulo, indice) -> porIndice[indice] = new Vertice(rotulo));
+
+        // Um índice vago (vértice ainda sendo criado por outra thread) não tem arestas
+        // copiadas; os seguintes são renumerados para que não haja buracos
+        int[] novoIndice = new int[n];
+        List<Vertice> vertices = new ArrayList<>(rotulos.size());
+        for (int v = 0; v < n; v++) {
+            if (porIndice[v] != null) {
+                novoIndice[v] = vertices.size();
+                vertices.add(porIndice[v]);
+            }
+        }
+
+        long m = 0;
+        for (Lote lote : copia) {
+            m += lote.tamanho;
+        }
+        GrafoComprimido grafo = GrafoComprimido.de(direcionado, vertices, consumidor -> {
+            for (Lote lote : copia) {
+                for (int i = 0; i < lote.tamanho; i++) {
+                    consumidor.aceitar(novoIndice[lote.origens[i]], novoIndice[lote.destinos[i]], lote.pesos[i]);
+                }
+            }
+        });
+
+        metricas.incrementar(Contador.VERTICES_ADICIONADOS, rotulos.size());
+        metricas.incrementar(Contador.ARESTAS_ADICIONADAS, m);
+        return grafo;
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private void fecharLoteAtual() {
+        if (atual != null && atual.tamanho > 0) {
+            lotes.add(atual);
+            atual = null;
+        }
+    }
+
+    private static IntStream faixa(int tamanho, boolean paralelo) {
+        IntStream faixa = IntStream.range(0, tamanho);
+        return paralelo ? faixa.parallel() : faixa;
+    }
+}
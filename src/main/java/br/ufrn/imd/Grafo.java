@@ -1,11 +1,15 @@
 package br.ufrn.imd;
 
 
+import br.ufrn.imd.metricas.Contador;
+import br.ufrn.imd.metricas.Metricas;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Representa um grafo (direcionado ou não) usando uma lista de adjacência.
@@ -14,6 +18,11 @@ import java.util.Map;
  */
 public class Grafo {
 
+    /**
+     * Inserções acumuladas antes de repassar os totais às métricas.
+     */
+    private static final int LOTE_METRICAS = 1 << 12;
+
     private final boolean direcionado;
 
     /**
@@ -35,16 +44,100 @@ public class Grafo {
      */
     private final List<Aresta> todasArestas;
 
+    /**
+     * Indica se todos os pesos são inteiros não-negativos.
+     * Quando verdadeiro, Prim e Dijkstra podem usar filas de prioridade
+     * baseadas em baldes (Dial) ou heap radix no lugar do heap binário.
+     */
+    private boolean pesosInteirosNaoNegativos;
+
+    /**
+     * Indica se todos os pesos são inteiros (de qualquer sinal).
+     */
+    private boolean pesosInteiros;
+
+    /**
+     * Maior peso de aresta visto até agora (0 se não houver arestas).
+     */
+    private double pesoMaximo;
+
+    /**
+     * Menor peso de aresta visto até agora (0 se não houver arestas).
+     * Se for negativo, Dijkstra não se aplica.
+     */
+    private double pesoMinimo;
+
+    /**
+     * Indica se todas as arestas têm peso 1 (grafo não-ponderado).
+     * Arestas sem atributo weight recebem 1.0 do LeitorDOT.
+     */
+    private boolean pesosUnitarios;
+
+    /**
+     * Arestas que não tinham o atributo weight no arquivo DOT (chaves de
+     * {@link #chaveAresta}, nos dois sentidos em grafos não-direcionados).
+     * Elas recebem peso 1.0, mas o Floyd-Warshall as trata como inexistentes.
+     * null se o grafo não foi lido de um arquivo DOT.
+     */
+    private Set<String> arestasSemPeso;
+
+    /**
+     * Recebe a contagem de vértices e arestas adicionados.
+     */
+    private final Metricas metricas;
+
+    /**
+     * Vértices e arestas adicionados que ainda não foram repassados às métricas.
+     * O repasse é feito em blocos de LOTE_METRICAS e em {@link #reportarMetricas()},
+     * nunca a cada inserção.
+     */
+    private int verticesNaoReportados;
+    private int arestasNaoReportadas;
+
     /**
      * Construtor do Grafo.
      * @param direcionado true se o grafo for direcionado (digraph),
      * false se não for (graph).
      */
     public Grafo(boolean direcionado) {
+        this(direcionado, Metricas.NENHUMA);
+    }
+
+    /**
+     * Construtor do Grafo que registra os vértices e arestas adicionados nas métricas.
+     * Ao terminar de montar o grafo, chame {@link #reportarMetricas()} para repassar o resto.
+     */
+    public Grafo(boolean direcionado, Metricas metricas) {
         this.direcionado = direcionado;
+        this.metricas = metricas;
         this.listaAdjacencia = new HashMap<>();
         this.vertices = new HashMap<>();
         this.todasArestas = new ArrayList<>();
+        this.pesosInteirosNaoNegativos = true;
+        this.pesosInteiros = true;
+        this.pesoMaximo = 0.0;
+        this.pesoMinimo = 0.0;
+        this.pesosUnitarios = true;
+    }
+
+    /**
+     * Construtor usado pelo {@link ConstrutorGrafo}, que já entrega as
+     * estruturas montadas (listas com o tamanho exato) e as estatísticas dos pesos.
+     */
+    Grafo(boolean direcionado, Metricas metricas, Map<String, Vertice> vertices,
+          Map<Vertice, List<Aresta>> listaAdjacencia, List<Aresta> todasArestas,
+          boolean pesosInteirosNaoNegativos, boolean pesosInteiros, double pesoMinimo, double pesoMaximo,
+          boolean pesosUnitarios) {
+        this.direcionado = direcionado;
+        this.metricas = metricas;
+        this.vertices = vertices;
+        this.listaAdjacencia = listaAdjacencia;
+        this.todasArestas = todasArestas;
+        this.pesosInteirosNaoNegativos = pesosInteirosNaoNegativos;
+        this.pesosInteiros = pesosInteiros;
+        this.pesoMinimo = pesoMinimo;
+        this.pesoMaximo = pesoMaximo;
+        this.pesosUnitarios = pesosUnitarios;
     }
 
     /**
@@ -53,11 +146,18 @@ public class Grafo {
      * @return O objeto Vertice (novo ou o já existente).
      */
     public Vertice addVertice(String rotulo) {
-        // Verifica se o vértice já existe. Se não, cria e armazena.
-        Vertice v = vertices.computeIfAbsent(rotulo, Vertice::new);
+        // Caminho rápido: vértice já existente (nada é alocado)
+        Vertice existente = vertices.get(rotulo);
+        if (existente != null) {
+            return existente;
+        }
 
-        // Garante que o vértice tenha uma entrada na lista de adjacência.
-        listaAdjacencia.putIfAbsent(v, new ArrayList<>());
+        // Cria e armazena o vértice, com sua lista de adjacência vazia
+        Vertice v = vertices.computeIfAbsent(rotulo, Vertice::new);
+        listaAdjacencia.put(v, new ArrayList<>());
+        if (++verticesNaoReportados == LOTE_METRICAS) {
+            reportarMetricas();
+        }
 
         return v;
     }
@@ -74,6 +174,12 @@ public class Grafo {
         Vertice origem = addVertice(rotuloOrigem);
         Vertice destino = addVertice(rotuloDestino);
 
+        // Atualiza as estatísticas de peso usadas para escolher a fila de prioridade
+        registrarPeso(peso);
+        if (++arestasNaoReportadas == LOTE_METRICAS) {
+            reportarMetricas();
+        }
+
         // Cria a aresta principal (origem -> destino)
         Aresta arestaOrigemDestino = new Aresta(origem, destino, peso);
 
@@ -93,6 +199,28 @@ public class Grafo {
         }
     }
 
+    /**
+     * Atualiza as informações sobre os pesos do grafo a cada nova aresta.
+     */
+    private void registrarPeso(double peso) {
+        boolean inteiro = peso == Math.rint(peso) && !Double.isInfinite(peso);
+        if (!inteiro) {
+            pesosInteiros = false;
+        }
+        if (peso < 0 || !inteiro) {
+            pesosInteirosNaoNegativos = false;
+        }
+        if (todasArestas.isEmpty() || peso < pesoMinimo) {
+            pesoMinimo = peso;
+        }
+        if (peso != 1.0) {
+            pesosUnitarios = false;
+        }
+        if (todasArestas.isEmpty() || peso > pesoMaximo) {
+            pesoMaximo = peso;
+        }
+    }
+
     // --- MÉTODOS DE ACESSO (Getters) ---
     // Estes métodos serão usados pelos seus algoritmos.
 
@@ -143,6 +271,99 @@ public class Grafo {
         return direcionado;
     }
 
+    /**
+     * Verifica se todas as arestas têm pesos inteiros e não-negativos.
+     * (Permite o caminho rápido com filas de baldes em Prim e Dijkstra)
+     */
+    public boolean temPesosInteirosNaoNegativos() {
+        return pesosInteirosNaoNegativos;
+    }
+
+    /**
+     * Verifica se todas as arestas têm pesos inteiros (podendo ser negativos).
+     */
+    public boolean temPesosInteiros() {
+        return pesosInteiros;
+    }
+
+    /**
+     * Retorna o menor peso de aresta do grafo (0 se não houver arestas).
+     */
+    public double getPesoMinimo() {
+        return pesoMinimo;
+    }
+
+    /**
+     * Retorna o número de arestas armazenadas (em grafos não-direcionados,
+     * cada aresta conta duas vezes, uma em cada sentido).
+     */
+    public int getNumArestas() {
+        return todasArestas.size();
+    }
+
+    /**
+     * Repassa às métricas os vértices e arestas adicionados desde o último repasse.
+     */
+    public void reportarMetricas() {
+        if (verticesNaoReportados > 0) {
+            metricas.incrementar(Contador.VERTICES_ADICIONADOS, verticesNaoReportados);
+            verticesNaoReportados = 0;
+        }
+        if (arestasNaoReportadas > 0) {
+            metricas.incrementar(Contador.ARESTAS_ADICIONADAS, arestasNaoReportadas);
+            arestasNaoReportadas = 0;
+        }
+    }
+
+    /**
+     * Retorna o maior peso de aresta do grafo.
+     */
+    public double getPesoMaximo() {
+        return pesoMaximo;
+    }
+
+    /**
+     * Arestas sem atributo weight no arquivo DOT de origem, ou null se o
+     * grafo não foi lido de um arquivo (montado em código).
+     */
+    public Set<String> getArestasSemPeso() {
+        return arestasSemPeso;
+    }
+
+    /**
+     * Registra quais arestas não tinham peso explícito (usado pelo LeitorDOT,
+     * para que os algoritmos não precisem ler o arquivo de novo). Um conjunto
+     * vazio indica que todos os pesos são explícitos (grafos montados em código).
+     */
+    public void setArestasSemPeso(Set<String> arestasSemPeso) {
+        this.arestasSemPeso = arestasSemPeso;
+    }
+
+    /**
+     * Verifica se a aresta veio do DOT sem o atributo weight. Em grafos sem essa
+     * informação, retorna sempre true (ver {@link ArestasSemPeso}).
+     */
+    public boolean isSemPeso(Aresta aresta) {
+        Set<String> semPeso = getArestasSemPeso();
+        return semPeso == null || semPeso.contains(
+                chaveAresta(aresta.getOrigem().getRotulo(), aresta.getDestino().getRotulo()));
+    }
+
+    /**
+     * Chave de uma aresta pelos rótulos, na ordem origem -> destino.
+     */
+    public static String chaveAresta(String rotuloOrigem, String rotuloDestino) {
+        return rotuloOrigem + "->" + rotuloDestino;
+    }
+
+    /**
+     * Verifica se todas as arestas têm peso 1, isto é, se o grafo pode ser
+     * tratado como não-ponderado (caminhos mínimos = menor número de saltos).
+     */
+    public boolean isNaoPonderado() {
+        return pesosUnitarios;
+    }
+
     @Override
     public String toString() {
         // Um toString() simples para ajudar no debugging
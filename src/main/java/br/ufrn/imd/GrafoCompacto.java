@@ -0,0 +1,278 @@
+package br.ufrn.imd;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Representação compacta e somente-leitura de um Grafo (formato CSR).
+ * * Cada vértice recebe um índice denso de 0 a n-1 e as arestas de saída
+ * do vértice i ficam em destinos[inicio[i] .. inicio[i+1]-1], com os pesos
+ * nas mesmas posições de pesos[]. Usa vetores primitivos em vez de objetos,
+ * o que deixa as travessias muito mais amigáveis à cache.
+ */
+public class GrafoCompacto implements GrafoIndexado {
+
+    private final boolean direcionado;
+
+    /**
+     * Vértice correspondente a cada índice.
+     */
+    private final List<Vertice> verticesPorIndice;
+
+    /**
+     * Índice de cada vértice.
+     */
+    private final Map<Vertice, Integer> indicePorVertice;
+
+    /**
+     * inicio[i] é a posição da primeira aresta de saída de i (tamanho n+1).
+     */
+    private final int[] inicio;
+
+    private final int[] destinos;
+    private final double[] pesos;
+
+    public GrafoCompacto(boolean direcionado, List<Vertice> verticesPorIndice,
+                         Map<Vertice, Integer> indicePorVertice,
+                         int[] inicio, int[] destinos, double[] pesos) {
+        this.direcionado = direcionado;
+        this.verticesPorIndice = verticesPorIndice;
+        this.indicePorVertice = indicePorVertice;
+        this.inicio = inicio;
+        this.destinos = destinos;
+        this.pesos = pesos;
+    }
+
+    /**
+     * Constrói a forma compacta de um Grafo.
+     * Os índices seguem a ordem de grafo.getVertices().
+     */
+    public static GrafoCompacto de(Grafo grafo) {
+        return de(grafo, new ArrayList<>(grafo.getVertices()));
+    }
+
+    /**
+     * Constrói a forma compacta de um Grafo numerando os vértices na ordem dada.
+     *
+     * @param grafo O grafo de origem
+     * @param ordem Todos os vértices do grafo, na ordem dos índices desejados
+     */
+    public static GrafoCompacto de(Grafo grafo, List<Vertice> ordem) {
+        return de(grafo, ordem, aresta -> false);
+    }
+
+    /**
+     * Como {@link #de(Grafo, List)}, mas sem as arestas que o Floyd-Warshall trata
+     * como inexistentes ({@link ArestasSemPeso}), para que os outros algoritmos de
+     * todos os pares (Johnson, Floyd-Warshall por componentes) deem o mesmo resultado.
+     */
+    public static GrafoCompacto comPesosExplicitos(Grafo grafo, List<Vertice> ordem) {
+        return de(grafo, ordem, ArestasSemPeso.resolver(grafo, null));
+    }
+
+    private static GrafoCompacto de(Grafo grafo, List<Vertice> ordem, Predicate<Aresta> ignorar) {
+        int n = ordem.size();
+        Map<Vertice, Integer> indicePorVertice = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            indicePorVertice.put(ordem.get(i), i);
+        }
+
+        int[] inicio = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            int grau = 0;
+            for (Aresta a : grafo.getArestasVizinhas(ordem.get(i))) {
+                if (!ignorar.test(a)) {
+                    grau++;
+                }
+            }
+            inicio[i + 1] = inicio[i] + grau;
+        }
+
+        int[] destinos = new int[inicio[n]];
+        double[] pesos = new double[inicio[n]];
+        for (int i = 0; i < n; i++) {
+            int pos = inicio[i];
+            for (Aresta a : grafo.getArestasVizinhas(ordem.get(i))) {
+                if (ignorar.test(a)) {
+                    continue;
+                }
+                destinos[pos] = indicePorVertice.get(a.getDestino());
+                pesos[pos] = a.getPeso();
+                pos++;
+            }
+        }
+
+        return new GrafoCompacto(grafo.isDirecionado(), Collections.unmodifiableList(ordem),
+                indicePorVertice, inicio, destinos, pesos);
+    }
+
+    /**
+     * Retorna o grafo com todas as arestas invertidas (arestas de entrada).
+     * Para grafos não-direcionados as duas direções já estão presentes,
+     * então o próprio grafo é retornado.
+     */
+    public GrafoCompacto transposto() {
+        if (!direcionado) {
+            return this;
+        }
+
+        int n = getNumVertices();
+        int[] inicioT = new int[n + 1];
+        for (int destino : destinos) {
+            inicioT[destino + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            inicioT[i + 1] += inicioT[i];
+        }
+
+        int[] cursor = inicioT.clone();
+        int[] destinosT = new int[destinos.length];
+        double[] pesosT = new double[pesos.length];
+        for (int u = 0; u < n; u++) {
+            for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                int pos = cursor[destinos[e]]++;
+                destinosT[pos] = u;
+                pesosT[pos] = pesos[e];
+            }
+        }
+
+        return new GrafoCompacto(true, verticesPorIndice, indicePorVertice, inicioT, destinosT, pesosT);
+    }
+
+    /**
+     * Retorna uma cópia do grafo com os índices renumerados.
+     * O vértice de índice ordem[i] passa a ter o índice i; a ordem das
+     * arestas de cada vértice é mantida.
+     *
+     * @param ordem Permutação de 0..n-1 (ordem[novo] = antigo)
+     */
+    public GrafoCompacto reordenado(int[] ordem) {
+        int n = getNumVertices();
+        if (ordem.length != n) {
+            throw new IllegalArgumentException("A ordem tem " + ordem.length + " vértices, o grafo tem " + n);
+        }
+        int[] novoIndice = new int[n];
+        Arrays.fill(novoIndice, -1);
+        for (int i = 0; i < n; i++) {
+            if (novoIndice[ordem[i]] != -1) {
+                throw new IllegalArgumentException("Vértice repetido na ordem: " + ordem[i]);
+            }
+            novoIndice[ordem[i]] = i;
+        }
+
+        int[] inicioR = new int[n + 1];
+        int[] destinosR = new int[destinos.length];
+        double[] pesosR = new double[pesos.length];
+        List<Vertice> verticesR = new ArrayList<>(n);
+        Map<Vertice, Integer> indiceR = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            int antigo = ordem[i];
+            int pos = inicioR[i];
+            for (int e = inicio[antigo]; e < inicio[antigo + 1]; e++) {
+                destinosR[pos] = novoIndice[destinos[e]];
+                pesosR[pos] = pesos[e];
+                pos++;
+            }
+            inicioR[i + 1] = pos;
+            Vertice v = verticesPorIndice.get(antigo);
+            verticesR.add(v);
+            indiceR.put(v, i);
+        }
+
+        return new GrafoCompacto(direcionado, Collections.unmodifiableList(verticesR), indiceR,
+                inicioR, destinosR, pesosR);
+    }
+
+    @Override
+    public IteradorVizinhos novoIterador() {
+        return new IteradorVizinhos() {
+            private int posicao;
+            private int fim;
+
+            @Override
+            public void iniciar(int vertice) {
+                posicao = inicio[vertice] - 1;
+                fim = inicio[vertice + 1];
+            }
+
+            @Override
+            public boolean proximo() {
+                return ++posicao < fim;
+            }
+
+            @Override
+            public int getDestino() {
+                return destinos[posicao];
+            }
+
+            @Override
+            public double getPeso() {
+                return pesos[posicao];
+            }
+        };
+    }
+
+    // --- MÉTODOS DE ACESSO (Getters) ---
+
+    @Override
+    public boolean isDirecionado() {
+        return direcionado;
+    }
+
+    @Override
+    public int getNumVertices() {
+        return verticesPorIndice.size();
+    }
+
+    /**
+     * Número de arestas armazenadas (em grafos não-direcionados, cada aresta conta duas vezes).
+     */
+    @Override
+    public int getNumArestas() {
+        return destinos.length;
+    }
+
+    @Override
+    public int grau(int i) {
+        return inicio[i + 1] - inicio[i];
+    }
+
+    @Override
+    public Vertice getVertice(int i) {
+        return verticesPorIndice.get(i);
+    }
+
+    /**
+     * @return O índice do vértice, ou -1 se ele não pertencer ao grafo.
+     */
+    @Override
+    public int getIndice(Vertice v) {
+        Integer i = indicePorVertice.get(v);
+        return i == null ? -1 : i;
+    }
+
+    public List<Vertice> getVerticesPorIndice() {
+        return verticesPorIndice;
+    }
+
+    public Map<Vertice, Integer> getIndicePorVertice() {
+        return indicePorVertice;
+    }
+
+    public int[] getInicio() {
+        return inicio;
+    }
+
+    public int[] getDestinos() {
+        return destinos;
+    }
+
+    public double[] getPesos() {
+        return pesos;
+    }
+}
@@ -0,0 +1,592 @@
+package br.ufrn.imd;
+
+import br.ufrn.imd.algorithms.reordenacao.Reordenacao;
+import br.ufrn.imd.gerador.ConsumidorArestas;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Representação comprimida e somente-leitura de um grafo, para grafos grandes
+ * demais para a forma CSR ({@link GrafoCompacto}, 12 bytes por aresta).
+ * * A lista de cada vértice é ordenada pelo destino e guardada em um único
+ * vetor de bytes como varints (7 bits por byte):
+ *   grau, (lacuna, peso), (lacuna, peso), ...
+ * - A primeira lacuna é destino - vértice (zigzag, pode ser negativa); as
+ *   seguintes são a diferença para o destino anterior. Com vizinhos de índices
+ *   próximos (ex: depois de uma reordenação RCM) a maioria cabe em 1 byte.
+ * - Os pesos são códigos de um dicionário dos pesos distintos, do mais para o
+ *   menos frequente (1 byte para os 128 mais comuns, nenhum se há um só peso).
+ *   Com mais de {@link #MAXIMO_DICIONARIO} pesos distintos, eles são guardados
+ *   inteiros (8 bytes). Nos dois casos os pesos são exatos.
+ * As arestas só podem ser lidas em sequência, com um {@link IteradorVizinhos}.
+ * Para não passar pelo Grafo, a forma pode ser montada direto de uma sequência
+ * de arestas ({@link ConstrutorGrafo#construirComprimido()},
+ * GeradorGrafos.paraComprimido()).
+ */
+public class GrafoComprimido implements GrafoIndexado {
+
+    /**
+     * Máximo de pesos distintos no dicionário (códigos de até 3 bytes).
+     */
+    static final int MAXIMO_DICIONARIO = 1 << 16;
+
+    /**
+     * Mínimo de arestas guardadas por bloco na construção a partir de uma sequência de arestas.
+     */
+    static final int TAMANHO_BLOCO = 1 << 20;
+
+    /**
+     * Máximo de passadas por bloco na construção a partir de uma sequência de arestas
+     * (blocos maiores que TAMANHO_BLOCO quando o grafo é grande).
+     */
+    static final int MAXIMO_PASSADAS = 16;
+
+    private static final VarHandle DOUBLE_LE =
+            MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final boolean direcionado;
+    private final List<Vertice> verticesPorIndice;
+    private final Map<Vertice, Integer> indicePorVertice;
+
+    /**
+     * inicio[i] é a posição em dados da lista do vértice i (tamanho n+1).
+     */
+    private final int[] inicio;
+
+    private final byte[] dados;
+
+    /**
+     * Pesos distintos, indexados pelo código; null se os pesos estão em dados.
+     */
+    private final double[] dicionario;
+
+    private final int numArestas;
+
+    private GrafoComprimido(boolean direcionado, List<Vertice> verticesPorIndice,
+                            Map<Vertice, Integer> indicePorVertice, int[] inicio, byte[] dados,
+                            double[] dicionario, int numArestas) {
+        this.direcionado = direcionado;
+        this.verticesPorIndice = verticesPorIndice;
+        this.indicePorVertice = indicePorVertice;
+        this.inicio = inicio;
+        this.dados = dados;
+        this.dicionario = dicionario;
+        this.numArestas = numArestas;
+    }
+
+    /**
+     * Constrói a forma comprimida de um Grafo (índices na ordem de grafo.getVertices()).
+     */
+    public static GrafoComprimido de(Grafo grafo) {
+        return de(GrafoCompacto.de(grafo));
+    }
+
+    /**
+     * Constrói a forma comprimida de um Grafo com os vértices renumerados.
+     * Ordens que aproximam vizinhos (RCM, BFS) deixam as lacunas menores.
+     */
+    public static GrafoComprimido de(Grafo grafo, Reordenacao reordenacao) {
+        return de(reordenacao.aplicar(grafo));
+    }
+
+    /**
+     * Comprime um grafo compacto, mantendo os mesmos índices.
+     *
+     * @throws IllegalArgumentException se as listas comprimidas não couberem em um vetor
+     */
+    public static GrafoComprimido de(GrafoCompacto grafo) {
+        int n = grafo.getNumVertices();
+        int[] inicioC = grafo.getInicio();
+        int[] destinosC = grafo.getDestinos();
+        double[] pesosC = grafo.getPesos();
+
+        // Dicionário: pesos distintos (ordenados, para busca binária) e a frequência de cada um
+        double[] distintos = pesosC.clone();
+        Arrays.sort(distintos);
+        int numDistintos = 0;
+        int[] frequencias = new int[distintos.length];
+        for (int i = 0; i < distintos.length; i++) {
+            if (numDistintos == 0 || Double.compare(distintos[i], distintos[numDistintos - 1]) != 0) {
+                distintos[numDistintos++] = distintos[i];
+            }
+            frequencias[numDistintos - 1]++;
+        }
+
+        Compressor compressor = new Compressor(Arrays.copyOf(distintos, numDistintos), frequencias,
+                destinosC.length * 2L + n);
+        int[] inicioZ = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            inicioZ[u] = compressor.escrever(u, destinosC, pesosC, inicioC[u], inicioC[u + 1] - inicioC[u]);
+        }
+        inicioZ[n] = compressor.escritor.posicao();
+
+        return new GrafoComprimido(grafo.isDirecionado(), grafo.getVerticesPorIndice(), grafo.getIndicePorVertice(),
+                inicioZ, compressor.escritor.paraVetor(), compressor.dicionario, destinosC.length);
+    }
+
+    /**
+     * Constrói a forma comprimida direto de uma sequência de arestas, sem montar
+     * um Grafo nem a forma CSR: a memória extra é a de um bloco de listas por vez.
+     * * 1. Uma passada conta os graus e os pesos distintos (o dicionário).
+     * 2. Cada passada seguinte junta as listas de um bloco de vértices
+     *    consecutivos, na ordem em que as arestas chegam, e as comprime.
+     * O bloco tem pelo menos {@link #TAMANHO_BLOCO} arestas e no máximo
+     * {@link #MAXIMO_PASSADAS} passadas são feitas (além da contagem).
+     * Uma aresta não-direcionada é entregue uma vez e guardada nas duas pontas.
+     *
+     * @param vertices Vértices, na posição do índice usado nas arestas
+     * @param arestas  Entrega todas as arestas ao consumidor; é chamado uma vez
+     *                 por passada e precisa repetir sempre as mesmas arestas, na mesma ordem
+     * @throws IllegalArgumentException se o grafo tiver arestas ou bytes demais para um vetor
+     */
+    public static GrafoComprimido de(boolean direcionado, List<Vertice> vertices,
+                                     Consumer<ConsumidorArestas> arestas) {
+        int n = vertices.size();
+
+        // 1. Graus e pesos distintos (com a frequência de cada um, contando as duas pontas)
+        int[] inicio = new int[n + 1];
+        ContagemPesos contagem = new ContagemPesos();
+        arestas.accept((origem, destino, peso) -> {
+            inicio[origem + 1]++;
+            if (!direcionado) {
+                inicio[destino + 1]++;
+            }
+            contagem.adicionar(peso, direcionado ? 1 : 2);
+        });
+        long total = 0;
+        int maiorGrau = 0;
+        for (int v = 0; v < n; v++) {
+            maiorGrau = Math.max(maiorGrau, inicio[v + 1]);
+            total += inicio[v + 1];
+            if (total > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Grafo grande demais: mais de " + total + " arestas");
+            }
+            inicio[v + 1] = (int) total;
+        }
+        int guardadas = (int) total;
+
+        double[] distintos = contagem.distintos();
+        Compressor compressor = new Compressor(distintos,
+                distintos == null ? null : contagem.frequencias(distintos), guardadas * 2L + n);
+
+        // 2. Listas de um bloco de vértices por passada
+        int bloco = (int) Math.min(guardadas, Math.max(Math.max(TAMANHO_BLOCO, maiorGrau),
+                (guardadas + MAXIMO_PASSADAS - 1L) / MAXIMO_PASSADAS));
+        int[] destinosB = new int[bloco];
+        double[] pesosB = new double[bloco];
+        int[] cursor = new int[n];
+        int[] inicioZ = new int[n + 1];
+        int primeiro = 0;
+        while (primeiro < n) {
+            int a = primeiro;
+            int b = a;
+            while (b < n && inicio[b + 1] - inicio[a] <= bloco) {
+                b++;
+            }
+            for (int v = a; v < b; v++) {
+                cursor[v] = inicio[v] - inicio[a];
+            }
+            int fim = b;
+            arestas.accept((origem, destino, peso) -> {
+                if (origem >= a && origem < fim) {
+                    destinosB[cursor[origem]] = destino;
+                    pesosB[cursor[origem]++] = peso;
+                }
+                if (!direcionado && destino >= a && destino < fim) {
+                    destinosB[cursor[destino]] = origem;
+                    pesosB[cursor[destino]++] = peso;
+                }
+            });
+            for (int v = a; v < b; v++) {
+                inicioZ[v] = compressor.escrever(v, destinosB, pesosB, inicio[v] - inicio[a], inicio[v + 1] - inicio[v]);
+            }
+            primeiro = b;
+        }
+        inicioZ[n] = compressor.escritor.posicao();
+
+        Map<Vertice, Integer> indicePorVertice = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            indicePorVertice.put(vertices.get(i), i);
+        }
+        return new GrafoComprimido(direcionado, List.copyOf(vertices), indicePorVertice, inicioZ,
+                compressor.escritor.paraVetor(), compressor.dicionario, guardadas);
+    }
+
+    @Override
+    public IteradorVizinhos novoIterador() {
+        return new Iterador();
+    }
+
+    /**
+     * Bytes ocupados pelas arestas: listas, posições das listas e dicionário
+     * (para comparar com os 4(n+1) + 12m bytes da forma CSR).
+     */
+    public long getBytesArestas() {
+        return dados.length + 4L * inicio.length + (dicionario == null ? 0 : 8L * dicionario.length);
+    }
+
+    /**
+     * Quantidade de pesos distintos no dicionário, ou -1 se os pesos são guardados inteiros.
+     */
+    public int getTamanhoDicionario() {
+        return dicionario == null ? -1 : dicionario.length;
+    }
+
+    // --- MÉTODOS DE ACESSO (Getters) ---
+
+    @Override
+    public boolean isDirecionado() {
+        return direcionado;
+    }
+
+    @Override
+    public int getNumVertices() {
+        return verticesPorIndice.size();
+    }
+
+    @Override
+    public int getNumArestas() {
+        return numArestas;
+    }
+
+    @Override
+    public int grau(int i) {
+        int pos = inicio[i];
+        int b = dados[pos++];
+        int valor = b & 0x7F;
+        for (int deslocamento = 7; b < 0; deslocamento += 7) {
+            b = dados[pos++];
+            valor |= (b & 0x7F) << deslocamento;
+        }
+        return valor;
+    }
+
+    @Override
+    public Vertice getVertice(int i) {
+        return verticesPorIndice.get(i);
+    }
+
+    @Override
+    public int getIndice(Vertice v) {
+        Integer i = indicePorVertice.get(v);
+        return i == null ? -1 : i;
+    }
+
+    public List<Vertice> getVerticesPorIndice() {
+        return verticesPorIndice;
+    }
+
+    /**
+     * Decodifica as listas em sequência, sem alocar nada por vértice.
+     */
+    private final class Iterador implements IteradorVizinhos {
+        private final byte[] bytes = dados;
+        private final double[] pesos = dicionario;
+        private final boolean semPesos = dicionario != null && dicionario.length <= 1;
+        private final double pesoUnico = semPesos && dicionario.length == 1 ? dicionario[0] : 0.0;
+
+        private int posicao;
+        private int restantes;
+        private boolean primeiro;
+        private int destino;
+        private double peso;
+
+        @Override
+        public void iniciar(int vertice) {
+            posicao = inicio[vertice];
+            restantes = lerVarint();
+            primeiro = true;
+            destino = vertice;
+        }
+
+        @Override
+        public boolean proximo() {
+            if (restantes == 0) {
+                return false;
+            }
+            restantes--;
+            int lacuna = lerVarint();
+            if (primeiro) {
+                destino += (lacuna >>> 1) ^ -(lacuna & 1);
+                primeiro = false;
+            } else {
+                destino += lacuna;
+            }
+
+            if (semPesos) {
+                peso = pesoUnico;
+            } else if (pesos != null) {
+                peso = pesos[lerVarint()];
+            } else {
+                peso = (double) DOUBLE_LE.get(bytes, posicao);
+                posicao += Double.BYTES;
+            }
+            return true;
+        }
+
+        @Override
+        public int getDestino() {
+            return destino;
+        }
+
+        @Override
+        public double getPeso() {
+            return peso;
+        }
+
+        private int lerVarint() {
+            int b = bytes[posicao++];
+            int valor = b & 0x7F;
+            for (int deslocamento = 7; b < 0; deslocamento += 7) {
+                b = bytes[posicao++];
+                valor |= (b & 0x7F) << deslocamento;
+            }
+            return valor;
+        }
+    }
+
+    /**
+     * Escreve as listas no formato comprimido, com os códigos do dicionário.
+     */
+    private static final class Compressor {
+        final Escritor escritor;
+        final double[] dicionario;
+
+        // Pesos distintos em ordem crescente e o código de cada um (null sem dicionário)
+        private final double[] distintos;
+        private final int[] codigos;
+        private final boolean semPesos;
+        private long[] ordem = new long[0];
+
+        /**
+         * @param distintos    Pesos distintos em ordem crescente, ou null se há mais
+         *                     do que cabem no dicionário
+         * @param frequencias  Quantas arestas guardadas têm cada peso distinto
+         */
+        Compressor(double[] distintos, int[] frequencias, long estimativa) {
+            this.escritor = new Escritor(estimativa);
+            if (distintos == null || distintos.length > MAXIMO_DICIONARIO) {
+                this.distintos = null;
+                this.codigos = null;
+                this.dicionario = null;
+            } else {
+                // Chave = (frequência decrescente, posição crescente): os mais comuns ganham os menores códigos
+                int numDistintos = distintos.length;
+                long[] chaves = new long[numDistintos];
+                for (int i = 0; i < numDistintos; i++) {
+                    chaves[i] = ((long) (Integer.MAX_VALUE - frequencias[i]) << 32) | i;
+                }
+                Arrays.sort(chaves);
+                this.distintos = distintos;
+                this.dicionario = new double[numDistintos];
+                this.codigos = new int[numDistintos];
+                for (int codigo = 0; codigo < numDistintos; codigo++) {
+                    int i = (int) chaves[codigo];
+                    dicionario[codigo] = distintos[i];
+                    codigos[i] = codigo;
+                }
+            }
+            this.semPesos = dicionario != null && dicionario.length <= 1;
+        }
+
+        /**
+         * Escreve o grau e depois (lacuna, peso) de cada aresta, em ordem de destino.
+         *
+         * @param de   Posição da primeira aresta de u em destinos e pesos
+         * @return A posição da lista de u
+         */
+        int escrever(int u, int[] destinos, double[] pesos, int de, int grau) {
+            int posicao = escritor.posicao();
+            escritor.varint(grau);
+
+            // Chave = (destino, posição original), para manter estável a ordem de arestas paralelas
+            if (ordem.length < grau) {
+                ordem = new long[Math.max(grau, ordem.length * 2)];
+            }
+            for (int k = 0; k < grau; k++) {
+                ordem[k] = ((long) destinos[de + k] << 32) | k;
+            }
+            Arrays.sort(ordem, 0, grau);
+
+            int anterior = u;
+            for (int k = 0; k < grau; k++) {
+                int e = de + (int) ordem[k];
+                int destino = destinos[e];
+                if (k == 0) {
+                    int diferenca = destino - u;
+                    escritor.varint((diferenca << 1) ^ (diferenca >> 31));
+                } else {
+                    escritor.varint(destino - anterior);
+                }
+                anterior = destino;
+
+                if (dicionario == null) {
+                    escritor.peso(pesos[e]);
+                } else if (!semPesos) {
+                    escritor.varint(codigos[Arrays.binarySearch(distintos, pesos[e])]);
+                }
+            }
+            return posicao;
+        }
+    }
+
+    /**
+     * Conta os pesos distintos (tabela de espalhamento aberta sobre os bits de
+     * cada peso), até passar de {@link #MAXIMO_DICIONARIO}.
+     */
+    private static final class ContagemPesos {
+        private long[] bits = new long[16];
+        private int[] contagens = new int[16];
+        private boolean[] usados = new boolean[16];
+        private int tamanho;
+        private boolean estourou;
+
+        void adicionar(double peso, int vezes) {
+            if (estourou) {
+                return;
+            }
+            // doubleToLongBits iguala os NaN, como Double.compare
+            long chave = Double.doubleToLongBits(peso);
+            int i = posicao(chave, bits.length);
+            while (usados[i] && bits[i] != chave) {
+                i = (i + 1) & (bits.length - 1);
+            }
+            if (!usados[i]) {
+                if (tamanho == MAXIMO_DICIONARIO) {
+                    // Os pesos vão inteiros para as listas: a contagem não é mais necessária
+                    estourou = true;
+                    bits = null;
+                    contagens = null;
+                    usados = null;
+                    return;
+                }
+                usados[i] = true;
+                bits[i] = chave;
+                tamanho++;
+                if (2 * tamanho > bits.length) {
+                    crescer();
+                    i = indice(chave);
+                }
+            }
+            contagens[i] += vezes;
+        }
+
+        /**
+         * @return Os pesos distintos em ordem crescente, ou null se passaram do máximo
+         */
+        double[] distintos() {
+            if (estourou) {
+                return null;
+            }
+            double[] distintos = new double[tamanho];
+            int k = 0;
+            for (int i = 0; i < bits.length; i++) {
+                if (usados[i]) {
+                    distintos[k++] = Double.longBitsToDouble(bits[i]);
+                }
+            }
+            Arrays.sort(distintos);
+            return distintos;
+        }
+
+        int[] frequencias(double[] distintos) {
+            int[] frequencias = new int[distintos.length];
+            for (int i = 0; i < distintos.length; i++) {
+                frequencias[i] = contagens[indice(Double.doubleToLongBits(distintos[i]))];
+            }
+            return frequencias;
+        }
+
+        private int indice(long chave) {
+            int i = posicao(chave, bits.length);
+            while (bits[i] != chave) {
+                i = (i + 1) & (bits.length - 1);
+            }
+            return i;
+        }
+
+        private void crescer() {
+            long[] bitsAntigos = bits;
+            int[] contagensAntigas = contagens;
+            boolean[] usadosAntigos = usados;
+            bits = new long[bitsAntigos.length * 2];
+            contagens = new int[bitsAntigos.length * 2];
+            usados = new boolean[bitsAntigos.length * 2];
+            for (int j = 0; j < bitsAntigos.length; j++) {
+                if (usadosAntigos[j]) {
+                    int i = posicao(bitsAntigos[j], bits.length);
+                    while (usados[i]) {
+                        i = (i + 1) & (bits.length - 1);
+                    }
+                    usados[i] = true;
+                    bits[i] = bitsAntigos[j];
+                    contagens[i] = contagensAntigas[j];
+                }
+            }
+        }
+
+        private static int posicao(long chave, int capacidade) {
+            long h = chave * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & (capacidade - 1);
+        }
+    }
+
+    /**
+     * Vetor de bytes que cresce conforme as listas são escritas.
+     */
+    private static final class Escritor {
+        private static final int MAXIMO = Integer.MAX_VALUE - 8;
+
+        private byte[] bytes;
+        private int tamanho;
+
+        Escritor(long estimativa) {
+            this.bytes = new byte[(int) Math.max(16, Math.min(estimativa, MAXIMO))];
+        }
+
+        int posicao() {
+            return tamanho;
+        }
+
+        /**
+         * Escreve o valor (tratado como sem sinal) em grupos de 7 bits, do menos
+         * significativo para o mais, com o bit alto ligado em todos menos o último.
+         */
+        void varint(int valor) {
+            garantir(5);
+            while ((valor & ~0x7F) != 0) {
+                bytes[tamanho++] = (byte) ((valor & 0x7F) | 0x80);
+                valor >>>= 7;
+            }
+            bytes[tamanho++] = (byte) valor;
+        }
+
+        void peso(double peso) {
+            garantir(Double.BYTES);
+            DOUBLE_LE.set(bytes, tamanho, peso);
+            tamanho += Double.BYTES;
+        }
+
+        byte[] paraVetor() {
+            return Arrays.copyOf(bytes, tamanho);
+        }
+
+        private void garantir(int extra) {
+            if (tamanho + extra <= bytes.length) {
+                return;
+            }
+            if ((long) tamanho + extra > MAXIMO) {
+                throw new IllegalArgumentException("Grafo grande demais para a forma comprimida: mais de "
+                        + MAXIMO + " bytes de arestas");
+            }
+            bytes = Arrays.copyOf(bytes, (int) Math.min(MAXIMO, Math.max((long) tamanho + extra, bytes.length * 2L)));
+        }
+    }
+}
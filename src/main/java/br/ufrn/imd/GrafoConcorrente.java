@@ -0,0 +1,504 @@
+package br.ufrn.imd;
+
+import br.ufrn.imd.metricas.Contador;
+import br.ufrn.imd.metricas.Metricas;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Grafo que aceita inserções de várias threads enquanto outras threads
+ * executam algoritmos sobre instantâneos (snapshots) imutáveis dele.
+ * * - Cada vértice guarda suas arestas de saída em vetores que só crescem
+ *   (append-only); uma aresta publicada nunca muda de posição nem de valor.
+ * - As inserções são serializadas por faixa (lock striping): a faixa é
+ *   escolhida pelo rótulo da origem, então inserções em origens de faixas
+ *   diferentes não disputam o mesmo lock.
+ * - Cada inserção recebe um número de época crescente. Um instantâneo
+ *   guarda apenas a maior época W cujas inserções já terminaram todas, e
+ *   enxerga de cada vértice o prefixo de arestas com época ≤ W.
+ * Tirar um instantâneo custa O(número de faixas) e não bloqueia as
+ * inserções; os algoritmos leem o instantâneo como um {@link Grafo} comum.
+ */
+public class GrafoConcorrente {
+
+    /**
+     * Número padrão de faixas (locks) para as inserções.
+     */
+    public static final int FAIXAS_PADRAO = 64;
+
+    /**
+     * Marca de uma faixa que está reservando sua época (o número ainda não é conhecido).
+     */
+    private static final long RESERVANDO = Long.MAX_VALUE;
+
+    /**
+     * Marca de uma faixa sem inserção em andamento.
+     */
+    private static final long LIVRE = 0;
+
+    /**
+     * Vetores de arestas de um vértice. Só as posições abaixo do tamanho
+     * publicado são lidas; as demais são preenchidas pela thread que insere.
+     */
+    private static final class Bloco {
+        final Aresta[] arestas;
+        final long[] epocas;
+
+        Bloco(int capacidade) {
+            this.arestas = new Aresta[capacidade];
+            this.epocas = new long[capacidade];
+        }
+
+        Bloco(Bloco anterior, int capacidade) {
+            this.arestas = Arrays.copyOf(anterior.arestas, capacidade);
+            this.epocas = Arrays.copyOf(anterior.epocas, capacidade);
+        }
+    }
+
+    private static final class EstadoVertice {
+        final Vertice vertice;
+        final long epoca;
+        volatile Bloco bloco = new Bloco(4);
+        volatile int tamanho;
+
+        EstadoVertice(Vertice vertice, long epoca) {
+            this.vertice = vertice;
+            this.epoca = epoca;
+        }
+
+        /**
+         * Acrescenta uma aresta (chamado com o lock da faixa do vértice).
+         */
+        void acrescentar(Aresta aresta, long epocaAresta) {
+            int t = tamanho;
+            Bloco b = bloco;
+            if (t == b.arestas.length) {
+                b = new Bloco(b, t * 2);
+            }
+            b.arestas[t] = aresta;
+            b.epocas[t] = epocaAresta;
+            bloco = b;
+            tamanho = t + 1; // publica a aresta
+        }
+
+        /**
+         * Quantas arestas do vértice têm época ≤ a informada (as épocas são crescentes).
+         */
+        int tamanhoNaEpoca(long epocaLimite) {
+            int t = tamanho;
+            long[] epocas = bloco.epocas;
+            int baixo = 0;
+            int alto = t;
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                if (epocas[meio] <= epocaLimite) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+            return baixo;
+        }
+    }
+
+    private final boolean direcionado;
+    private final Metricas metricas;
+
+    // Inserções contadas sem disputa; só os totais vão para as métricas, a cada
+    // instantâneo ou em reportarMetricas() (os já repassados são guardados por this)
+    private final LongAdder verticesAdicionados = new LongAdder();
+    private final LongAdder arestasAdicionadas = new LongAdder();
+    private long verticesReportados;
+    private long arestasReportadas;
+
+    private final ConcurrentHashMap<String, EstadoVertice> vertices = new ConcurrentHashMap<>();
+
+    private final ReentrantLock[] locks;
+    /**
+     * Época da inserção em andamento em cada faixa (LIVRE ou RESERVANDO quando não há número).
+     */
+    private final AtomicLongArray emAndamento;
+    private final AtomicLong ultimaEpoca = new AtomicLong();
+
+    public GrafoConcorrente(boolean direcionado) {
+        this(direcionado, FAIXAS_PADRAO, Metricas.NENHUMA);
+    }
+
+    /**
+     * @param faixas   Número de locks de inserção (arredondado para uma potência de 2)
+     * @param metricas Recebe a contagem de vértices e arestas adicionados (a cada instantâneo)
+     */
+    public GrafoConcorrente(boolean direcionado, int faixas, Metricas metricas) {
+        if (faixas <= 0) {
+            throw new IllegalArgumentException("Número de faixas deve ser positivo: " + faixas);
+        }
+        int potencia = Integer.bitCount(faixas) == 1 ? faixas : Integer.highestOneBit(faixas) << 1;
+        this.direcionado = direcionado;
+        this.metricas = metricas;
+        this.locks = new ReentrantLock[potencia];
+        for (int i = 0; i < potencia; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.emAndamento = new AtomicLongArray(potencia);
+    }
+
+    /**
+     * Adiciona um vértice, se ele ainda não existir. Pode ser chamado de várias threads.
+     */
+    public Vertice addVertice(String rotulo) {
+        return obterOuCriar(rotulo).vertice;
+    }
+
+    /**
+     * Adiciona uma aresta (e a reversa, se o grafo não for direcionado).
+     * Os vértices são criados se não existirem. Pode ser chamado de várias threads.
+     */
+    public void addAresta(String rotuloOrigem, String rotuloDestino, double peso) {
+        EstadoVertice origem = obterOuCriar(rotuloOrigem);
+        EstadoVertice destino = obterOuCriar(rotuloDestino);
+        Aresta ida = new Aresta(origem.vertice, destino.vertice, peso);
+
+        if (direcionado) {
+            int faixa = faixa(rotuloOrigem);
+            locks[faixa].lock();
+            try {
+                origem.acrescentar(ida, reservarEpoca(faixa, faixa));
+            } finally {
+                liberar(faixa, faixa);
+                locks[faixa].unlock();
+            }
+        } else {
+            // As duas faixas são travadas em ordem crescente para evitar deadlock
+            int a = faixa(rotuloOrigem);
+            int b = faixa(rotuloDestino);
+            int primeira = Math.min(a, b);
+            int segunda = Math.max(a, b);
+            locks[primeira].lock();
+            locks[segunda].lock();
+            try {
+                long epoca = reservarEpoca(primeira, segunda);
+                origem.acrescentar(ida, epoca);
+                destino.acrescentar(new Aresta(destino.vertice, origem.vertice, peso), epoca);
+            } finally {
+                liberar(primeira, segunda);
+                locks[segunda].unlock();
+                locks[primeira].unlock();
+            }
+        }
+        arestasAdicionadas.increment();
+    }
+
+    /**
+     * Tira um instantâneo com todas as inserções já concluídas.
+     * Não bloqueia as inserções: só espera, se for o caso, uma thread que
+     * esteja no meio de reservar sua época (poucas instruções).
+     */
+    public Instantaneo instantaneo() {
+        long epoca = ultimaEpoca.get();
+        for (int i = 0; i < locks.length; i++) {
+            long andamento = emAndamento.get(i);
+            while (andamento == RESERVANDO) {
+                Thread.onSpinWait();
+                andamento = emAndamento.get(i);
+            }
+            // Uma inserção anterior à leitura da época ainda não terminou: o instantâneo para antes dela
+            if (andamento != LIVRE && andamento <= epoca) {
+                epoca = andamento - 1;
+            }
+        }
+        reportarMetricas();
+        return new Instantaneo(this, epoca);
+    }
+
+    /**
+     * Repassa às métricas os vértices e arestas adicionados desde o último repasse.
+     */
+    public synchronized void reportarMetricas() {
+        long vertices = verticesAdicionados.sum();
+        long arestas = arestasAdicionadas.sum();
+        if (vertices > verticesReportados) {
+            metricas.incrementar(Contador.VERTICES_ADICIONADOS, vertices - verticesReportados);
+            verticesReportados = vertices;
+        }
+        if (arestas > arestasReportadas) {
+            metricas.incrementar(Contador.ARESTAS_ADICIONADAS, arestas - arestasReportadas);
+            arestasReportadas = arestas;
+        }
+    }
+
+    /**
+     * Época da última inserção iniciada (todas as inserções até ela estarão
+     * em um instantâneo tirado depois que elas terminarem).
+     */
+    public long getUltimaEpoca() {
+        return ultimaEpoca.get();
+    }
+
+    public boolean isDirecionado() {
+        return direcionado;
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private int faixa(String rotulo) {
+        int h = rotulo.hashCode();
+        return (h ^ (h >>> 16)) & (locks.length - 1);
+    }
+
+    private EstadoVertice obterOuCriar(String rotulo) {
+        EstadoVertice estado = vertices.get(rotulo);
+        if (estado != null) {
+            return estado;
+        }
+
+        int faixa = faixa(rotulo);
+        locks[faixa].lock();
+        try {
+            estado = vertices.get(rotulo);
+            if (estado == null) {
+                try {
+                    long epoca = reservarEpoca(faixa, faixa);
+                    estado = new EstadoVertice(new Vertice(rotulo), epoca);
+                    vertices.put(rotulo, estado);
+                } finally {
+                    // Sem isso, uma falha deixaria a faixa reservada e os instantâneos esperando para sempre
+                    liberar(faixa, faixa);
+                }
+                verticesAdicionados.increment();
+            }
+            return estado;
+        } finally {
+            locks[faixa].unlock();
+        }
+    }
+
+    /**
+     * Numera uma inserção. Chamado com os locks das faixas; a marca de
+     * reserva é publicada antes do número, para que um instantâneo nunca
+     * aceite uma época cuja inserção ainda não terminou.
+     */
+    private long reservarEpoca(int faixaA, int faixaB) {
+        emAndamento.set(faixaA, RESERVANDO);
+        emAndamento.set(faixaB, RESERVANDO);
+        long epoca = ultimaEpoca.incrementAndGet();
+        emAndamento.set(faixaA, epoca);
+        emAndamento.set(faixaB, epoca);
+        return epoca;
+    }
+
+    private void liberar(int faixaA, int faixaB) {
+        emAndamento.set(faixaA, LIVRE);
+        emAndamento.set(faixaB, LIVRE);
+    }
+
+    /**
+     * Visão imutável do grafo em uma época. Pode ser lida por várias
+     * threads e passada a qualquer algoritmo que recebe um {@link Grafo};
+     * as operações de escrita lançam {@link UnsupportedOperationException}.
+     * * As listas de arestas são vistas dos vetores do grafo concorrente
+     * (sem cópia). A lista de vértices, a de todas as arestas e as
+     * estatísticas de peso são calculadas na primeira vez que forem pedidas.
+     */
+    public static final class Instantaneo extends Grafo {
+
+        private final GrafoConcorrente origem;
+        private final long epoca;
+
+        // Calculados sob demanda (idempotentes: o prefixo de cada vértice nunca muda)
+        private volatile List<Vertice> verticesNaEpoca;
+        private volatile List<Aresta> todasArestasNaEpoca;
+
+        private boolean pesosInteirosNaoNegativos;
+        private boolean pesosInteiros;
+        private boolean pesosUnitarios;
+        private double pesoMinimo;
+        private double pesoMaximo;
+
+        private Instantaneo(GrafoConcorrente origem, long epoca) {
+            super(origem.direcionado);
+            this.origem = origem;
+            this.epoca = epoca;
+        }
+
+        /**
+         * Época do instantâneo: ele contém exatamente as inserções com época ≤ esta.
+         */
+        public long getEpoca() {
+            return epoca;
+        }
+
+        @Override
+        public Vertice addVertice(String rotulo) {
+            throw new UnsupportedOperationException("Instantâneo de grafo é somente-leitura");
+        }
+
+        @Override
+        public void addAresta(String rotuloOrigem, String rotuloDestino, double peso) {
+            throw new UnsupportedOperationException("Instantâneo de grafo é somente-leitura");
+        }
+
+        @Override
+        public void setArestasSemPeso(Set<String> arestasSemPeso) {
+            throw new UnsupportedOperationException("Instantâneo de grafo é somente-leitura");
+        }
+
+        /**
+         * Toda inserção no GrafoConcorrente traz o peso explícito.
+         */
+        @Override
+        public Set<String> getArestasSemPeso() {
+            return Set.of();
+        }
+
+        @Override
+        public Vertice getVertice(String rotulo) {
+            EstadoVertice estado = origem.vertices.get(rotulo);
+            return estado != null && estado.epoca <= epoca ? estado.vertice : null;
+        }
+
+        @Override
+        public Collection<Vertice> getVertices() {
+            List<Vertice> lista = verticesNaEpoca;
+            if (lista == null) {
+                List<Vertice> novos = new ArrayList<>();
+                for (EstadoVertice estado : origem.vertices.values()) {
+                    if (estado.epoca <= epoca) {
+                        novos.add(estado.vertice);
+                    }
+                }
+                lista = Collections.unmodifiableList(novos);
+                verticesNaEpoca = lista;
+            }
+            return lista;
+        }
+
+        @Override
+        public List<Aresta> getArestasVizinhas(Vertice v) {
+            EstadoVertice estado = origem.vertices.get(v.getRotulo());
+            if (estado == null || estado.epoca > epoca) {
+                return List.of();
+            }
+            int tamanho = estado.tamanhoNaEpoca(epoca);
+            Aresta[] arestas = estado.bloco.arestas; // lido depois: contém todo o prefixo
+            return new AbstractList<>() {
+                @Override
+                public Aresta get(int indice) {
+                    if (indice >= tamanho) {
+                        throw new IndexOutOfBoundsException(indice);
+                    }
+                    return arestas[indice];
+                }
+
+                @Override
+                public int size() {
+                    return tamanho;
+                }
+            };
+        }
+
+        @Override
+        public List<Aresta> getTodasArestas() {
+            calcularArestas();
+            return todasArestasNaEpoca;
+        }
+
+        @Override
+        public int getNumVertices() {
+            return getVertices().size();
+        }
+
+        @Override
+        public int getNumArestas() {
+            return getTodasArestas().size();
+        }
+
+        @Override
+        public boolean temPesosInteirosNaoNegativos() {
+            calcularArestas();
+            return pesosInteirosNaoNegativos;
+        }
+
+        @Override
+        public boolean temPesosInteiros() {
+            calcularArestas();
+            return pesosInteiros;
+        }
+
+        @Override
+        public double getPesoMinimo() {
+            calcularArestas();
+            return pesoMinimo;
+        }
+
+        @Override
+        public double getPesoMaximo() {
+            calcularArestas();
+            return pesoMaximo;
+        }
+
+        @Override
+        public boolean isNaoPonderado() {
+            calcularArestas();
+            return pesosUnitarios;
+        }
+
+        /**
+         * Junta as arestas de todos os vértices e calcula as estatísticas de peso (uma única vez).
+         */
+        private synchronized void calcularArestas() {
+            if (todasArestasNaEpoca != null) {
+                return;
+            }
+            List<Aresta> todas = new ArrayList<>();
+            boolean inteirosNaoNegativos = true;
+            boolean inteiros = true;
+            boolean unitarios = true;
+            double minimo = 0.0;
+            double maximo = 0.0;
+            for (Vertice v : getVertices()) {
+                for (Aresta a : getArestasVizinhas(v)) {
+                    double peso = a.getPeso();
+                    boolean inteiro = peso == Math.rint(peso) && !Double.isInfinite(peso);
+                    inteiros &= inteiro;
+                    inteirosNaoNegativos &= inteiro && peso >= 0;
+                    unitarios &= peso == 1.0;
+                    if (todas.isEmpty() || peso < minimo) {
+                        minimo = peso;
+                    }
+                    if (todas.isEmpty() || peso > maximo) {
+                        maximo = peso;
+                    }
+                    todas.add(a);
+                }
+            }
+            pesosInteirosNaoNegativos = inteirosNaoNegativos;
+            pesosInteiros = inteiros;
+            pesosUnitarios = unitarios;
+            pesoMinimo = minimo;
+            pesoMaximo = maximo;
+            todasArestasNaEpoca = Collections.unmodifiableList(todas);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("Grafo ").append(isDirecionado() ? "(Direcionado)" : "(Não-Direcionado)")
+                    .append(", época ").append(epoca).append("\n");
+            for (Vertice v : getVertices()) {
+                sb.append(v).append(" -> ").append(getArestasVizinhas(v)).append("\n");
+            }
+            return sb.toString();
+        }
+    }
+}
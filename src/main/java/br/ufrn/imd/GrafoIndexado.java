@@ -0,0 +1,33 @@
+package br.ufrn.imd;
+
+/**
+ * Grafo somente-leitura com vértices numerados de 0 a n-1, percorrido por
+ * iteradores de vizinhos. É o que os algoritmos sobre índices (Bellman-Ford
+ * e Prim compactos) precisam, seja a forma CSR ({@link GrafoCompacto}) ou a
+ * comprimida ({@link GrafoComprimido}).
+ */
+public interface GrafoIndexado {
+
+    int getNumVertices();
+
+    /**
+     * Número de arestas armazenadas (em grafos não-direcionados, cada aresta conta duas vezes).
+     */
+    int getNumArestas();
+
+    boolean isDirecionado();
+
+    int grau(int vertice);
+
+    Vertice getVertice(int indice);
+
+    /**
+     * @return O índice do vértice, ou -1 se ele não pertencer ao grafo.
+     */
+    int getIndice(Vertice vertice);
+
+    /**
+     * Cria um iterador de vizinhos (cada thread deve usar o seu).
+     */
+    IteradorVizinhos novoIterador();
+}
@@ -0,0 +1,37 @@
+package br.ufrn.imd;
+
+/**
+ * Percorre as arestas de saída de um vértice de um {@link GrafoIndexado}, em sequência.
+ * * O mesmo iterador é reaproveitado para todos os vértices (sem alocação por vértice):
+ * <pre>
+ * IteradorVizinhos it = grafo.novoIterador();
+ * it.iniciar(u);
+ * while (it.proximo()) {
+ *     relaxar(u, it.getDestino(), it.getPeso());
+ * }
+ * </pre>
+ */
+public interface IteradorVizinhos {
+
+    /**
+     * Posiciona o iterador antes da primeira aresta de saída do vértice.
+     */
+    void iniciar(int vertice);
+
+    /**
+     * Avança para a próxima aresta.
+     *
+     * @return false se não houver mais arestas
+     */
+    boolean proximo();
+
+    /**
+     * Índice do destino da aresta atual.
+     */
+    int getDestino();
+
+    /**
+     * Peso da aresta atual.
+     */
+    double getPeso();
+}
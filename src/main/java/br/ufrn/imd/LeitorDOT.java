@@ -1,31 +1,89 @@
 package br.ufrn.imd;
 
-import br.ufrn.imd.Grafo;
+import br.ufrn.imd.metricas.Cronometro;
+import br.ufrn.imd.metricas.Fase;
+import br.ufrn.imd.metricas.Metricas;
 import guru.nidi.graphviz.model.MutableGraph;
 import guru.nidi.graphviz.model.MutableNode;
 import guru.nidi.graphviz.parse.Parser;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
 public class LeitorDOT {
 
     public Grafo lerArquivo(String caminhoArquivo) throws IOException {
-        MutableGraph gvGraph = new Parser().read(new File(caminhoArquivo));
+        return lerArquivo(caminhoArquivo, Metricas.NENHUMA);
+    }
+
+    /**
+     * Lê o arquivo cronometrando separadamente a leitura do DOT e a construção do grafo.
+     */
+    @SuppressWarnings("try")
+    public Grafo lerArquivo(String caminhoArquivo, Metricas metricas) throws IOException {
+        MutableGraph gvGraph;
+        try (Cronometro c = metricas.iniciarFase(Fase.LEITURA_DOT)) {
+            gvGraph = new Parser().read(new File(caminhoArquivo));
+        }
+        try (Cronometro c = metricas.iniciarFase(Fase.CONSTRUCAO_GRAFO)) {
+            return construir(gvGraph, metricas);
+        }
+    }
+
+    /**
+     * Lê o arquivo e monta só a forma comprimida, direto das arestas lidas, sem
+     * o Grafo (para grafos que não caberiam na memória como objetos). Os índices
+     * seguem a ordem dos vértices no arquivo.
+     */
+    @SuppressWarnings("try")
+    public GrafoComprimido lerComprimido(String caminhoArquivo, Metricas metricas) throws IOException {
+        MutableGraph gvGraph;
+        try (Cronometro c = metricas.iniciarFase(Fase.LEITURA_DOT)) {
+            gvGraph = new Parser().read(new File(caminhoArquivo));
+        }
+        try (Cronometro c = metricas.iniciarFase(Fase.CONSTRUCAO_GRAFO)) {
+            ConstrutorGrafo construtor = new ConstrutorGrafo(gvGraph.isDirected(), metricas);
+            // Prim e Bellman-Ford usam o peso de todas as arestas: o conjunto das sem peso não é guardado
+            adicionar(gvGraph, construtor);
+            return construtor.construirComprimido();
+        }
+    }
+
+    private Grafo construir(MutableGraph gvGraph, Metricas metricas) {
+        // As arestas são acumuladas e o grafo é montado de uma vez, com listas de tamanho exato
+        ConstrutorGrafo construtor = new ConstrutorGrafo(gvGraph.isDirected(), metricas);
+        Set<String> arestasSemPeso = adicionar(gvGraph, construtor);
+
+        Grafo grafo = construtor.construir();
+        grafo.setArestasSemPeso(Collections.unmodifiableSet(arestasSemPeso));
+        return grafo;
+    }
+
+    /**
+     * Passa os vértices e as arestas do arquivo para o construtor.
+     *
+     * @return As chaves das arestas sem atributo weight
+     */
+    private Set<String> adicionar(MutableGraph gvGraph, ConstrutorGrafo construtor) {
         boolean direcionado = gvGraph.isDirected();
-        Grafo meuGrafo = new Grafo(direcionado);
 
         // Adiciona todos os vértices
         for (MutableNode node : gvGraph.nodes()) {
             String rotulo = node.name().value();
-            meuGrafo.addVertice(rotulo);
+            construtor.addVertice(rotulo);
         }
 
         // Conjunto para rastrear arestas já processadas em grafos não-direcionados
         Set<String> arestasProcessadas = new HashSet<>();
 
+        // Arestas sem atributo weight, decididas pela primeira ocorrência de cada par
+        // (guardadas no grafo para o Floyd-Warshall, que não precisa reler o arquivo)
+        Set<String> arestasClassificadas = new HashSet<>();
+        Set<String> arestasSemPeso = new HashSet<>();
+
         // Adiciona as arestas
         for (MutableNode node : gvGraph.nodes()) {
             String rotuloOrigem = node.name().value();
@@ -50,7 +108,11 @@ public class LeitorDOT {
 
                 if (direcionado) {
                     // Grafo direcionado: adiciona apenas uma vez
-                    meuGrafo.addAresta(rotuloOrigem, rotuloDestino, peso);
+                    construtor.addAresta(rotuloOrigem, rotuloDestino, peso);
+                    String chave = Grafo.chaveAresta(rotuloOrigem, rotuloDestino);
+                    if (arestasClassificadas.add(chave) && weightAttr == null) {
+                        arestasSemPeso.add(chave);
+                    }
                 } else {
                     // Grafo não-direcionado: evita processar a mesma aresta duas vezes
                     // (a biblioteca retorna a -- b tanto em 'a' quanto em 'b')
@@ -58,14 +120,18 @@ public class LeitorDOT {
 
                     if (!arestasProcessadas.contains(chaveAresta)) {
                         // addAresta já cuida de criar a aresta bidirecional!
-                        meuGrafo.addAresta(rotuloOrigem, rotuloDestino, peso);
+                        construtor.addAresta(rotuloOrigem, rotuloDestino, peso);
                         arestasProcessadas.add(chaveAresta);
+                        if (weightAttr == null) {
+                            arestasSemPeso.add(Grafo.chaveAresta(rotuloOrigem, rotuloDestino));
+                            arestasSemPeso.add(Grafo.chaveAresta(rotuloDestino, rotuloOrigem));
+                        }
                     }
                 }
             });
         }
 
-        return meuGrafo;
+        return arestasSemPeso;
     }
 
     /**
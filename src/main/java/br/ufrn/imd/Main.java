@@ -1,107 +1,250 @@
 package br.ufrn.imd;
 
-import br.ufrn.imd.algorithms.bellman_ford.BellmanFord;
-import br.ufrn.imd.algorithms.floyd_warshall.FloydWarshall;
-import br.ufrn.imd.algorithms.prim.Prim;
+import br.ufrn.imd.gerador.ConfiguracaoGerador;
+import br.ufrn.imd.pipeline.Armazenamento;
+import br.ufrn.imd.pipeline.ConfiguracaoPipeline;
+import br.ufrn.imd.pipeline.FormatadorResultados;
+import br.ufrn.imd.pipeline.Pipeline;
+import br.ufrn.imd.pipeline.ProcessadorLote;
+import br.ufrn.imd.pipeline.RelatorioLote;
+import br.ufrn.imd.pipeline.ResultadoEtapa;
+import br.ufrn.imd.pipeline.SaidaLote;
+import br.ufrn.imd.pipeline.SaidaLoteConsole;
+import br.ufrn.imd.pipeline.SaidaLoteDiretorio;
+import br.ufrn.imd.planejador.EstatisticasGrafo;
+import br.ufrn.imd.planejador.Planejador;
+import br.ufrn.imd.planejador.Plano;
+import br.ufrn.imd.planejador.Recursos;
+import br.ufrn.imd.servidor.ServidorConsultas;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class Main {
 
     public static void main(String[] args) {
-        // 1. VERIFICAR O ARGUMENTO DE LINHA DE COMANDO
-        if (args.length == 0) {
-            System.err.println("Erro: Nenhum arquivo .dot de entrada foi fornecido.");
-            System.err.println("Uso: java -jar seu-programa.jar <caminho_do_arquivo.dot>");
-            return; // Encerra o programa
+        // Modo servidor: mantém os grafos carregados e atende consultas
+        for (String arg : args) {
+            if (arg.equals("--servidor") || arg.startsWith("--servidor=")) {
+                executarServidor(args);
+                return;
+            }
+            if (arg.startsWith("--gerar=")) {
+                executarGerador(args);
+                return;
+            }
         }
 
-        String caminhoArquivo = args[0];
-        System.out.println("Lendo o arquivo: " + caminhoArquivo);
-
+        // 1. VERIFICAR OS ARGUMENTOS DE LINHA DE COMANDO
+        ConfiguracaoPipeline config;
         try {
-            // CRIAR O LEITOR E CARREGAR O GRAFO
-            LeitorDOT leitor = new LeitorDOT();
-            Grafo grafo = leitor.lerArquivo(caminhoArquivo);
-
-            // IMPRIMIR O GRAFO
-            System.out.println("Grafo carregado com sucesso:");
-            System.out.println(grafo);
-
-            // 4. CHAMAR OS ALGORITMOS
-            System.out.println("\n--- Executando Algoritmo de Prim ---");
+            config = ConfiguracaoPipeline.deArgumentos(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Erro: " + e.getMessage());
+            imprimirUso();
+            return; // Encerra o programa
+        }
 
-            // Verifica se o grafo é direcionado
-            if (grafo.isDirecionado()) {
-                System.out.println("O algoritmo de Prim não é aplicável a grafos direcionados.");
+        ExecutorService executor = Executors.newFixedThreadPool(config.getThreads());
+        try {
+            if (config.isLote()) {
+                executarLote(config, executor);
             } else {
-                Prim prim = new Prim();
-                Vertice inicioPrim = grafo.getVertice("a");
-
-                if (inicioPrim != null) {
-                    List<Aresta> mst = prim.executar(grafo, inicioPrim);
-                    System.out.println("Arestas da MST:");
-                    for (Aresta a : mst) {
-                        System.out.println(a.getOrigem() + " --(" + a.getPeso() + ")--> " + a.getDestino());
-                    }
-                } else {
-                    System.out.println("Vértice inicial 'a' não encontrado para Prim.");
-                }
+                executarArquivo(config, executor);
             }
+        } catch (IOException e) {
+            System.err.println("Erro ao ler ou processar o arquivo DOT: " + e.getMessage());
+        } catch (Exception e) {
+            System.err.println("Ocorreu um erro inesperado: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            executor.shutdown();
+        }
+    }
 
-            System.out.println("\n--- Executando Algoritmo de Bellman-Ford ---");
-
-            Vertice origemBellmanFord = grafo.getVertice("a");
-            if (origemBellmanFord != null) {
-                try {
-                    Map<Vertice, Double> distancias = BellmanFord.calcular(grafo, origemBellmanFord);
+    /**
+     * Lê um único arquivo e executa as etapas em paralelo.
+     */
+    private static void executarArquivo(ConfiguracaoPipeline config, ExecutorService executor) throws IOException {
+        String caminhoArquivo = config.getCaminhoArquivo();
+        System.out.println("Lendo o arquivo: " + caminhoArquivo);
 
-                    System.out.println("\nDistâncias mínimas a partir de " + origemBellmanFord + ":");
-                    for (Vertice v : distancias.keySet()) {
-                        double d = distancias.get(v);
-                        System.out.printf(" - %s: %.2f\n", v.getRotulo(), d);
-                    }
-                } catch (IllegalArgumentException e) {
-                    System.err.println("Erro: " + e.getMessage());
-                }
-            } else {
-                System.out.println("Vértice inicial 'a' não encontrado para Bellman-Ford.");
+        // 2. CRIAR O LEITOR E CARREGAR O GRAFO (uma única vez)
+        LeitorDOT leitor = new LeitorDOT();
+        if (config.getArmazenamento() == Armazenamento.COMPRIMIDO) {
+            // Só a forma comprimida fica na memória; as etapas a percorrem pelo índice dos vértices
+            GrafoComprimido comprimido = leitor.lerComprimido(caminhoArquivo, config.getMetricas());
+            System.out.println("Grafo carregado com sucesso (comprimido): " + comprimido.getNumVertices()
+                    + " vértices, " + comprimido.getNumArestas() + " arestas guardadas, "
+                    + comprimido.getBytesArestas() + " bytes de arestas");
+            emitirResultados(new Pipeline(executor).executar(comprimido, config), config);
+            return;
+        }
+        Grafo grafo = leitor.lerArquivo(caminhoArquivo, config.getMetricas());
+
+        // 3. IMPRIMIR O GRAFO
+        System.out.println("Grafo carregado com sucesso:");
+        System.out.println(grafo);
+
+        // 4. PLANEJAR AS ETAPAS A PARTIR DO GRAFO (--planejar)
+        if (config.isPlanejar()) {
+            Plano plano = Planejador.planejar(EstatisticasGrafo.coletar(grafo), Recursos.atuais());
+            plano.imprimir(System.out);
+            if (plano.getEtapas().isEmpty()) {
+                System.err.println("Nenhuma etapa do plano cabe na memória disponível.");
+                return;
             }
+            config = config.comEtapas(plano.getEtapas());
+        }
 
+        // 5. EXECUTAR AS ETAPAS EM PARALELO E EMITIR OS RESULTADOS EM ORDEM
+        emitirResultados(new Pipeline(executor).executar(grafo, config), config);
+    }
 
-            System.out.println("\n--- Executando Algoritmo de Floyd-Warshall ---");
+    /**
+     * Imprime os resultados na ordem das etapas, os tempos e as métricas.
+     */
+    private static void emitirResultados(List<ResultadoEtapa> resultados, ConfiguracaoPipeline config) {
+        FormatadorResultados.escreverResultados(resultados, System.out, System.err);
 
-            try {
-                // Passa o caminho do arquivo DOT para detectar arestas com peso explícito
-                FloydWarshall.Resultado resultadoFloyd = FloydWarshall.calcular(grafo, caminhoArquivo);
+        // 6. TEMPO DE CADA ETAPA
+        FormatadorResultados.escreverTempos(resultados, System.out);
 
-                // Imprime a matriz de distâncias
-                FloydWarshall.imprimirMatrizDistancias(resultadoFloyd);
+        // 7. CONTADORES E TEMPOS DE FASE (--metricas)
+        if (config.getMetricasAcumuladas() != null) {
+            config.getMetricasAcumuladas().imprimir(System.out);
+        }
+    }
 
-                // Imprime a matriz de predecessores
-                FloydWarshall.imprimirMatrizPredecessores(resultadoFloyd);
+    /**
+     * Processa todos os arquivos do lote, vários ao mesmo tempo.
+     */
+    private static void executarLote(ConfiguracaoPipeline config, ExecutorService executor)
+            throws IOException, InterruptedException {
+        List<Path> arquivos = ProcessadorLote.resolverArquivos(config.getLote());
+        System.out.println("Lote: " + arquivos.size() + " arquivo(s) em " + config.getLote()
+                + " (paralelismo " + config.getThreads() + ")");
+
+        SaidaLote saida = config.getDiretorioSaida() != null
+                ? new SaidaLoteDiretorio(Path.of(config.getDiretorioSaida()))
+                : new SaidaLoteConsole(System.out);
+
+        RelatorioLote relatorio;
+        try (saida) {
+            relatorio = new ProcessadorLote(executor).executar(arquivos, config, saida);
+        }
+        relatorio.imprimir(System.out);
+        if (config.getCache() != null) {
+            System.out.println(" - Cache: " + config.getCache().getCache().getEstatisticas());
+        }
+        if (config.getMetricasAcumuladas() != null) {
+            config.getMetricasAcumuladas().imprimir(System.out);
+        }
+    }
+
+    /**
+     * Sobe o servidor de consultas em localhost e o mantém rodando até a JVM ser encerrada.
+     * Argumentos: {@code --servidor[=porta] [--grafo=nome=arquivo.dot ...] [--diretorio-grafos=dir]}
+     */
+    private static void executarServidor(String[] args) {
+        int porta = ServidorConsultas.PORTA_PADRAO;
+        Path diretorioGrafos = null;
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--servidor=")) {
+                    porta = Integer.parseInt(arg.substring("--servidor=".length()));
+                } else if (arg.startsWith("--diretorio-grafos=")) {
+                    diretorioGrafos = Path.of(arg.substring("--diretorio-grafos=".length()));
+                }
+            }
 
-                // Exemplo: imprime alguns caminhos mínimos
-                System.out.println("Exemplos de caminhos mínimos:");
-                List<Vertice> todosVertices = new java.util.ArrayList<>(grafo.getVertices());
-                if (todosVertices.size() >= 2) {
-                    // Mostra caminhos do primeiro vértice para os demais
-                    Vertice origem = todosVertices.get(0);
-                    for (int i = 1; i < Math.min(4, todosVertices.size()); i++) {
-                        FloydWarshall.imprimirCaminho(resultadoFloyd, origem, todosVertices.get(i));
+            ServidorConsultas servidor = new ServidorConsultas(porta, diretorioGrafos);
+            for (String arg : args) {
+                if (arg.startsWith("--grafo=")) {
+                    String[] partes = arg.substring("--grafo=".length()).split("=", 2);
+                    if (partes.length != 2) {
+                        throw new IllegalArgumentException("Use --grafo=<nome>=<arquivo.dot>: " + arg);
                     }
+                    servidor.carregar(partes[0], partes[1]);
+                    System.out.println("Grafo '" + partes[0] + "' carregado de " + partes[1]);
+                } else if (!arg.equals("--servidor") && !arg.startsWith("--servidor=")
+                        && !arg.startsWith("--diretorio-grafos=")) {
+                    throw new IllegalArgumentException("Opção desconhecida no modo servidor: " + arg);
                 }
-            } catch (IllegalArgumentException e) {
-                System.err.println("Erro no Floyd-Warshall: " + e.getMessage());
             }
 
+            servidor.iniciar();
+            Runtime.getRuntime().addShutdownHook(new Thread(servidor::parar));
+            System.out.println("Servidor de consultas em http://" + servidor.getEndereco().getHostString()
+                    + ":" + servidor.getEndereco().getPort());
+        } catch (NumberFormatException e) {
+            System.err.println("Erro: porta inválida.");
+            imprimirUso();
+        } catch (IllegalArgumentException e) {
+            System.err.println("Erro: " + e.getMessage());
+            imprimirUso();
+        } catch (IOException e) {
+            System.err.println("Erro ao iniciar o servidor ou ler um grafo: " + e.getMessage());
+        }
+    }
 
+    /**
+     * Gera um grafo sintético e o escreve em DOT (arquivo ou saída padrão).
+     * Argumentos: {@code --gerar=<modelo>:<parâmetros> [--direcionado] [--pesos=min:max]
+     * [--potencial=A] [--semente=S] [--arquivo=saida.dot]}
+     */
+    private static void executarGerador(String[] args) {
+        try {
+            ConfiguracaoGerador config = ConfiguracaoGerador.deArgumentos(args);
+            if (config.getArquivo() != null) {
+                try (Writer saida = Files.newBufferedWriter(Path.of(config.getArquivo()), StandardCharsets.UTF_8)) {
+                    config.getGerador().escreverDot(saida);
+                }
+            } else {
+                Writer saida = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+                config.getGerador().escreverDot(saida);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Erro: " + e.getMessage());
+            imprimirUso();
         } catch (IOException e) {
-            System.err.println("Erro ao ler ou processar o arquivo DOT: " + e.getMessage());
-        } catch (Exception e) {
-            System.err.println("Ocorreu um erro inesperado: " + e.getMessage());
-            e.printStackTrace();
+            System.err.println("Erro ao escrever o grafo gerado: " + e.getMessage());
         }
     }
+
+    private static void imprimirUso() {
+        System.err.println("Uso: java -jar seu-programa.jar <caminho_do_arquivo.dot> [opções]");
+        System.err.println("     java -jar seu-programa.jar --lote=<diretório|glob> [opções]");
+        System.err.println("     java -jar seu-programa.jar --servidor[=porta] [--grafo=<nome>=<arquivo.dot> ...]"
+                + " [--diretorio-grafos=<dir>]");
+        System.err.println("     java -jar seu-programa.jar --gerar=<modelo>:<parâmetros> [opções do gerador]");
+        System.err.println("  --etapas=prim,bellman-ford,floyd-warshall,dijkstra,alcancabilidade,bfs,johnson,kruskal,boruvka,floyd-warshall-scc");
+        System.err.println("  --planejar          Escolhe os algoritmos pelo tamanho, densidade e pesos do grafo e pela memória livre");
+        System.err.println("  --origem=<rótulo>   Vértice inicial (padrão: a)");
+        System.err.println("  --threads=<N>       Threads usadas para executar as etapas");
+        System.err.println("  --paralelismo=<N>   Arquivos processados ao mesmo tempo no modo lote");
+        System.err.println("  --saida=<diretório> Grava um relatório por arquivo do lote nesse diretório");
+        System.err.println("  --cache-mb=<N>      Liga o cache de resultados com N MB em memória");
+        System.err.println("  --cache-dir=<dir>   Também guarda os resultados em disco, entre execuções");
+        System.err.println("  --prazo=<segundos>  Interrompe Bellman-Ford e Floyd-Warshall que passarem do prazo");
+        System.err.println("  --progresso         Mostra o andamento de Bellman-Ford e Floyd-Warshall");
+        System.err.println("  --checkpoint=<arq>  Grava o Floyd-Warshall periodicamente e retoma desse arquivo se ele existir");
+        System.err.println("  --checkpoint-intervalo=<segundos>  Intervalo entre checkpoints (padrão 300)");
+        System.err.println("  --reordenar=rcm|grau|bfs  Renumera os vértices para melhorar a localidade de memória");
+        System.err.println("  --armazenamento=comprimido  Guarda só a forma comprimida do grafo (etapas prim e bellman-ford)");
+        System.err.println("  --metricas          Conta relaxamentos, operações de heap etc. e cronometra cada fase (também emite eventos JFR)");
+        System.err.println("Gerador: gnp:n=,p= | gnm:n=,m= | rmat:escala=,m= | grade:linhas=,colunas= | completo:n=");
+        System.err.println("  --direcionado       Gera um digraph (padrão: graph)");
+        System.err.println("  --pesos=<min>:<max> Faixa dos pesos (inteiros, ou reais se houver ponto; padrão 1:100)");
+        System.err.println("  --potencial=<A>     Pesos negativos sem ciclos negativos (só com --direcionado)");
+        System.err.println("  --semente=<S>       Semente do gerador (padrão 42)");
+        System.err.println("  --arquivo=<f.dot>   Arquivo de saída (padrão: saída padrão)");
+    }
 }
@@ -1,6 +1,10 @@
 package br.ufrn.imd;
 
-public class Vertice {
+import java.io.Serializable;
+
+public class Vertice implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final String rotulo;
 
     public Vertice(String rotulo){
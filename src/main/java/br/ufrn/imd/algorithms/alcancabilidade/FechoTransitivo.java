@@ -0,0 +1,137 @@
+package br.ufrn.imd.algorithms.alcancabilidade;
+
+import br.ufrn.imd.Aresta;
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.Vertice;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+  - Fecho transitivo de um grafo para responder "u alcança v?" em O(1).
+  - Cada linha da matriz de alcançabilidade é um vetor de bits (long[]),
+    então a memória é 1/64 de uma matriz de distâncias em double.
+  - Usa o algoritmo de Warshall com paralelismo de palavra: para cada pivô k,
+    toda linha i que alcança k recebe row[i] |= row[k], 64 colunas por operação.
+  - As linhas são processadas em paralelo (cada linha só é escrita pela sua tarefa).
+  - Complexidade: O(V³ / 64).
+ */
+public class FechoTransitivo {
+
+    // Abaixo disso o custo de dividir o trabalho entre threads não compensa
+    private static final int MINIMO_VERTICES_PARALELO = 256;
+
+    /**
+     Resultado do fecho transitivo contendo:
+        - Uma linha de bits por vértice de origem
+        - Mapeamento de índices para vértices
+     */
+    public static class Resultado {
+        private final long[][] linhas;
+        private final List<Vertice> verticesPorIndice;
+        private final Map<Vertice, Integer> indicePorVertice;
+
+        public Resultado(long[][] linhas, List<Vertice> verticesPorIndice,
+                         Map<Vertice, Integer> indicePorVertice) {
+            this.linhas = linhas;
+            this.verticesPorIndice = verticesPorIndice;
+            this.indicePorVertice = indicePorVertice;
+        }
+
+        public long[][] getLinhas() {
+            return linhas;
+        }
+
+        public List<Vertice> getVerticesPorIndice() {
+            return verticesPorIndice;
+        }
+
+        public Map<Vertice, Integer> getIndicePorVertice() {
+            return indicePorVertice;
+        }
+
+        // Retorna true se existe caminho de origem até destino (todo vértice alcança a si mesmo).
+        public boolean alcancavel(Vertice origem, Vertice destino) {
+            Integer i = indicePorVertice.get(origem);
+            Integer j = indicePorVertice.get(destino);
+            if (i == null || j == null) {
+                return false;
+            }
+            return alcancavel(i, j);
+        }
+
+        public boolean alcancavel(int i, int j) {
+            return (linhas[i][j >>> 6] & (1L << j)) != 0;
+        }
+
+        // Retorna quantos vértices são alcançáveis a partir da origem (incluindo ela mesma).
+        public int contarAlcancaveis(Vertice origem) {
+            Integer i = indicePorVertice.get(origem);
+            if (i == null) {
+                return 0;
+            }
+            int total = 0;
+            for (long palavra : linhas[i]) {
+                total += Long.bitCount(palavra);
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Calcula o fecho transitivo (reflexivo) do grafo.
+     * Pesos são ignorados: qualquer aresta conta como ligação.
+     *
+     * @param grafo O grafo (pode ser direcionado ou não)
+     * @return Resultado que responde alcancavel(u, v) em O(1)
+     */
+    public static Resultado calcular(Grafo grafo) {
+        List<Vertice> vertices = new ArrayList<>(grafo.getVertices());
+        int n = vertices.size();
+        int palavras = (n + 63) >>> 6;
+
+        Map<Vertice, Integer> indicePorVertice = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            indicePorVertice.put(vertices.get(i), i);
+        }
+
+        // PASSO 1: cada vértice alcança a si mesmo e seus vizinhos diretos
+        long[][] linhas = new long[n][palavras];
+        for (int i = 0; i < n; i++) {
+            linhas[i][i >>> 6] |= 1L << i;
+        }
+        for (Aresta aresta : grafo.getTodasArestas()) {
+            int i = indicePorVertice.get(aresta.getOrigem());
+            int j = indicePorVertice.get(aresta.getDestino());
+            linhas[i][j >>> 6] |= 1L << j;
+        }
+
+        // PASSO 2: Warshall com linhas de bits
+        // Para o pivô k, a linha k não muda (row[k] |= row[k]), então
+        // as demais linhas podem lê-la enquanto são atualizadas em paralelo.
+        for (int k = 0; k < n; k++) {
+            final int pivo = k;
+            final long[] linhaPivo = linhas[k];
+            final int palavraPivo = k >>> 6;
+            final long bitPivo = 1L << k;
+
+            IntStream indices = IntStream.range(0, n);
+            if (n >= MINIMO_VERTICES_PARALELO) {
+                indices = indices.parallel();
+            }
+            indices.forEach(i -> {
+                long[] linha = linhas[i];
+                if (i != pivo && (linha[palavraPivo] & bitPivo) != 0) {
+                    for (int w = 0; w < palavras; w++) {
+                        linha[w] |= linhaPivo[w];
+                    }
+                }
+            });
+        }
+
+        return new Resultado(linhas, vertices, indicePorVertice);
+    }
+}
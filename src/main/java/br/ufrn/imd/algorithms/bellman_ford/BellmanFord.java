@@ -1,12 +1,23 @@
 package br.ufrn.imd.algorithms.bellman_ford;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import br.ufrn.imd.Aresta;
 import br.ufrn.imd.Grafo;
+import br.ufrn.imd.GrafoCompacto;
+import br.ufrn.imd.GrafoIndexado;
+import br.ufrn.imd.IteradorVizinhos;
 import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.reordenacao.Reordenacao;
+import br.ufrn.imd.execucao.ContextoExecucao;
+import br.ufrn.imd.execucao.ExecucaoInterrompidaException;
+import br.ufrn.imd.metricas.Contador;
+import br.ufrn.imd.metricas.Cronometro;
+import br.ufrn.imd.metricas.Fase;
+import br.ufrn.imd.metricas.Metricas;
 
 public class BellmanFord {
 
@@ -19,7 +30,132 @@ public class BellmanFord {
      * @throws IllegalArgumentException se o grafo contiver ciclo de peso negativo
      */
     public static Map<Vertice, Double> calcular(Grafo grafo, Vertice origem) {
-    
+        return calcular(grafo, origem, Metricas.NENHUMA);
+    }
+
+    /**
+     * Executa o algoritmo de Bellman-Ford registrando o tempo, o número de
+     * rodadas até convergir e os relaxamentos de cada rodada nas métricas.
+     */
+    public static Map<Vertice, Double> calcular(Grafo grafo, Vertice origem, Metricas metricas) {
+        return calcular(grafo, origem, metricas, ContextoExecucao.ilimitado());
+    }
+
+    /**
+     * Executa o algoritmo de Bellman-Ford sob um contexto de execução: o progresso
+     * é informado a cada rodada e o cancelamento/prazo é verificado antes de cada uma.
+     * Se interrompido, o resultado parcial são as distâncias após as rodadas já feitas
+     * (limites superiores das distâncias reais).
+     *
+     * @throws br.ufrn.imd.execucao.ExecucaoInterrompidaException se interrompido e a política for LANCAR
+     */
+    @SuppressWarnings("try")
+    public static Map<Vertice, Double> calcular(Grafo grafo, Vertice origem, Metricas metricas,
+                                                ContextoExecucao contexto) {
+        try (Cronometro c = metricas.iniciarFase(Fase.BELLMAN_FORD)) {
+            return calcularMedindo(grafo, origem, metricas, contexto);
+        }
+    }
+
+    /**
+     * Igual a {@link #calcular(Grafo, Vertice, Metricas, ContextoExecucao)}, mas
+     * renumerando os vértices antes (ex: RCM) e relaxando as arestas sobre os
+     * vetores da forma compacta, vértice por vértice. O resultado é o mesmo mapa
+     * por Vertice; só o padrão de acesso à memória muda.
+     */
+    @SuppressWarnings("try")
+    public static Map<Vertice, Double> calcular(Grafo grafo, Vertice origem, Metricas metricas,
+                                                ContextoExecucao contexto, Reordenacao reordenacao) {
+        if (reordenacao == Reordenacao.NENHUMA) {
+            return calcular(grafo, origem, metricas, contexto);
+        }
+        try (Cronometro c = metricas.iniciarFase(Fase.BELLMAN_FORD)) {
+            GrafoCompacto compacto = reordenacao.aplicar(grafo);
+            try {
+                return paraMapa(compacto, calcularMedindo(compacto, compacto.getIndice(origem), metricas, contexto));
+            } catch (ExecucaoInterrompidaException e) {
+                // O resultado parcial também volta para o formato por Vertice
+                throw new ExecucaoInterrompidaException(e.getMessage(), e.getMotivo(),
+                        paraMapa(compacto, (double[]) e.getResultadoParcial()));
+            }
+        }
+    }
+
+    /**
+     * Executa o algoritmo de Bellman-Ford sobre um grafo indexado (forma compacta
+     * ou comprimida), percorrendo as arestas de cada vértice em sequência.
+     *
+     * @param origem Índice do vértice de origem
+     * @return As distâncias, indexadas como os vértices do grafo
+     * @throws IllegalArgumentException se o grafo contiver ciclo de peso negativo
+     */
+    @SuppressWarnings("try")
+    public static double[] calcular(GrafoIndexado grafo, int origem, Metricas metricas, ContextoExecucao contexto) {
+        try (Cronometro c = metricas.iniciarFase(Fase.BELLMAN_FORD)) {
+            return calcularMedindo(grafo, origem, metricas, contexto);
+        }
+    }
+
+    private static double[] calcularMedindo(GrafoIndexado grafo, int origem, Metricas metricas,
+                                            ContextoExecucao contexto) {
+        int numVertices = grafo.getNumVertices();
+        IteradorVizinhos vizinhos = grafo.novoIterador();
+
+        double[] distancia = new double[numVertices];
+        Arrays.fill(distancia, Double.POSITIVE_INFINITY);
+        distancia[origem] = 0.0;
+
+        for (int i = 1; i <= numVertices - 1; i++) {
+            if (contexto.deveParar()) {
+                return contexto.interromper(distancia, "Bellman-Ford", i - 1, numVertices - 1);
+            }
+            boolean houveAtualizacao = false;
+            long efetivos = 0;
+            for (int u = 0; u < numVertices; u++) {
+                double du = distancia[u];
+                if (du == Double.POSITIVE_INFINITY) {
+                    continue; // Nenhuma aresta de u pode relaxar
+                }
+                vizinhos.iniciar(u);
+                while (vizinhos.proximo()) {
+                    int v = vizinhos.getDestino();
+                    double candidata = du + vizinhos.getPeso();
+                    if (candidata < distancia[v]) {
+                        distancia[v] = candidata;
+                        houveAtualizacao = true;
+                        efetivos++;
+                    }
+                }
+            }
+            metricas.incrementar(Contador.RODADAS_BELLMAN_FORD, 1);
+            metricas.incrementar(Contador.RELAXAMENTOS, grafo.getNumArestas());
+            metricas.incrementar(Contador.RELAXAMENTOS_EFETIVOS, efetivos);
+            contexto.reportarProgresso("bellman-ford", i, numVertices - 1);
+            if (!houveAtualizacao) break;
+        }
+
+        for (int u = 0; u < numVertices; u++) {
+            vizinhos.iniciar(u);
+            while (vizinhos.proximo()) {
+                if (distancia[u] + vizinhos.getPeso() < distancia[vizinhos.getDestino()]) {
+                    throw new IllegalArgumentException("Grafo contém ciclo de peso negativo!");
+                }
+            }
+        }
+
+        return distancia;
+    }
+
+    private static Map<Vertice, Double> paraMapa(GrafoIndexado grafo, double[] distancias) {
+        Map<Vertice, Double> mapa = new HashMap<>();
+        for (int i = 0; i < distancias.length; i++) {
+            mapa.put(grafo.getVertice(i), distancias[i]);
+        }
+        return mapa;
+    }
+
+    private static Map<Vertice, Double> calcularMedindo(Grafo grafo, Vertice origem, Metricas metricas,
+                                                        ContextoExecucao contexto) {
         Map<Vertice, Double> distancia = new HashMap<>();
         Map<Vertice, Vertice> predecessor = new HashMap<>();
 
@@ -33,7 +169,11 @@ public class BellmanFord {
         int numVertices = grafo.getNumVertices();
 
         for (int i = 1; i <= numVertices - 1; i++) {
+            if (contexto.deveParar()) {
+                return contexto.interromper(distancia, "Bellman-Ford", i - 1, numVertices - 1);
+            }
             boolean houveAtualizacao = false;
+            long efetivos = 0;
             for (Aresta a : arestas) {
                 Vertice u = a.getOrigem();
                 Vertice v = a.getDestino();
@@ -43,8 +183,13 @@ public class BellmanFord {
                     distancia.put(v, distancia.get(u) + peso);
                     predecessor.put(v, u);
                     houveAtualizacao = true;
+                    efetivos++;
                 }
             }
+            metricas.incrementar(Contador.RODADAS_BELLMAN_FORD, 1);
+            metricas.incrementar(Contador.RELAXAMENTOS, arestas.size());
+            metricas.incrementar(Contador.RELAXAMENTOS_EFETIVOS, efetivos);
+            contexto.reportarProgresso("bellman-ford", i, numVertices - 1);
             if (!houveAtualizacao) break;
         }
 
@@ -58,11 +203,6 @@ public class BellmanFord {
             }
         }
 
-        System.out.println("Resultados do Bellman-Ford a partir de " + origem + ":");
-        for (Vertice v : grafo.getVertices()) {
-            System.out.printf(" - %s: distância = %.2f\n", v.getRotulo(), distancia.get(v));
-        }
-
         return distancia;
     }
 }
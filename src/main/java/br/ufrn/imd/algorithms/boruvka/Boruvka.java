@@ -0,0 +1,138 @@
+package br.ufrn.imd.algorithms.boruvka;
+
+import br.ufrn.imd.Aresta;
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.uniao_busca.UniaoBusca;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Implementação do Algoritmo de Borůvka para a Árvore Geradora Mínima.
+ * * A cada rodada, cada componente escolhe sua aresta mais leve para fora e
+ * todas as escolhidas são unidas; o número de componentes pelo menos cai pela
+ * metade, então há O(log V) rodadas de O(E). A busca da aresta mais leve de
+ * cada vértice é independente, então roda em paralelo em grafos grandes.
+ * Empates são desfeitos por (peso, menor índice, maior índice), o que evita ciclos.
+ * Em grafos desconexos devolve a floresta geradora mínima.
+ */
+public class Boruvka {
+
+    /**
+     * Abaixo disso a busca das arestas mais leves é feita em uma única thread.
+     */
+    private static final int MINIMO_VERTICES_PARALELO = 1 << 14;
+
+    /**
+     * @param grafo Grafo não-direcionado
+     * @return As arestas da floresta geradora mínima
+     * @throws IllegalArgumentException se o grafo for direcionado
+     */
+    public static List<Aresta> calcular(Grafo grafo) {
+        if (grafo.isDirecionado()) {
+            throw new IllegalArgumentException("O Algoritmo de Borůvka é para grafos não-direcionados.");
+        }
+
+        List<Vertice> vertices = new ArrayList<>(grafo.getVertices());
+        int n = vertices.size();
+        Map<Vertice, Integer> indicePorVertice = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            indicePorVertice.put(vertices.get(i), i);
+        }
+
+        // Adjacência em vetores: arestas de saída de i em [inicio[i], inicio[i+1])
+        int[] inicio = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            inicio[i + 1] = inicio[i] + grafo.getArestasVizinhas(vertices.get(i)).size();
+        }
+        Aresta[] arestas = new Aresta[inicio[n]];
+        int[] destinos = new int[inicio[n]];
+        for (int i = 0; i < n; i++) {
+            int pos = inicio[i];
+            for (Aresta a : grafo.getArestasVizinhas(vertices.get(i))) {
+                arestas[pos] = a;
+                destinos[pos] = indicePorVertice.get(a.getDestino());
+                pos++;
+            }
+        }
+
+        UniaoBusca uniao = new UniaoBusca(n);
+        int[] componente = new int[n];
+        int[] melhorDoVertice = new int[n];
+        int[] melhorDoComponente = new int[n];
+        int[] origemDaMelhor = new int[n];
+        List<Aresta> mst = new ArrayList<>();
+
+        while (true) {
+            for (int i = 0; i < n; i++) {
+                componente[i] = uniao.buscar(i);
+            }
+
+            // 1. Aresta mais leve de cada vértice para fora do seu componente
+            IntStream busca = IntStream.range(0, n);
+            if (n >= MINIMO_VERTICES_PARALELO) {
+                busca = busca.parallel();
+            }
+            busca.forEach(u -> {
+                int melhor = -1;
+                for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                    if (componente[destinos[e]] != componente[u]
+                            && (melhor < 0 || maisLeve(e, melhor, u, destinos, arestas, u))) {
+                        melhor = e;
+                    }
+                }
+                melhorDoVertice[u] = melhor;
+            });
+
+            // 2. Aresta mais leve de cada componente
+            Arrays.fill(melhorDoComponente, -1);
+            for (int u = 0; u < n; u++) {
+                int e = melhorDoVertice[u];
+                if (e < 0) {
+                    continue;
+                }
+                int c = componente[u];
+                int atual = melhorDoComponente[c];
+                if (atual < 0 || maisLeve(e, atual, u, destinos, arestas, origemDaMelhor[c])) {
+                    melhorDoComponente[c] = e;
+                    origemDaMelhor[c] = u;
+                }
+            }
+
+            // 3. União (a verificação de unir() descarta a mesma aresta escolhida pelos dois lados)
+            boolean uniu = false;
+            for (int c = 0; c < n; c++) {
+                int e = melhorDoComponente[c];
+                if (e >= 0 && uniao.unir(origemDaMelhor[c], destinos[e])) {
+                    mst.add(arestas[e]);
+                    uniu = true;
+                }
+            }
+            if (!uniu) {
+                return mst; // Nenhum componente tem aresta para fora: floresta completa
+            }
+        }
+    }
+
+    /**
+     * Compara a aresta e (saindo de u) com a aresta f (saindo de origemF) pela
+     * ordem total (peso, menor índice, maior índice).
+     */
+    private static boolean maisLeve(int e, int f, int u, int[] destinos, Aresta[] arestas, int origemF) {
+        int c = Double.compare(arestas[e].getPeso(), arestas[f].getPeso());
+        if (c != 0) {
+            return c < 0;
+        }
+        int menorE = Math.min(u, destinos[e]);
+        int menorF = Math.min(origemF, destinos[f]);
+        if (menorE != menorF) {
+            return menorE < menorF;
+        }
+        return Math.max(u, destinos[e]) < Math.max(origemF, destinos[f]);
+    }
+}
@@ -0,0 +1,243 @@
+package br.ufrn.imd.algorithms.busca_largura;
+
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.GrafoCompacto;
+import br.ufrn.imd.Vertice;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+  - Distâncias em número de saltos entre todos os pares de vértices de um
+    grafo não-ponderado, com uma busca em largura (BFS) por origem.
+  - As origens são processadas em paralelo, em blocos; cada bloco reaproveita
+    seus próprios vetores de bits (fronteira, próxima fronteira e visitados).
+  - Cada BFS é "direction-optimizing" (Beamer et al.): começa top-down
+    (a fronteira visita seus vizinhos) e troca para bottom-up (cada vértice
+    não visitado procura um pai na fronteira) quando a fronteira fica grande.
+  - Complexidade: O(V · (V + E)), contra O(V³) do Floyd-Warshall.
+ */
+public class BuscaLarguraTodosPares {
+
+    /**
+     * Valor usado na matriz quando não há caminho entre os vértices.
+     */
+    public static final int SEM_CAMINHO = -1;
+
+    // Parâmetros da heurística de troca de direção (valores sugeridos por Beamer)
+    private static final int ALFA = 14;
+    private static final int BETA = 24;
+
+    // Origens processadas por tarefa paralela (com um único rascunho alocado por tarefa)
+    private static final int ORIGENS_POR_TAREFA = 64;
+
+    /**
+     Resultado contendo:
+        - Uma linha de distâncias (em saltos) por vértice de origem, em short
+          quando V cabe em um short, e em int caso contrário
+        - Mapeamento de índices para vértices
+     */
+    public static class Resultado {
+        private final short[][] linhasCurtas;
+        private final int[][] linhas;
+        private final List<Vertice> verticesPorIndice;
+        private final Map<Vertice, Integer> indicePorVertice;
+
+        private Resultado(short[][] linhasCurtas, int[][] linhas, List<Vertice> verticesPorIndice,
+                          Map<Vertice, Integer> indicePorVertice) {
+            this.linhasCurtas = linhasCurtas;
+            this.linhas = linhas;
+            this.verticesPorIndice = verticesPorIndice;
+            this.indicePorVertice = indicePorVertice;
+        }
+
+        public List<Vertice> getVerticesPorIndice() {
+            return verticesPorIndice;
+        }
+
+        public Map<Vertice, Integer> getIndicePorVertice() {
+            return indicePorVertice;
+        }
+
+        // Retorna o número de saltos do caminho mínimo, ou SEM_CAMINHO.
+        public int getDistancia(Vertice origem, Vertice destino) {
+            Integer i = indicePorVertice.get(origem);
+            Integer j = indicePorVertice.get(destino);
+            if (i == null || j == null) {
+                return SEM_CAMINHO;
+            }
+            return getDistancia(i, j);
+        }
+
+        public int getDistancia(int i, int j) {
+            return linhasCurtas != null ? linhasCurtas[i][j] : linhas[i][j];
+        }
+    }
+
+    /**
+     * Vetores de trabalho de uma tarefa, reaproveitados entre as origens do bloco.
+     */
+    private static class Rascunho {
+        long[] fronteira;
+        long[] proxima;
+        long[] visitados;
+        int[] distancias;
+
+        Rascunho(int n) {
+            int palavras = (n + 63) >>> 6;
+            fronteira = new long[palavras];
+            proxima = new long[palavras];
+            visitados = new long[palavras];
+            distancias = new int[n];
+        }
+    }
+
+    /**
+     * Calcula as distâncias em saltos entre todos os pares.
+     * Os pesos das arestas são ignorados (use Grafo.isNaoPonderado() para
+     * saber se isso equivale aos caminhos mínimos ponderados).
+     *
+     * @param grafo O grafo (pode ser direcionado ou não)
+     * @return Resultado com as distâncias em saltos
+     */
+    public static Resultado calcular(Grafo grafo) {
+        return calcular(GrafoCompacto.de(grafo));
+    }
+
+    public static Resultado calcular(GrafoCompacto grafo) {
+        int n = grafo.getNumVertices();
+        GrafoCompacto entrada = grafo.transposto();
+        boolean curto = n <= Short.MAX_VALUE;
+
+        short[][] linhasCurtas = curto ? new short[n][] : null;
+        int[][] linhas = curto ? null : new int[n][];
+
+        // O rascunho é alocado por bloco de origens, e não guardado por thread:
+        // nada fica preso às threads do pool comum depois do cálculo
+        int numTarefas = (n + ORIGENS_POR_TAREFA - 1) / ORIGENS_POR_TAREFA;
+        IntStream.range(0, numTarefas).parallel().forEach(tarefa -> {
+            Rascunho r = new Rascunho(n);
+            int fim = Math.min(n, (tarefa + 1) * ORIGENS_POR_TAREFA);
+            for (int origem = tarefa * ORIGENS_POR_TAREFA; origem < fim; origem++) {
+                buscar(grafo, entrada, origem, r);
+
+                int[] distancias = r.distancias;
+                if (curto) {
+                    short[] linha = new short[n];
+                    for (int j = 0; j < n; j++) {
+                        linha[j] = (short) distancias[j];
+                    }
+                    linhasCurtas[origem] = linha;
+                } else {
+                    linhas[origem] = distancias.clone();
+                }
+            }
+        });
+
+        return new Resultado(linhasCurtas, linhas, grafo.getVerticesPorIndice(), grafo.getIndicePorVertice());
+    }
+
+    /**
+     * BFS a partir de uma origem, deixando as distâncias em r.distancias.
+     */
+    private static void buscar(GrafoCompacto saida, GrafoCompacto entrada, int origem, Rascunho r) {
+        int n = saida.getNumVertices();
+        int[] inicio = saida.getInicio();
+        int[] destinos = saida.getDestinos();
+        int[] inicioEntrada = entrada.getInicio();
+        int[] origensEntrada = entrada.getDestinos();
+        int[] distancias = r.distancias;
+
+        Arrays.fill(distancias, SEM_CAMINHO);
+        Arrays.fill(r.fronteira, 0L);
+        Arrays.fill(r.visitados, 0L);
+
+        distancias[origem] = 0;
+        marcar(r.visitados, origem);
+        marcar(r.fronteira, origem);
+
+        long tamanhoFronteira = 1;
+        long arestasFronteira = saida.grau(origem);
+        long arestasRestantes = saida.getNumArestas() - arestasFronteira;
+        boolean bottomUp = false;
+        int nivel = 0;
+
+        while (tamanhoFronteira > 0) {
+            nivel++;
+
+            // Heurística de troca de direção
+            if (!bottomUp && arestasFronteira > arestasRestantes / ALFA) {
+                bottomUp = true;
+            } else if (bottomUp && tamanhoFronteira < n / BETA) {
+                bottomUp = false;
+            }
+
+            long[] fronteira = r.fronteira;
+            long[] proxima = r.proxima;
+            long[] visitados = r.visitados;
+            Arrays.fill(proxima, 0L);
+            long novos = 0;
+            long arestasNovos = 0;
+
+            if (!bottomUp) {
+                // Top-down: cada vértice da fronteira visita seus vizinhos
+                for (int w = 0; w < fronteira.length; w++) {
+                    long bits = fronteira[w];
+                    while (bits != 0) {
+                        int u = (w << 6) + Long.numberOfTrailingZeros(bits);
+                        bits &= bits - 1;
+                        for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                            int v = destinos[e];
+                            if (!marcado(visitados, v)) {
+                                marcar(visitados, v);
+                                marcar(proxima, v);
+                                distancias[v] = nivel;
+                                novos++;
+                                arestasNovos += saida.grau(v);
+                            }
+                        }
+                    }
+                }
+            } else {
+                // Bottom-up: cada vértice não visitado procura um pai na fronteira
+                for (int w = 0; w < visitados.length; w++) {
+                    long bits = ~visitados[w];
+                    if (w == visitados.length - 1 && (n & 63) != 0) {
+                        bits &= (1L << (n & 63)) - 1;
+                    }
+                    while (bits != 0) {
+                        int v = (w << 6) + Long.numberOfTrailingZeros(bits);
+                        bits &= bits - 1;
+                        for (int e = inicioEntrada[v]; e < inicioEntrada[v + 1]; e++) {
+                            if (marcado(fronteira, origensEntrada[e])) {
+                                marcar(visitados, v);
+                                marcar(proxima, v);
+                                distancias[v] = nivel;
+                                novos++;
+                                arestasNovos += saida.grau(v);
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+
+            // A próxima fronteira passa a ser a atual
+            r.fronteira = proxima;
+            r.proxima = fronteira;
+            tamanhoFronteira = novos;
+            arestasFronteira = arestasNovos;
+            arestasRestantes -= arestasNovos;
+        }
+    }
+
+    private static void marcar(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    private static boolean marcado(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+}
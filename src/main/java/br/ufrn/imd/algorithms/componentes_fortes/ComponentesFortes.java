@@ -0,0 +1,164 @@
+package br.ufrn.imd.algorithms.componentes_fortes;
+
+import br.ufrn.imd.GrafoCompacto;
+
+import java.util.Arrays;
+
+/**
+ * Componentes fortemente conexas pelo algoritmo de Tarjan, em versão iterativa
+ * (uma pilha explícita no lugar da recursão, para não estourar a pilha da JVM
+ * em grafos grandes).
+ * * As componentes saem numeradas em ordem topológica do grafo condensado:
+ * toda aresta entre componentes diferentes vai de uma componente de número
+ * menor para uma de número maior.
+ * Em grafos não-direcionados as componentes são as componentes conexas.
+ * Complexidade: O(V + E).
+ */
+public class ComponentesFortes {
+
+    /**
+     * Componente de cada vértice e os vértices de cada componente.
+     */
+    public static class Resultado {
+        private final int[] componente;
+        private final int[] inicio;
+        private final int[] membros;
+
+        public Resultado(int[] componente, int[] inicio, int[] membros) {
+            this.componente = componente;
+            this.inicio = inicio;
+            this.membros = membros;
+        }
+
+        public int getNumComponentes() {
+            return inicio.length - 1;
+        }
+
+        /**
+         * Número (ordem topológica) da componente do vértice de índice v.
+         */
+        public int getComponente(int v) {
+            return componente[v];
+        }
+
+        public int getTamanho(int c) {
+            return inicio[c + 1] - inicio[c];
+        }
+
+        public int getTamanhoMaiorComponente() {
+            int maior = 0;
+            for (int c = 0; c < getNumComponentes(); c++) {
+                maior = Math.max(maior, getTamanho(c));
+            }
+            return maior;
+        }
+
+        /**
+         * Os vértices da componente c ficam em membros[inicio[c] .. inicio[c+1]-1],
+         * em ordem crescente de índice (tamanho: número de componentes + 1).
+         */
+        public int[] getInicio() {
+            return inicio;
+        }
+
+        /**
+         * Todos os vértices, agrupados por componente na ordem topológica.
+         * Serve de ordem para {@link GrafoCompacto#reordenado(int[])}.
+         */
+        public int[] getMembros() {
+            return membros;
+        }
+    }
+
+    /**
+     * Calcula as componentes fortemente conexas.
+     *
+     * @param grafo Forma compacta do grafo (direcionado ou não)
+     */
+    public static Resultado calcular(GrafoCompacto grafo) {
+        int n = grafo.getNumVertices();
+        int[] inicioArestas = grafo.getInicio();
+        int[] destinos = grafo.getDestinos();
+
+        int[] ordemVisita = new int[n];
+        Arrays.fill(ordemVisita, -1);
+        int[] menor = new int[n];
+        boolean[] naPilha = new boolean[n];
+        int[] pilha = new int[n];
+        int topoPilha = 0;
+
+        // Pilha de chamadas: vértice e a próxima aresta a examinar
+        int[] chamadas = new int[n];
+        int[] proximaAresta = new int[n];
+        int topoChamadas = 0;
+
+        // Tarjan fecha as componentes em ordem topológica inversa (sumidouros primeiro)
+        int[] fechamento = new int[n];
+        int numComponentes = 0;
+        int contador = 0;
+
+        for (int raiz = 0; raiz < n; raiz++) {
+            if (ordemVisita[raiz] >= 0) {
+                continue;
+            }
+            ordemVisita[raiz] = menor[raiz] = contador++;
+            pilha[topoPilha++] = raiz;
+            naPilha[raiz] = true;
+            chamadas[topoChamadas] = raiz;
+            proximaAresta[topoChamadas++] = inicioArestas[raiz];
+
+            while (topoChamadas > 0) {
+                int v = chamadas[topoChamadas - 1];
+                int e = proximaAresta[topoChamadas - 1];
+                if (e < inicioArestas[v + 1]) {
+                    proximaAresta[topoChamadas - 1]++;
+                    int w = destinos[e];
+                    if (ordemVisita[w] < 0) {
+                        ordemVisita[w] = menor[w] = contador++;
+                        pilha[topoPilha++] = w;
+                        naPilha[w] = true;
+                        chamadas[topoChamadas] = w;
+                        proximaAresta[topoChamadas++] = inicioArestas[w];
+                    } else if (naPilha[w]) {
+                        menor[v] = Math.min(menor[v], ordemVisita[w]);
+                    }
+                    continue;
+                }
+
+                // Todas as arestas de v examinadas: "retorna" da chamada
+                topoChamadas--;
+                if (menor[v] == ordemVisita[v]) {
+                    int w;
+                    do {
+                        w = pilha[--topoPilha];
+                        naPilha[w] = false;
+                        fechamento[w] = numComponentes;
+                    } while (w != v);
+                    numComponentes++;
+                }
+                if (topoChamadas > 0) {
+                    int pai = chamadas[topoChamadas - 1];
+                    menor[pai] = Math.min(menor[pai], menor[v]);
+                }
+            }
+        }
+
+        // Numeração topológica e membros agrupados por componente (contagem)
+        int[] componente = new int[n];
+        int[] inicio = new int[numComponentes + 1];
+        for (int v = 0; v < n; v++) {
+            componente[v] = numComponentes - 1 - fechamento[v];
+            inicio[componente[v] + 1]++;
+        }
+        for (int c = 0; c < numComponentes; c++) {
+            inicio[c + 1] += inicio[c];
+        }
+        int[] cursor = Arrays.copyOf(inicio, numComponentes);
+        int[] membros = new int[n];
+        for (int v = 0; v < n; v++) {
+            membros[cursor[componente[v]]++] = v;
+        }
+
+        return new Resultado(componente, inicio, membros);
+    }
+}
@@ -0,0 +1,489 @@
+package br.ufrn.imd.algorithms.componentes_fortes;
+
+import br.ufrn.imd.ArestasSemPeso;
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.GrafoCompacto;
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.floyd_warshall.FloydWarshall;
+import br.ufrn.imd.execucao.ContextoExecucao;
+import br.ufrn.imd.metricas.Contador;
+import br.ufrn.imd.metricas.Cronometro;
+import br.ufrn.imd.metricas.Fase;
+import br.ufrn.imd.metricas.Metricas;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+/**
+ * Caminhos mínimos entre todos os pares decompondo o grafo em componentes
+ * fortemente conexas, em vez de uma única matriz n×n.
+ * * 1. Tarjan separa as componentes, numeradas em ordem topológica, e os
+ *      vértices são renumerados para que cada componente ocupe uma faixa contígua.
+ * 2. Um caminho mínimo entre dois vértices da mesma componente nunca sai dela,
+ *      então cada componente tem o seu Floyd-Warshall (cᵢ×cᵢ), todos em paralelo.
+ * 3. As distâncias entre componentes diferentes são calculadas sob demanda,
+ *      uma linha por origem: as componentes são percorridas em ordem topológica,
+ *      entrando pelas arestas vindas de componentes anteriores e atravessando
+ *      cada uma pela sua matriz. Cada linha calculada fica guardada.
+ * Custo: Σcᵢ³ para as componentes e O(E + Σcᵢ²) por linha pedida, no lugar dos
+ * n³ do Floyd-Warshall; a memória fixa é Σcᵢ². Aceita pesos negativos, mas não
+ * ciclos negativos (que só existem dentro de uma componente). As arestas sem peso
+ * explícito são ignoradas pela mesma regra do Floyd-Warshall ({@link ArestasSemPeso}).
+ */
+public class TodosParesPorComponentes {
+
+    // Abaixo disso o custo de dividir o trabalho entre threads não compensa
+    private static final int MINIMO_VERTICES_PARALELO = 256;
+
+    /**
+     * Matrizes das componentes, arestas entre componentes e as linhas já calculadas.
+     */
+    public static class Resultado {
+        private final List<Vertice> verticesPorIndice;
+        private final Map<Vertice, Integer> indicePorVertice;
+
+        /**
+         * Componente de cada índice e faixa de índices de cada componente.
+         */
+        private final int[] componente;
+        private final int[] inicioComponente;
+
+        /**
+         * Distâncias e predecessores (índices globais) dentro de cada componente,
+         * em matrizes cᵢ×cᵢ achatadas.
+         */
+        private final double[][] distanciasInternas;
+        private final int[][] predecessoresInternos;
+
+        /**
+         * Arestas de entrada vindas de outras componentes, por vértice de destino.
+         */
+        private final int[] inicioEntradas;
+        private final int[] origensEntradas;
+        private final double[] pesosEntradas;
+
+        private final AtomicReferenceArray<Linha> linhas;
+
+        Resultado(List<Vertice> verticesPorIndice, Map<Vertice, Integer> indicePorVertice,
+                  int[] componente, int[] inicioComponente,
+                  double[][] distanciasInternas, int[][] predecessoresInternos,
+                  int[] inicioEntradas, int[] origensEntradas, double[] pesosEntradas) {
+            this.verticesPorIndice = verticesPorIndice;
+            this.indicePorVertice = indicePorVertice;
+            this.componente = componente;
+            this.inicioComponente = inicioComponente;
+            this.distanciasInternas = distanciasInternas;
+            this.predecessoresInternos = predecessoresInternos;
+            this.inicioEntradas = inicioEntradas;
+            this.origensEntradas = origensEntradas;
+            this.pesosEntradas = pesosEntradas;
+            this.linhas = new AtomicReferenceArray<>(verticesPorIndice.size());
+        }
+
+        public List<Vertice> getVerticesPorIndice() {
+            return verticesPorIndice;
+        }
+
+        public Map<Vertice, Integer> getIndicePorVertice() {
+            return indicePorVertice;
+        }
+
+        public int getNumComponentes() {
+            return inicioComponente.length - 1;
+        }
+
+        /**
+         * Vértices da componente c (as componentes seguem a ordem topológica).
+         */
+        public List<Vertice> getVerticesDaComponente(int c) {
+            return verticesPorIndice.subList(inicioComponente[c], inicioComponente[c + 1]);
+        }
+
+        public int getTamanhoMaiorComponente() {
+            int maior = 0;
+            for (int c = 0; c < getNumComponentes(); c++) {
+                maior = Math.max(maior, inicioComponente[c + 1] - inicioComponente[c]);
+            }
+            return maior;
+        }
+
+        /**
+         * Retorna a distância mínima do vértice origem ao vértice destino.
+         * Pares da mesma componente (ou sem caminho possível na ordem topológica)
+         * são respondidos direto; os demais calculam e guardam a linha da origem.
+         */
+        public double getDistancia(Vertice origem, Vertice destino) {
+            Integer i = indicePorVertice.get(origem);
+            Integer j = indicePorVertice.get(destino);
+            if (i == null || j == null) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return getDistancia(i, j);
+        }
+
+        public double getDistancia(int i, int j) {
+            int ci = componente[i];
+            int cj = componente[j];
+            if (ci == cj) {
+                int base = inicioComponente[ci];
+                int tamanho = inicioComponente[ci + 1] - base;
+                return distanciasInternas[ci][(i - base) * tamanho + (j - base)];
+            }
+            if (cj < ci) {
+                return Double.POSITIVE_INFINITY;
+            }
+            Linha linha = linha(i);
+            return linha.distancias[j - linha.base];
+        }
+
+        /**
+         * Reconstrói o caminho mínimo de origem até destino.
+         *
+         * @return Os vértices do caminho, ou uma lista vazia se não houver caminho
+         */
+        public List<Vertice> reconstruirCaminho(Vertice origem, Vertice destino) {
+            Integer i = indicePorVertice.get(origem);
+            Integer j = indicePorVertice.get(destino);
+            List<Vertice> caminho = new ArrayList<>();
+            if (i == null || j == null || getDistancia(i, j) == Double.POSITIVE_INFINITY) {
+                return caminho;
+            }
+            for (int v = j; v != i; v = predecessor(i, v)) {
+                caminho.add(verticesPorIndice.get(v));
+            }
+            caminho.add(verticesPorIndice.get(i));
+            Collections.reverse(caminho);
+            return caminho;
+        }
+
+        /**
+         * Monta as matrizes n×n completas (todas as linhas, em paralelo), no
+         * formato do Floyd-Warshall. Usa a memória que este resultado evita:
+         * serve para imprimir ou para quem precisa das matrizes.
+         */
+        public FloydWarshall.Resultado paraFloydWarshall() {
+            int n = verticesPorIndice.size();
+            double[][] dist = new double[n][];
+            Vertice[][] pred = new Vertice[n][];
+            faixa(n, n >= MINIMO_VERTICES_PARALELO).forEach(i -> {
+                // Linhas que ainda não foram pedidas não ficam guardadas
+                Linha guardada = linhas.get(i);
+                Linha linha = guardada != null ? guardada : calcularLinha(i);
+                double[] distLinha = new double[n];
+                Vertice[] predLinha = new Vertice[n];
+                Arrays.fill(distLinha, 0, linha.base, Double.POSITIVE_INFINITY);
+                for (int j = linha.base; j < n; j++) {
+                    distLinha[j] = linha.distancias[j - linha.base];
+                    if (distLinha[j] != Double.POSITIVE_INFINITY) {
+                        predLinha[j] = verticesPorIndice.get(linha.predecessores[j - linha.base]);
+                    }
+                }
+                dist[i] = distLinha;
+                pred[i] = predLinha;
+            });
+            return new FloydWarshall.Resultado(dist, pred, verticesPorIndice, indicePorVertice);
+        }
+
+        private int predecessor(int i, int j) {
+            int ci = componente[i];
+            if (ci == componente[j]) {
+                int base = inicioComponente[ci];
+                int tamanho = inicioComponente[ci + 1] - base;
+                return predecessoresInternos[ci][(i - base) * tamanho + (j - base)];
+            }
+            Linha linha = linha(i);
+            return linha.predecessores[j - linha.base];
+        }
+
+        /**
+         * Linha da origem i, calculada na primeira vez. Duas threads podem
+         * calcular a mesma linha ao mesmo tempo; o resultado é o mesmo e só um fica.
+         */
+        private Linha linha(int i) {
+            Linha linha = linhas.get(i);
+            if (linha == null) {
+                linha = calcularLinha(i);
+                if (!linhas.compareAndSet(i, null, linha)) {
+                    linha = linhas.get(i);
+                }
+            }
+            return linha;
+        }
+
+        /**
+         * Distâncias de i a todos os vértices das componentes a partir da sua
+         * (as anteriores na ordem topológica são inalcançáveis).
+         */
+        private Linha calcularLinha(int i) {
+            int n = verticesPorIndice.size();
+            int origem = componente[i];
+            int base = inicioComponente[origem];
+            double[] dist = new double[n - base];
+            int[] pred = new int[n - base];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            Arrays.fill(pred, -1);
+
+            // Componente da origem: a própria matriz
+            int tamanhoOrigem = inicioComponente[origem + 1] - base;
+            for (int t = 0; t < tamanhoOrigem; t++) {
+                dist[t] = distanciasInternas[origem][(i - base) * tamanhoOrigem + t];
+                pred[t] = predecessoresInternos[origem][(i - base) * tamanhoOrigem + t];
+            }
+
+            double[] entrada = new double[0];
+            int[] origemEntrada = new int[0];
+            for (int c = origem + 1; c < getNumComponentes(); c++) {
+                int inicio = inicioComponente[c];
+                int tamanho = inicioComponente[c + 1] - inicio;
+                if (entrada.length < tamanho) {
+                    entrada = new double[tamanho];
+                    origemEntrada = new int[tamanho];
+                }
+
+                // Melhor forma de chegar a cada vértice da componente vindo de fora dela
+                boolean alcancada = false;
+                for (int v = 0; v < tamanho; v++) {
+                    double melhor = Double.POSITIVE_INFINITY;
+                    int de = -1;
+                    for (int e = inicioEntradas[inicio + v]; e < inicioEntradas[inicio + v + 1]; e++) {
+                        int u = origensEntradas[e];
+                        if (u >= base && dist[u - base] != Double.POSITIVE_INFINITY
+                                && dist[u - base] + pesosEntradas[e] < melhor) {
+                            melhor = dist[u - base] + pesosEntradas[e];
+                            de = u;
+                        }
+                    }
+                    entrada[v] = melhor;
+                    origemEntrada[v] = de;
+                    alcancada |= de >= 0;
+                }
+                if (!alcancada) {
+                    continue;
+                }
+
+                // Atravessa a componente: d(t) = min sobre as entradas v de entrada(v) + dentro(v, t)
+                double[] dentro = distanciasInternas[c];
+                int[] predDentro = predecessoresInternos[c];
+                for (int v = 0; v < tamanho; v++) {
+                    if (origemEntrada[v] < 0) {
+                        continue;
+                    }
+                    for (int t = 0; t < tamanho; t++) {
+                        double candidata = entrada[v] + dentro[v * tamanho + t];
+                        if (dentro[v * tamanho + t] != Double.POSITIVE_INFINITY
+                                && candidata < dist[inicio + t - base]) {
+                            dist[inicio + t - base] = candidata;
+                            pred[inicio + t - base] = v == t ? origemEntrada[v] : predDentro[v * tamanho + t];
+                        }
+                    }
+                }
+            }
+            return new Linha(base, dist, pred);
+        }
+    }
+
+    /**
+     * Distâncias e predecessores de uma origem, a partir do índice base.
+     */
+    private static final class Linha {
+        final int base;
+        final double[] distancias;
+        final int[] predecessores;
+
+        Linha(int base, double[] distancias, int[] predecessores) {
+            this.base = base;
+            this.distancias = distancias;
+            this.predecessores = predecessores;
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException se o grafo contiver ciclo de peso negativo
+     */
+    public static Resultado calcular(Grafo grafo) {
+        return calcular(grafo, Metricas.NENHUMA);
+    }
+
+    /**
+     * Calcula as componentes e as suas matrizes, registrando tempo e pivôs nas métricas.
+     *
+     * @throws IllegalArgumentException se o grafo contiver ciclo de peso negativo
+     */
+    public static Resultado calcular(Grafo grafo, Metricas metricas) {
+        return calcular(grafo, metricas, ContextoExecucao.ilimitado());
+    }
+
+    /**
+     * Como o anterior, consultando o contexto antes de cada componente. Se for
+     * interrompido, as componentes que faltavam ficam só com as arestas diretas,
+     * como no Floyd-Warshall parado antes dos pivôs restantes.
+     *
+     * @throws IllegalArgumentException se o grafo contiver ciclo de peso negativo
+     */
+    @SuppressWarnings("try")
+    public static Resultado calcular(Grafo grafo, Metricas metricas, ContextoExecucao contexto) {
+        try (Cronometro c = metricas.iniciarFase(Fase.FLOYD_WARSHALL)) {
+            // Sem a informação de pesos no grafo, todas as arestas ficam de fora, como no Floyd-Warshall
+            return calcular(GrafoCompacto.comPesosExplicitos(grafo, new ArrayList<>(grafo.getVertices())),
+                    metricas, contexto);
+        }
+    }
+
+    private static Resultado calcular(GrafoCompacto original, Metricas metricas, ContextoExecucao contexto) {
+        // PASSO 1: componentes em ordem topológica, cada uma numa faixa contígua de índices
+        ComponentesFortes.Resultado componentes = ComponentesFortes.calcular(original);
+        GrafoCompacto grafo = original.reordenado(componentes.getMembros());
+        int n = grafo.getNumVertices();
+        int numComponentes = componentes.getNumComponentes();
+        int[] inicioComponente = componentes.getInicio();
+        int[] componente = new int[n];
+        for (int c = 0; c < numComponentes; c++) {
+            Arrays.fill(componente, inicioComponente[c], inicioComponente[c + 1], c);
+        }
+        int maior = componentes.getTamanhoMaiorComponente();
+        if ((long) maior * maior > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Componente grande demais para uma matriz: " + maior + " vértices");
+        }
+
+        // PASSO 2: Floyd-Warshall de cada componente, em paralelo
+        double[][] distancias = new double[numComponentes][];
+        int[][] predecessores = new int[numComponentes][];
+        boolean[] calculada = new boolean[numComponentes];
+        AtomicInteger concluidas = new AtomicInteger();
+        faixa(numComponentes, n >= MINIMO_VERTICES_PARALELO).forEach(c -> {
+            int inicio = inicioComponente[c];
+            int tamanho = inicioComponente[c + 1] - inicio;
+            double[] dist = new double[tamanho * tamanho];
+            int[] pred = new int[tamanho * tamanho];
+            iniciarComponente(grafo, inicio, tamanho, dist, pred);
+            distancias[c] = dist;
+            predecessores[c] = pred;
+            if (contexto.deveParar()) {
+                return;
+            }
+            relaxarComponente(tamanho, dist, pred);
+            calculada[c] = true;
+            // O ouvinte não é thread-safe: um relatório por vez
+            synchronized (concluidas) {
+                contexto.reportarProgresso("floyd-warshall-scc", concluidas.incrementAndGet(), numComponentes);
+            }
+        });
+        long pivos = 0;
+        long relaxamentos = 0;
+        for (int c = 0; c < numComponentes; c++) {
+            if (!calculada[c]) {
+                continue;
+            }
+            int tamanho = inicioComponente[c + 1] - inicioComponente[c];
+            pivos += tamanho;
+            relaxamentos += (long) tamanho * tamanho * tamanho;
+            for (int v = 0; v < tamanho; v++) {
+                if (distancias[c][v * tamanho + v] < 0) {
+                    throw new IllegalArgumentException(
+                        "Grafo contém ciclo de peso negativo passando pelo vértice "
+                        + grafo.getVertice(inicioComponente[c] + v).getRotulo());
+                }
+            }
+        }
+
+        metricas.incrementar(Contador.PIVOS_FLOYD_WARSHALL, pivos);
+        metricas.incrementar(Contador.RELAXAMENTOS, relaxamentos);
+
+        // PASSO 3: arestas entre componentes, agrupadas pelo destino
+        int[] inicio = grafo.getInicio();
+        int[] destinos = grafo.getDestinos();
+        double[] pesos = grafo.getPesos();
+        int[] inicioEntradas = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                if (componente[destinos[e]] != componente[u]) {
+                    inicioEntradas[destinos[e] + 1]++;
+                }
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            inicioEntradas[v + 1] += inicioEntradas[v];
+        }
+        int[] cursor = Arrays.copyOf(inicioEntradas, n);
+        int[] origensEntradas = new int[inicioEntradas[n]];
+        double[] pesosEntradas = new double[inicioEntradas[n]];
+        for (int u = 0; u < n; u++) {
+            for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                if (componente[destinos[e]] != componente[u]) {
+                    int pos = cursor[destinos[e]]++;
+                    origensEntradas[pos] = u;
+                    pesosEntradas[pos] = pesos[e];
+                }
+            }
+        }
+
+        Resultado resultado = new Resultado(grafo.getVerticesPorIndice(), grafo.getIndicePorVertice(), componente,
+                inicioComponente, distancias, predecessores, inicioEntradas, origensEntradas, pesosEntradas);
+        if (concluidas.get() < numComponentes) {
+            return contexto.interromper(resultado, "Floyd-Warshall por componentes", concluidas.get(), numComponentes);
+        }
+        return resultado;
+    }
+
+    /**
+     * Matrizes iniciais da componente [inicio, inicio + tamanho): só as arestas internas.
+     * Os predecessores são índices globais (-1 sem caminho).
+     */
+    private static void iniciarComponente(GrafoCompacto grafo, int inicio, int tamanho,
+                                          double[] dist, int[] pred) {
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(pred, -1);
+        for (int i = 0; i < tamanho; i++) {
+            dist[i * tamanho + i] = 0.0;
+            pred[i * tamanho + i] = inicio + i;
+        }
+        int[] inicioArestas = grafo.getInicio();
+        int[] destinos = grafo.getDestinos();
+        double[] pesos = grafo.getPesos();
+        for (int i = 0; i < tamanho; i++) {
+            int u = inicio + i;
+            for (int e = inicioArestas[u]; e < inicioArestas[u + 1]; e++) {
+                int j = destinos[e] - inicio;
+                if (j >= 0 && j < tamanho && pesos[e] < dist[i * tamanho + j]) {
+                    dist[i * tamanho + j] = pesos[e];
+                    pred[i * tamanho + j] = u;
+                }
+            }
+        }
+    }
+
+    /**
+     * Floyd-Warshall sobre as matrizes já iniciadas de uma componente.
+     */
+    private static void relaxarComponente(int tamanho, double[] dist, int[] pred) {
+        // Ordem i-k-j: a linha do pivô é lida em sequência para cada i
+        for (int k = 0; k < tamanho; k++) {
+            int linhaK = k * tamanho;
+            for (int i = 0; i < tamanho; i++) {
+                double dik = dist[i * tamanho + k];
+                if (dik == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                int linhaI = i * tamanho;
+                for (int j = 0; j < tamanho; j++) {
+                    double dkj = dist[linhaK + j];
+                    if (dkj != Double.POSITIVE_INFINITY && dik + dkj < dist[linhaI + j]) {
+                        dist[linhaI + j] = dik + dkj;
+                        pred[linhaI + j] = pred[linhaK + j];
+                    }
+                }
+            }
+        }
+    }
+
+    private static IntStream faixa(int tamanho, boolean paralelo) {
+        IntStream faixa = IntStream.range(0, tamanho);
+        return paralelo ? faixa.parallel() : faixa;
+    }
+}
@@ -0,0 +1,66 @@
+package br.ufrn.imd.algorithms.dijkstra;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import br.ufrn.imd.Aresta;
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.fila_prioridade.FilaPrioridade;
+
+/**
+ * Implementação do Algoritmo de Dijkstra para caminhos mínimos a partir de uma origem.
+ * - Exige pesos não-negativos (para pesos negativos, use Bellman-Ford).
+ * - A fila de prioridade é escolhida pelo grafo: baldes de Dial ou heap radix
+ *   quando os pesos são inteiros, heap binário caso contrário.
+ */
+public class Dijkstra {
+
+    /**
+     * Executa o algoritmo de Dijkstra.
+     *
+     * @param grafo   Grafo (pode ser direcionado ou não)
+     * @param origem  Vértice de origem
+     * @return Um mapa com as menores distâncias do vértice de origem a cada vértice
+     * @throws IllegalArgumentException se o grafo contiver aresta de peso negativo
+     */
+    public static Map<Vertice, Double> calcular(Grafo grafo, Vertice origem) {
+        for (Aresta a : grafo.getTodasArestas()) {
+            if (a.getPeso() < 0) {
+                throw new IllegalArgumentException("Dijkstra não aceita arestas de peso negativo: " + a);
+            }
+        }
+
+        Map<Vertice, Double> distancia = new HashMap<>();
+        FilaPrioridade fila = FilaPrioridade.criar(grafo, true);
+
+        for (Vertice v : grafo.getVertices()) {
+            distancia.put(v, Double.POSITIVE_INFINITY);
+        }
+        distancia.put(origem, 0.0);
+
+        for (Vertice v : grafo.getVertices()) {
+            fila.inserir(v, distancia.get(v));
+        }
+
+        while (!fila.isEmpty()) {
+            Vertice u = fila.extrairMin();
+            double distanciaU = distancia.get(u);
+            if (distanciaU == Double.POSITIVE_INFINITY) {
+                break; // O restante da fila é inalcançável
+            }
+
+            for (Aresta a : grafo.getArestasVizinhas(u)) {
+                Vertice v = a.getDestino();
+                double novaDistancia = distanciaU + a.getPeso();
+
+                if (fila.contem(v) && novaDistancia < distancia.get(v)) {
+                    distancia.put(v, novaDistancia);
+                    fila.decreaseKey(v, novaDistancia);
+                }
+            }
+        }
+
+        return distancia;
+    }
+}
@@ -0,0 +1,49 @@
+package br.ufrn.imd.algorithms.fila_prioridade;
+
+/**
+ * Lista duplamente encadeada intrusiva de nós com inserção e remoção em O(1).
+ */
+class Balde {
+    private NoFila cabeca;
+
+    void adicionar(NoFila no) {
+        no.balde = this;
+        no.anterior = null;
+        no.proximo = cabeca;
+        if (cabeca != null) {
+            cabeca.anterior = no;
+        }
+        cabeca = no;
+    }
+
+    void remover(NoFila no) {
+        if (no.anterior != null) {
+            no.anterior.proximo = no.proximo;
+        } else {
+            cabeca = no.proximo;
+        }
+        if (no.proximo != null) {
+            no.proximo.anterior = no.anterior;
+        }
+        no.anterior = null;
+        no.proximo = null;
+        no.balde = null;
+    }
+
+    /**
+     * Remove e retorna todos os nós do balde (a lista fica vazia).
+     */
+    NoFila esvaziar() {
+        NoFila primeiro = cabeca;
+        cabeca = null;
+        return primeiro;
+    }
+
+    NoFila primeiro() {
+        return cabeca;
+    }
+
+    boolean isEmpty() {
+        return cabeca == null;
+    }
+}
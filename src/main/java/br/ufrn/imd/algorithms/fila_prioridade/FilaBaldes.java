@@ -0,0 +1,147 @@
+package br.ufrn.imd.algorithms.fila_prioridade;
+
+import br.ufrn.imd.Vertice;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fila de baldes de Dial para chaves inteiras não-negativas.
+ *
+ * Usa um vetor circular de C+1 baldes, onde C é o maior peso de aresta.
+ * Enquanto todas as chaves finitas estiverem no intervalo
+ * [chaveAtual, chaveAtual + C], cada balde guarda exatamente uma chave:
+ * - Em Dijkstra as chaves extraídas nunca diminuem, então o intervalo só anda para frente.
+ * - Em Prim as chaves são pesos de aresta (entre 0 e C), então cabem sempre.
+ * Inserção e decreaseKey são O(1); extrairMin percorre no máximo C+1 baldes.
+ */
+public class FilaBaldes implements FilaPrioridade {
+
+    private final Balde[] baldes;
+
+    // Vértices com chave infinita ficam fora do vetor circular
+    private final Balde infinitos;
+
+    // Mapeia um Vértice para o seu nó (e, através dele, para o seu balde)
+    private final Map<Vertice, NoFila> nos;
+
+    // Limite inferior para a menor chave finita da fila
+    private long chaveAtual;
+    private int tamanhoFinito;
+
+    /**
+     * @param numBaldes Quantidade de baldes (peso máximo + 1).
+     */
+    public FilaBaldes(int numBaldes) {
+        if (numBaldes <= 0) {
+            throw new IllegalArgumentException("Número de baldes deve ser positivo");
+        }
+        this.baldes = new Balde[numBaldes];
+        for (int i = 0; i < numBaldes; i++) {
+            baldes[i] = new Balde();
+        }
+        this.infinitos = new Balde();
+        this.nos = new HashMap<>();
+        this.chaveAtual = 0;
+        this.tamanhoFinito = 0;
+    }
+
+    @Override
+    public void inserir(Vertice vertice, double chave) {
+        NoFila no = new NoFila(vertice, converter(chave));
+        nos.put(vertice, no);
+        posicionar(no);
+    }
+
+    @Override
+    public Vertice extrairMin() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Fila está vazia");
+        }
+
+        NoFila no;
+        if (tamanhoFinito > 0) {
+            // Avança o cursor até o primeiro balde não vazio
+            while (baldes[indice(chaveAtual)].isEmpty()) {
+                chaveAtual++;
+            }
+            Balde balde = baldes[indice(chaveAtual)];
+            no = balde.primeiro();
+            balde.remover(no);
+            tamanhoFinito--;
+        } else {
+            no = infinitos.primeiro();
+            infinitos.remover(no);
+        }
+
+        nos.remove(no.vertice);
+        return no.vertice;
+    }
+
+    @Override
+    public void decreaseKey(Vertice vertice, double novaChave) {
+        NoFila no = nos.get(vertice);
+        if (no == null) {
+            return; // Vértice não está na fila
+        }
+
+        long chave = converter(novaChave);
+        if (chave >= no.chave) {
+            return; // Nova chave não é menor
+        }
+
+        if (no.balde == infinitos) {
+            infinitos.remover(no);
+        } else {
+            no.balde.remover(no);
+            tamanhoFinito--;
+        }
+        no.chave = chave;
+        posicionar(no);
+    }
+
+    @Override
+    public boolean contem(Vertice v) {
+        return nos.containsKey(v);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return nos.isEmpty();
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private void posicionar(NoFila no) {
+        if (no.chave == Long.MAX_VALUE) {
+            infinitos.adicionar(no);
+            return;
+        }
+
+        if (tamanhoFinito == 0 || no.chave < chaveAtual) {
+            // Prim pode trazer chaves menores que a última extraída
+            chaveAtual = no.chave;
+        }
+        if (no.chave - chaveAtual >= baldes.length) {
+            throw new IllegalArgumentException("Chave " + no.chave + " fora do alcance dos "
+                    + baldes.length + " baldes a partir de " + chaveAtual);
+        }
+
+        baldes[indice(no.chave)].adicionar(no);
+        tamanhoFinito++;
+    }
+
+    private int indice(long chave) {
+        return (int) (chave % baldes.length);
+    }
+
+    static long converter(double chave) {
+        if (chave == Double.POSITIVE_INFINITY) {
+            return Long.MAX_VALUE;
+        }
+        if (chave < 0 || chave != Math.rint(chave)) {
+            throw new IllegalArgumentException("Chave deve ser inteira e não-negativa: " + chave);
+        }
+        return (long) chave;
+    }
+}
@@ -0,0 +1,73 @@
+package br.ufrn.imd.algorithms.fila_prioridade;
+
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.prim.HeapBinarioMin;
+import br.ufrn.imd.metricas.Metricas;
+
+/**
+ * Fila de prioridade mínima indexada por vértice, com suporte a decreaseKey.
+ * É a interface usada por Prim e Dijkstra para trocar a estrutura interna
+ * (heap binário, baldes de Dial ou heap radix) sem mudar o algoritmo.
+ */
+public interface FilaPrioridade {
+
+    /**
+     * Maior número de baldes que aceitamos alocar para a fila de Dial.
+     * Acima disso o heap radix (ou o heap binário) compensa mais.
+     */
+    int LIMITE_BALDES = 1 << 16;
+
+    /**
+     * Insere um novo vértice na fila com uma chave (peso).
+     */
+    void inserir(Vertice vertice, double chave);
+
+    /**
+     * Remove e retorna o vértice com a menor chave.
+     */
+    Vertice extrairMin();
+
+    /**
+     * Diminui a chave de um vértice que já está na fila.
+     */
+    void decreaseKey(Vertice vertice, double novaChave);
+
+    /**
+     * Verifica se a fila contém um determinado vértice.
+     */
+    boolean contem(Vertice v);
+
+    boolean isEmpty();
+
+    /**
+     * Escolhe a fila mais adequada para o grafo.
+     * - Pesos inteiros não-negativos e peso máximo pequeno: baldes de Dial.
+     * - Pesos inteiros não-negativos, extrações monótonas (Dijkstra): heap radix.
+     * - Caso contrário: heap binário.
+     *
+     * @param grafo    O grafo que será processado
+     * @param monotona true se as chaves extraídas nunca diminuem (Dijkstra),
+     *                 false se podem diminuir (Prim)
+     */
+    static FilaPrioridade criar(Grafo grafo, boolean monotona) {
+        return criar(grafo, monotona, Metricas.NENHUMA);
+    }
+
+    /**
+     * Igual a {@link #criar(Grafo, boolean)}; se o heap binário for escolhido,
+     * ele registra suas trocas nas métricas.
+     */
+    static FilaPrioridade criar(Grafo grafo, boolean monotona, Metricas metricas) {
+        if (grafo.temPesosInteirosNaoNegativos()) {
+            double pesoMaximo = grafo.getPesoMaximo();
+            if (pesoMaximo < LIMITE_BALDES) {
+                return new FilaBaldes((int) pesoMaximo + 1);
+            }
+            if (monotona) {
+                return new HeapRadix();
+            }
+        }
+        return new HeapBinarioMin(metricas);
+    }
+}
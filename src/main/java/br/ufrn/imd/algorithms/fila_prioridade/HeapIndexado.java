@@ -0,0 +1,127 @@
+package br.ufrn.imd.algorithms.fila_prioridade;
+
+import java.util.Arrays;
+
+/**
+ * Heap binário mínimo indexado pelos inteiros 0..n-1, em vetores primitivos.
+ * * É a versão sem objetos de HeapBinarioMin, para algoritmos que já trabalham
+ * com índices densos (ex: Johnson sobre GrafoCompacto). Pode ser reutilizado
+ * entre execuções com limpar(), que custa só o número de elementos tocados.
+ */
+public class HeapIndexado {
+
+    private final int[] heap;        // heap[p] = elemento na posição p
+    private final int[] posicao;     // posicao[v] = posição de v no heap, ou -1
+    private final double[] chaves;
+    private int tamanho;
+
+    public HeapIndexado(int n) {
+        heap = new int[n];
+        posicao = new int[n];
+        chaves = new double[n];
+        Arrays.fill(posicao, -1);
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    public boolean contem(int v) {
+        return posicao[v] >= 0;
+    }
+
+    /**
+     * Chave atual de v (ou a última que ele teve, se já foi extraído).
+     */
+    public double getChave(int v) {
+        return chaves[v];
+    }
+
+    /**
+     * Insere v com a chave dada, ou diminui sua chave se ele já estiver no heap
+     * e a nova for menor.
+     *
+     * @return true se v foi inserido ou teve a chave diminuída
+     */
+    public boolean inserirOuDiminuir(int v, double chave) {
+        int p = posicao[v];
+        if (p < 0) {
+            p = tamanho++;
+            heap[p] = v;
+            posicao[v] = p;
+        } else if (chave >= chaves[v]) {
+            return false;
+        }
+        chaves[v] = chave;
+        subir(p);
+        return true;
+    }
+
+    /**
+     * Remove e retorna o elemento de menor chave.
+     */
+    public int extrairMin() {
+        if (tamanho == 0) {
+            throw new IllegalStateException("Heap está vazio");
+        }
+        int minimo = heap[0];
+        posicao[minimo] = -1;
+        tamanho--;
+        if (tamanho > 0) {
+            heap[0] = heap[tamanho];
+            posicao[heap[0]] = 0;
+            descer(0);
+        }
+        return minimo;
+    }
+
+    /**
+     * Esvazia o heap para ser reutilizado.
+     */
+    public void limpar() {
+        for (int p = 0; p < tamanho; p++) {
+            posicao[heap[p]] = -1;
+        }
+        tamanho = 0;
+    }
+
+    private void subir(int p) {
+        int v = heap[p];
+        double chave = chaves[v];
+        while (p > 0) {
+            int pai = (p - 1) >>> 1;
+            int u = heap[pai];
+            if (chaves[u] <= chave) {
+                break;
+            }
+            heap[p] = u;
+            posicao[u] = p;
+            p = pai;
+        }
+        heap[p] = v;
+        posicao[v] = p;
+    }
+
+    private void descer(int p) {
+        int v = heap[p];
+        double chave = chaves[v];
+        while (true) {
+            int filho = 2 * p + 1;
+            if (filho >= tamanho) {
+                break;
+            }
+            if (filho + 1 < tamanho && chaves[heap[filho + 1]] < chaves[heap[filho]]) {
+                filho++;
+            }
+            int u = heap[filho];
+            if (chaves[u] >= chave) {
+                break;
+            }
+            heap[p] = u;
+            posicao[u] = p;
+            p = filho;
+        }
+        heap[p] = v;
+        posicao[v] = p;
+    }
+}
@@ -0,0 +1,149 @@
+package br.ufrn.imd.algorithms.fila_prioridade;
+
+import br.ufrn.imd.Vertice;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Heap radix monótono para chaves inteiras não-negativas.
+ *
+ * Só pode ser usado quando as chaves extraídas nunca diminuem (Dijkstra).
+ * O balde de uma chave k é dado pelo bit mais significativo em que k difere
+ * da última chave extraída; cada nó só desce de balde, o que dá decreaseKey
+ * em O(1) e extrairMin em O(log C) amortizado.
+ */
+public class HeapRadix implements FilaPrioridade {
+
+    // Balde 0 guarda chaves iguais à última extraída; balde i (1..64) as que
+    // diferem dela pela primeira vez no bit i-1
+    private final Balde[] baldes;
+
+    // Vértices com chave infinita ficam fora dos baldes
+    private final Balde infinitos;
+
+    private final Map<Vertice, NoFila> nos;
+
+    // Última chave extraída
+    private long ultima;
+    private int tamanhoFinito;
+
+    public HeapRadix() {
+        this.baldes = new Balde[Long.SIZE + 1];
+        for (int i = 0; i < baldes.length; i++) {
+            baldes[i] = new Balde();
+        }
+        this.infinitos = new Balde();
+        this.nos = new HashMap<>();
+        this.ultima = 0;
+        this.tamanhoFinito = 0;
+    }
+
+    @Override
+    public void inserir(Vertice vertice, double chave) {
+        NoFila no = new NoFila(vertice, FilaBaldes.converter(chave));
+        nos.put(vertice, no);
+        posicionar(no);
+    }
+
+    @Override
+    public Vertice extrairMin() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Heap está vazio");
+        }
+
+        NoFila no;
+        if (tamanhoFinito > 0) {
+            if (baldes[0].isEmpty()) {
+                redistribuir();
+            }
+            no = baldes[0].primeiro();
+            baldes[0].remover(no);
+            tamanhoFinito--;
+        } else {
+            no = infinitos.primeiro();
+            infinitos.remover(no);
+        }
+
+        nos.remove(no.vertice);
+        return no.vertice;
+    }
+
+    @Override
+    public void decreaseKey(Vertice vertice, double novaChave) {
+        NoFila no = nos.get(vertice);
+        if (no == null) {
+            return; // Vértice não está no heap
+        }
+
+        long chave = FilaBaldes.converter(novaChave);
+        if (chave >= no.chave) {
+            return; // Nova chave não é menor
+        }
+
+        if (no.balde == infinitos) {
+            infinitos.remover(no);
+        } else {
+            no.balde.remover(no);
+            tamanhoFinito--;
+        }
+        no.chave = chave;
+        posicionar(no);
+    }
+
+    @Override
+    public boolean contem(Vertice v) {
+        return nos.containsKey(v);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return nos.isEmpty();
+    }
+
+    // --- Métodos Auxiliares do Heap ---
+
+    private void posicionar(NoFila no) {
+        if (no.chave == Long.MAX_VALUE) {
+            infinitos.adicionar(no);
+            return;
+        }
+        if (no.chave < ultima) {
+            throw new IllegalArgumentException("Heap radix é monótono: chave " + no.chave
+                    + " menor que a última extraída (" + ultima + ")");
+        }
+        baldes[indice(no.chave)].adicionar(no);
+        tamanhoFinito++;
+    }
+
+    /**
+     * Encontra o primeiro balde não vazio, adota sua menor chave como a nova
+     * "última" e redistribui seus nós, que caem todos em baldes menores.
+     */
+    private void redistribuir() {
+        int i = 1;
+        while (baldes[i].isEmpty()) {
+            i++;
+        }
+
+        long menor = Long.MAX_VALUE;
+        for (NoFila no = baldes[i].primeiro(); no != null; no = no.proximo) {
+            menor = Math.min(menor, no.chave);
+        }
+        ultima = menor;
+
+        NoFila no = baldes[i].esvaziar();
+        while (no != null) {
+            NoFila proximo = no.proximo;
+            baldes[indice(no.chave)].adicionar(no);
+            no = proximo;
+        }
+    }
+
+    private int indice(long chave) {
+        if (chave == ultima) {
+            return 0;
+        }
+        return Long.SIZE - Long.numberOfLeadingZeros(chave ^ ultima);
+    }
+}
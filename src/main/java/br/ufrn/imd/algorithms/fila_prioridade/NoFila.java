@@ -0,0 +1,20 @@
+package br.ufrn.imd.algorithms.fila_prioridade;
+
+import br.ufrn.imd.Vertice;
+
+/**
+ * Nó das filas baseadas em baldes. Cada nó sabe em qual balde está,
+ * o que permite removê-lo (e portanto fazer decreaseKey) em O(1).
+ */
+class NoFila {
+    final Vertice vertice;
+    long chave; // Long.MAX_VALUE representa chave infinita
+    Balde balde;
+    NoFila anterior;
+    NoFila proximo;
+
+    NoFila(Vertice vertice, long chave) {
+        this.vertice = vertice;
+        this.chave = chave;
+    }
+}
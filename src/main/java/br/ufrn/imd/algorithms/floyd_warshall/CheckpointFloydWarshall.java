@@ -0,0 +1,200 @@
+package br.ufrn.imd.algorithms.floyd_warshall;
+
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.cache.HashGrafo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Checkpoints periódicos do Floyd-Warshall, para retomar execuções longas.
+ * * O pivô k depende apenas das matrizes após o pivô k-1, então basta guardar
+ * as matrizes de distâncias e predecessores e o próximo k. O arquivo é
+ * comprimido (gzip) e tem o formato:
+ * mágico, versão, hash do grafo, n, k, n rótulos, n² distâncias (double) e n²
+ * predecessores (índice do vértice, ou -1). O hash ({@link HashGrafo}: tipo,
+ * arestas e pesos) impede retomar com um grafo que tem os mesmos rótulos mas
+ * outras arestas. Cada gravação vai para um arquivo temporário que
+ * depois substitui o anterior, então um checkpoint nunca fica pela metade.
+ */
+public class CheckpointFloydWarshall {
+
+    static final int MAGICO = 0x46574350; // "FWCP"
+    static final int VERSAO = 2;
+
+    /**
+     * Intervalo padrão entre gravações.
+     */
+    public static final Duration INTERVALO_PADRAO = Duration.ofMinutes(5);
+
+    private final Path arquivo;
+    private final int intervaloPivos;
+    private final long intervaloNanos;
+
+    /**
+     * @param arquivo        Onde gravar (e de onde retomar) o checkpoint
+     * @param intervaloPivos Grava a cada tantos pivôs (0 para não usar esse critério)
+     * @param intervaloTempo Grava quando tiver passado esse tempo desde a última gravação (ou null)
+     */
+    public CheckpointFloydWarshall(Path arquivo, int intervaloPivos, Duration intervaloTempo) {
+        if (intervaloPivos < 0) {
+            throw new IllegalArgumentException("Intervalo de pivôs não pode ser negativo: " + intervaloPivos);
+        }
+        if (intervaloPivos == 0 && intervaloTempo == null) {
+            throw new IllegalArgumentException("Informe um intervalo em pivôs ou em tempo");
+        }
+        this.arquivo = arquivo;
+        this.intervaloPivos = intervaloPivos;
+        this.intervaloNanos = intervaloTempo == null ? Long.MAX_VALUE : intervaloTempo.toNanos();
+    }
+
+    /**
+     * Checkpoint gravado a cada {@link #INTERVALO_PADRAO}.
+     */
+    public static CheckpointFloydWarshall padrao(Path arquivo) {
+        return new CheckpointFloydWarshall(arquivo, 0, INTERVALO_PADRAO);
+    }
+
+    public Path getArquivo() {
+        return arquivo;
+    }
+
+    public boolean existe() {
+        return Files.exists(arquivo);
+    }
+
+    /**
+     * Decide se é hora de gravar, dado o que passou desde a última gravação.
+     */
+    boolean deveGravar(int pivosDesdeUltimo, long nanosDesdeUltimo) {
+        return (intervaloPivos > 0 && pivosDesdeUltimo >= intervaloPivos) || nanosDesdeUltimo >= intervaloNanos;
+    }
+
+    /**
+     * Grava o estado antes do pivô k (os pivôs 0..k-1 já foram processados).
+     *
+     * @param hashGrafo Hash do grafo de entrada (ver {@link HashGrafo#calcular})
+     */
+    void gravar(double[][] dist, Vertice[][] pred, List<Vertice> vertices,
+                Map<Vertice, Integer> indicePorVertice, String hashGrafo, int k) throws IOException {
+        int n = vertices.size();
+        Path diretorio = arquivo.toAbsolutePath().getParent();
+        Files.createDirectories(diretorio);
+        Path temporario = Files.createTempFile(diretorio, "fw", ".tmp");
+        try {
+            try (DataOutputStream saida = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temporario), 1 << 16)))) {
+                saida.writeInt(MAGICO);
+                saida.writeInt(VERSAO);
+                saida.writeUTF(hashGrafo);
+                saida.writeInt(n);
+                saida.writeInt(k);
+                for (Vertice v : vertices) {
+                    saida.writeUTF(v.getRotulo());
+                }
+
+                // Uma linha por vez, convertida em bloco (bem mais rápido que writeDouble a cada valor)
+                ByteBuffer linha = ByteBuffer.allocate(n * Double.BYTES);
+                for (int i = 0; i < n; i++) {
+                    linha.clear();
+                    linha.asDoubleBuffer().put(dist[i]);
+                    saida.write(linha.array(), 0, n * Double.BYTES);
+                }
+                for (int i = 0; i < n; i++) {
+                    linha.clear();
+                    for (int j = 0; j < n; j++) {
+                        linha.putInt(pred[i][j] == null ? -1 : indicePorVertice.get(pred[i][j]));
+                    }
+                    saida.write(linha.array(), 0, n * Integer.BYTES);
+                }
+            }
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+    }
+
+    /**
+     * Estado lido de um checkpoint.
+     */
+    static class Estado {
+        final String hashGrafo;
+        final List<String> rotulos;
+        final double[][] dist;
+        final int[][] pred;
+        final int k;
+
+        Estado(String hashGrafo, List<String> rotulos, double[][] dist, int[][] pred, int k) {
+            this.hashGrafo = hashGrafo;
+            this.rotulos = rotulos;
+            this.dist = dist;
+            this.pred = pred;
+            this.k = k;
+        }
+    }
+
+    /**
+     * Lê o checkpoint gravado.
+     *
+     * @throws IOException se o arquivo não existir, estiver corrompido ou for de outra versão
+     */
+    Estado ler() throws IOException {
+        try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(arquivo), 1 << 16)))) {
+            if (entrada.readInt() != MAGICO) {
+                throw new IOException("Arquivo não é um checkpoint do Floyd-Warshall: " + arquivo);
+            }
+            int versao = entrada.readInt();
+            if (versao != VERSAO) {
+                throw new IOException("Versão de checkpoint não suportada: " + versao);
+            }
+            String hashGrafo = entrada.readUTF();
+            int n = entrada.readInt();
+            int k = entrada.readInt();
+            if (n < 0 || k < 0 || k > n) {
+                throw new IOException("Checkpoint corrompido (n=" + n + ", k=" + k + ")");
+            }
+
+            List<String> rotulos = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                rotulos.add(entrada.readUTF());
+            }
+
+            byte[] bytes = new byte[n * Double.BYTES];
+            ByteBuffer linha = ByteBuffer.wrap(bytes);
+            double[][] dist = new double[n][n];
+            for (int i = 0; i < n; i++) {
+                entrada.readFully(bytes, 0, n * Double.BYTES);
+                linha.clear();
+                linha.asDoubleBuffer().get(dist[i]);
+            }
+            int[][] pred = new int[n][n];
+            for (int i = 0; i < n; i++) {
+                entrada.readFully(bytes, 0, n * Integer.BYTES);
+                linha.clear();
+                linha.asIntBuffer().get(pred[i]);
+            }
+            return new Estado(hashGrafo, rotulos, dist, pred, k);
+        }
+    }
+
+    /**
+     * Remove o checkpoint (chamado quando a execução termina).
+     */
+    void apagar() throws IOException {
+        Files.deleteIfExists(arquivo);
+    }
+}
@@ -1,20 +1,28 @@
 package br.ufrn.imd.algorithms.floyd_warshall;
 
 import br.ufrn.imd.Aresta;
+import br.ufrn.imd.ArestasSemPeso;
 import br.ufrn.imd.Grafo;
 import br.ufrn.imd.Vertice;
-import guru.nidi.graphviz.model.MutableGraph;
-import guru.nidi.graphviz.model.MutableNode;
-import guru.nidi.graphviz.parse.Parser;
+import br.ufrn.imd.algorithms.reordenacao.Reordenacao;
+import br.ufrn.imd.cache.HashGrafo;
+import br.ufrn.imd.execucao.ContextoExecucao;
+import br.ufrn.imd.metricas.Contador;
+import br.ufrn.imd.metricas.Cronometro;
+import br.ufrn.imd.metricas.Fase;
+import br.ufrn.imd.metricas.Metricas;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.function.Predicate;
 
 /**
   - Implementação do Algoritmo de Floyd-Warshall para calcular os caminhos mínimos 
@@ -29,18 +37,47 @@ public class FloydWarshall {
         - Matriz de predecessores para reconstruir os caminhos
         - Mapeamento de índices para vértices
      */
-    public static class Resultado {
+    public static class Resultado implements Serializable {
+        private static final long serialVersionUID = 3L;
+
         private final double[][] distancias;
         private final Vertice[][] predecessores;
-        private final List<Vertice> verticesPorIndice;
-        private final Map<Vertice, Integer> indicePorVertice;
+
+        // Serializados como um vetor de vértices; o mapa é refeito a partir dele
+        private transient List<Vertice> verticesPorIndice;
+        private transient Map<Vertice, Integer> indicePorVertice;
+
+        // Pivôs já processados (igual ao número de vértices quando o resultado está completo)
+        private final int pivosConcluidos;
 
         public Resultado(double[][] distancias, Vertice[][] predecessores,
                         List<Vertice> verticesPorIndice, Map<Vertice, Integer> indicePorVertice) {
+            this(distancias, predecessores, verticesPorIndice, indicePorVertice, verticesPorIndice.size());
+        }
+
+        /**
+         * Resultado possivelmente parcial: as distâncias consideram apenas os
+         * primeiros pivosConcluidos vértices como intermediários.
+         */
+        public Resultado(double[][] distancias, Vertice[][] predecessores,
+                        List<Vertice> verticesPorIndice, Map<Vertice, Integer> indicePorVertice,
+                        int pivosConcluidos) {
             this.distancias = distancias;
             this.predecessores = predecessores;
             this.verticesPorIndice = verticesPorIndice;
             this.indicePorVertice = indicePorVertice;
+            this.pivosConcluidos = pivosConcluidos;
+        }
+
+        public int getPivosConcluidos() {
+            return pivosConcluidos;
+        }
+
+        /**
+         * @return false se a execução foi interrompida antes do último pivô.
+         */
+        public boolean isCompleto() {
+            return pivosConcluidos == verticesPorIndice.size();
         }
 
         public double[][] getDistancias() {
@@ -59,6 +96,21 @@ public class FloydWarshall {
             return indicePorVertice;
         }
 
+        private void writeObject(ObjectOutputStream saida) throws IOException {
+            saida.defaultWriteObject();
+            saida.writeObject(verticesPorIndice.toArray(new Vertice[0]));
+        }
+
+        private void readObject(ObjectInputStream entrada) throws IOException, ClassNotFoundException {
+            entrada.defaultReadObject();
+            Vertice[] vertices = (Vertice[]) entrada.readObject();
+            verticesPorIndice = List.of(vertices);
+            indicePorVertice = new HashMap<>();
+            for (int i = 0; i < vertices.length; i++) {
+                indicePorVertice.put(vertices[i], i);
+            }
+        }
+
         //Retorna a distância mínima do vértice origem ao vértice destino.
         public double getDistancia(Vertice origem, Vertice destino) {
             Integer i = indicePorVertice.get(origem);
@@ -82,93 +134,218 @@ public class FloydWarshall {
 
     /**
      * Executa o algoritmo de Floyd-Warshall com tratamento especial para arestas sem peso.
-     * 
+     * A informação de quais arestas têm peso explícito vem, nesta ordem: do próprio grafo
+     * ({@link Grafo#getArestasSemPeso()}, preenchido pelo LeitorDOT ou por quem monta
+     * o grafo em código); do arquivo DOT, se o grafo não tiver essa informação; ou,
+     * sem nenhum dos dois, todas as arestas são tratadas como sem peso.
+     *
      * @param grafo O grafo (pode ser direcionado ou não)
      * @param caminhoArquivoDOT Caminho para o arquivo DOT original (opcional).
      *                         Se fornecido, verifica quais arestas têm peso explícito.
-     *                         Se null, usa a lógica padrão (todas as arestas com peso 1.0
-     *                         são tratadas como sem peso explícito).
      * @return Resultado contendo a matriz de distâncias e predecessores
+     * @throws UncheckedIOException se o arquivo DOT precisar ser lido e não puder
      */
     public static Resultado calcular(Grafo grafo, String caminhoArquivoDOT) {
-        List<Vertice> vertices = new ArrayList<>(grafo.getVertices());
-        int n = vertices.size();
+        return calcular(grafo, caminhoArquivoDOT, Metricas.NENHUMA);
+    }
 
-        Map<Vertice, Integer> indicePorVertice = new HashMap<>();
-        for (int i = 0; i < n; i++) {
-            indicePorVertice.put(vertices.get(i), i);
-        }
+    /**
+     * Executa o algoritmo de Floyd-Warshall registrando nas métricas o tempo da
+     * inicialização e dos relaxamentos, e, a cada pivô, os relaxamentos feitos.
+     */
+    public static Resultado calcular(Grafo grafo, String caminhoArquivoDOT, Metricas metricas) {
+        return calcular(grafo, caminhoArquivoDOT, metricas, ContextoExecucao.ilimitado());
+    }
 
-        // DETECTAR ARESTAS COM PESO EXPLÍCITO
-        // Lê o arquivo DOT original para identificar quais arestas têm o atributo "weight"
-        // Isso permite distinguir entre arestas com weight=1 (explícito) e arestas sem weight (padrão 1.0)
-        Set<String> arestasComPesoExplicito = new HashSet<>();
-        
-        if (caminhoArquivoDOT != null) {
-            try {
-                arestasComPesoExplicito = detectarArestasComPesoExplicito(caminhoArquivoDOT);
-            } catch (IOException e) {
-                // Se não conseguir ler o arquivo, usa a lógica de fallback
-                System.err.println("Aviso: Não foi possível ler o arquivo DOT para detectar pesos explícitos: " + e.getMessage());
-            }
-        }
-        
-        // Para arestas sem peso explícito, usamos infinito
-        // Isso significa que essas arestas não devem ser consideradas no cálculo
-        // de caminhos mínimos, a menos que sejam a única opção (mas isso não acontecerá
-        // porque o algoritmo já trata infinito corretamente nas somas)
-        double pesoParaArestasSemPeso = Double.POSITIVE_INFINITY;
-
-        // PASSO 1: INICIALIZAÇÃO DA MATRIZ DE DISTÂNCIAS
-        // dist[i][j] representa a distância mínima do vértice i ao vértice j
-        double[][] dist = new double[n][n];
-        Vertice[][] pred = new Vertice[n][n];
+    /**
+     * Executa o algoritmo de Floyd-Warshall sob um contexto de execução: o progresso
+     * é informado a cada pivô e o cancelamento/prazo é verificado antes de cada um.
+     * Se interrompido, o resultado parcial tem isCompleto() == false e suas distâncias
+     * usam só os pivôs já processados como intermediários (limites superiores).
+     *
+     * @throws br.ufrn.imd.execucao.ExecucaoInterrompidaException se interrompido e a política for LANCAR
+     */
+    public static Resultado calcular(Grafo grafo, String caminhoArquivoDOT, Metricas metricas,
+                                     ContextoExecucao contexto) {
+        return calcular(grafo, caminhoArquivoDOT, metricas, contexto, null);
+    }
 
-        // Inicializar todas as distâncias como infinito
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                dist[i][j] = Double.POSITIVE_INFINITY;
-                pred[i][j] = null;
+    /**
+     * Executa o algoritmo de Floyd-Warshall gravando checkpoints periódicos
+     * (e também ao ser interrompido), para que a execução possa continuar com
+     * {@link #retomar}. O checkpoint é apagado quando o algoritmo termina.
+     *
+     * @param checkpoint Onde e com que frequência gravar (ou null para não gravar)
+     */
+    public static Resultado calcular(Grafo grafo, String caminhoArquivoDOT, Metricas metricas,
+                                     ContextoExecucao contexto, CheckpointFloydWarshall checkpoint) {
+        return calcular(grafo, caminhoArquivoDOT, metricas, contexto, checkpoint, Reordenacao.NENHUMA);
+    }
+
+    /**
+     * Executa o algoritmo de Floyd-Warshall com os índices da matriz na ordem
+     * dada pela reordenação (ex: RCM aproxima vizinhos na matriz).
+     * O resultado continua acessível por Vertice (getDistancia, reconstruirCaminho).
+     */
+    @SuppressWarnings("try")
+    public static Resultado calcular(Grafo grafo, String caminhoArquivoDOT, Metricas metricas,
+                                     ContextoExecucao contexto, CheckpointFloydWarshall checkpoint,
+                                     Reordenacao reordenacao) {
+        List<Vertice> vertices;
+        Map<Vertice, Integer> indicePorVertice;
+        double[][] dist;
+        Vertice[][] pred;
+        try (Cronometro c = metricas.iniciarFase(Fase.FLOYD_WARSHALL_INICIALIZACAO)) {
+            vertices = reordenacao.ordenar(grafo);
+            int n = vertices.size();
+
+            indicePorVertice = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                indicePorVertice.put(vertices.get(i), i);
             }
-        }
 
-        // D[i][i] = 0 (distância de um vértice para si mesmo é zero)
-        // pred[i][i] = i (predecessor de i em relação a si mesmo é i)
-        for (int i = 0; i < n; i++) {
-            dist[i][i] = 0.0;
-            pred[i][i] = vertices.get(i);
-        }
+            // DETECTAR ARESTAS SEM PESO EXPLÍCITO
+            // Isso permite distinguir entre arestas com weight=1 (explícito) e arestas sem weight (padrão 1.0).
+            // A regra é a mesma do Johnson e do Floyd-Warshall por componentes (ver ArestasSemPeso).
+            Predicate<Aresta> semPeso = ArestasSemPeso.resolver(grafo, caminhoArquivoDOT);
 
-        // D[i][j] = w(i,j) se existe aresta (i,j)
-        // Se a aresta tem peso 1.0 E não há pesos explícitos no grafo,
-        // usa um valor muito grande para que só seja usada se não houver alternativa
-        // pred[i][j] = i (predecessor de j em relação a i é i se há aresta direta)
-        for (Aresta aresta : grafo.getTodasArestas()) {
-            Vertice origem = aresta.getOrigem();
-            Vertice destino = aresta.getDestino();
-            double peso = aresta.getPeso();
+            // Para arestas sem peso explícito, usamos infinito
+            // Isso significa que essas arestas não devem ser consideradas no cálculo
+            // de caminhos mínimos, a menos que sejam a única opção (mas isso não acontecerá
+            // porque o algoritmo já trata infinito corretamente nas somas)
+            double pesoParaArestasSemPeso = Double.POSITIVE_INFINITY;
 
-            Integer i = indicePorVertice.get(origem);
-            Integer j = indicePorVertice.get(destino);
+            // PASSO 1: INICIALIZAÇÃO DA MATRIZ DE DISTÂNCIAS
+            // dist[i][j] representa a distância mínima do vértice i ao vértice j
+            dist = new double[n][n];
+            pred = new Vertice[n][n];
 
-            if (i != null && j != null) {
-                // Verifica se esta aresta tem peso explícito no arquivo DOT
-                String chaveAresta = criarChaveAresta(origem.getRotulo(), destino.getRotulo());
-                
-                // Se a aresta não tem peso explícito (não está no conjunto detectado),
-                // trata com valor muito grande para evitar que seja considerada "boa"
-                if (!arestasComPesoExplicito.contains(chaveAresta)) {
-                    peso = pesoParaArestasSemPeso;
+            // Inicializar todas as distâncias como infinito
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    dist[i][j] = Double.POSITIVE_INFINITY;
+                    pred[i][j] = null;
                 }
+            }
+
+            // D[i][i] = 0 (distância de um vértice para si mesmo é zero)
+            // pred[i][i] = i (predecessor de i em relação a si mesmo é i)
+            for (int i = 0; i < n; i++) {
+                dist[i][i] = 0.0;
+                pred[i][i] = vertices.get(i);
+            }
+
+            // D[i][j] = w(i,j) se existe aresta (i,j)
+            // Se a aresta tem peso 1.0 E não há pesos explícitos no grafo,
+            // usa um valor muito grande para que só seja usada se não houver alternativa
+            // pred[i][j] = i (predecessor de j em relação a i é i se há aresta direta)
+            for (Aresta aresta : grafo.getTodasArestas()) {
+                Vertice origem = aresta.getOrigem();
+                Vertice destino = aresta.getDestino();
+                double peso = aresta.getPeso();
+
+                Integer i = indicePorVertice.get(origem);
+                Integer j = indicePorVertice.get(destino);
+
+                if (i != null && j != null) {
+                    // Se a aresta não tem peso explícito, trata com valor infinito
+                    // para evitar que seja considerada "boa"
+                    if (semPeso.test(aresta)) {
+                        peso = pesoParaArestasSemPeso;
+                    }
                 
-                // Se não há caminho direto ou encontramos um caminho mais curto
-                if (dist[i][j] == Double.POSITIVE_INFINITY || peso < dist[i][j]) {
-                    dist[i][j] = peso;
-                    pred[i][j] = origem; // O predecessor de j vindo de i é i
+                    // Se não há caminho direto ou encontramos um caminho mais curto
+                    if (dist[i][j] == Double.POSITIVE_INFINITY || peso < dist[i][j]) {
+                        dist[i][j] = peso;
+                        pred[i][j] = origem; // O predecessor de j vindo de i é i
+                    }
                 }
             }
         }
 
+        // O hash vai no cabeçalho do checkpoint, para recusar a retomada com outro grafo
+        String hashGrafo = checkpoint == null ? null : HashGrafo.calcular(grafo);
+        return executarPivos(dist, pred, vertices, indicePorVertice, 0, metricas, contexto, checkpoint, hashGrafo);
+    }
+
+    /**
+     * Retoma uma execução a partir do último checkpoint gravado, usando os vértices do grafo.
+     *
+     * @param grafo O mesmo grafo da execução original (os rótulos devem coincidir)
+     * @throws IOException se o checkpoint não puder ser lido
+     * @throws IllegalArgumentException se o checkpoint for de outro grafo
+     */
+    public static Resultado retomar(Grafo grafo, CheckpointFloydWarshall checkpoint, Metricas metricas,
+                                    ContextoExecucao contexto) throws IOException {
+        CheckpointFloydWarshall.Estado estado = checkpoint.ler();
+        if (!estado.hashGrafo.equals(HashGrafo.calcular(grafo))) {
+            throw new IllegalArgumentException("O checkpoint " + checkpoint.getArquivo()
+                    + " é de outro grafo (arestas, pesos ou tipo diferentes)");
+        }
+        if (estado.rotulos.size() != grafo.getNumVertices()) {
+            throw new IllegalArgumentException("O checkpoint tem " + estado.rotulos.size()
+                    + " vértices, mas o grafo tem " + grafo.getNumVertices());
+        }
+        List<Vertice> vertices = new ArrayList<>(estado.rotulos.size());
+        for (String rotulo : estado.rotulos) {
+            Vertice v = grafo.getVertice(rotulo);
+            if (v == null) {
+                throw new IllegalArgumentException("Vértice " + rotulo + " do checkpoint não existe no grafo");
+            }
+            vertices.add(v);
+        }
+        return retomar(estado, vertices, checkpoint, metricas, contexto);
+    }
+
+    /**
+     * Retoma uma execução a partir do último checkpoint gravado, sem precisar do grafo
+     * (os vértices são recriados a partir dos rótulos guardados).
+     *
+     * @throws IOException se o checkpoint não puder ser lido
+     */
+    public static Resultado retomar(CheckpointFloydWarshall checkpoint, Metricas metricas,
+                                    ContextoExecucao contexto) throws IOException {
+        CheckpointFloydWarshall.Estado estado = checkpoint.ler();
+        List<Vertice> vertices = new ArrayList<>(estado.rotulos.size());
+        for (String rotulo : estado.rotulos) {
+            vertices.add(new Vertice(rotulo));
+        }
+        return retomar(estado, vertices, checkpoint, metricas, contexto);
+    }
+
+    private static Resultado retomar(CheckpointFloydWarshall.Estado estado, List<Vertice> vertices,
+                                     CheckpointFloydWarshall checkpoint, Metricas metricas,
+                                     ContextoExecucao contexto) {
+        int n = vertices.size();
+        Map<Vertice, Integer> indicePorVertice = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            indicePorVertice.put(vertices.get(i), i);
+        }
+
+        // Predecessores voltam de índices para vértices
+        Vertice[][] pred = new Vertice[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                int p = estado.pred[i][j];
+                pred[i][j] = p < 0 ? null : vertices.get(p);
+            }
+        }
+
+        return executarPivos(estado.dist, pred, vertices, indicePorVertice, estado.k, metricas, contexto, checkpoint,
+                estado.hashGrafo);
+    }
+
+    /**
+     * Processa os pivôs de kInicial até n-1 sobre matrizes já inicializadas
+     * (pelo grafo, ou lidas de um checkpoint) e verifica ciclos negativos.
+     */
+    @SuppressWarnings("try")
+    private static Resultado executarPivos(double[][] dist, Vertice[][] pred, List<Vertice> vertices,
+                                           Map<Vertice, Integer> indicePorVertice, int kInicial,
+                                           Metricas metricas, ContextoExecucao contexto,
+                                           CheckpointFloydWarshall checkpoint, String hashGrafo) {
+        int n = vertices.size();
+
         // PASSO 2: RELAXAMENTO DAS ARESTAS
         // Para cada vértice k (intermediário), verifica todos os pares (i,j)
         // D[i][j] = min(D[i][j], D[i][k] + D[k][j])
@@ -177,22 +354,57 @@ public class FloydWarshall {
         // Consideramos cada vértice k como um possível vértice intermediário
         // e atualizamos as distâncias se encontrarmos um caminho mais curto
         // passando por k.
-        for (int k = 0; k < n; k++) {
-            for (int i = 0; i < n; i++) {
-                for (int j = 0; j < n; j++) {
-                    // Evitar overflow ao somar infinitos
-                    double distanciaViaK = dist[i][k] + dist[k][j];
+        try (Cronometro c = metricas.iniciarFase(Fase.FLOYD_WARSHALL)) {
+            int pivosDesdeCheckpoint = 0;
+            long ultimoCheckpoint = System.nanoTime();
+            for (int k = kInicial; k < n; k++) {
+                if (checkpoint != null
+                        && checkpoint.deveGravar(pivosDesdeCheckpoint, System.nanoTime() - ultimoCheckpoint)) {
+                    gravarCheckpoint(checkpoint, dist, pred, vertices, indicePorVertice, hashGrafo, k);
+                    pivosDesdeCheckpoint = 0;
+                    ultimoCheckpoint = System.nanoTime();
+                }
+                if (contexto.deveParar()) {
+                    // Guarda onde parou, para a execução poder ser retomada depois
+                    if (checkpoint != null && pivosDesdeCheckpoint > 0) {
+                        gravarCheckpoint(checkpoint, dist, pred, vertices, indicePorVertice, hashGrafo, k);
+                    }
+                    return contexto.interromper(new Resultado(dist, pred, vertices, indicePorVertice, k),
+                            "Floyd-Warshall", k, n);
+                }
+                long efetivos = 0;
+                for (int i = 0; i < n; i++) {
+                    for (int j = 0; j < n; j++) {
+                        // Evitar overflow ao somar infinitos
+                        double distanciaViaK = dist[i][k] + dist[k][j];
                     
-                    // Se encontramos um caminho mais curto passando por k
-                    if (dist[i][k] != Double.POSITIVE_INFINITY &&
-                        dist[k][j] != Double.POSITIVE_INFINITY &&
-                        distanciaViaK < dist[i][j]) {
+                        // Se encontramos um caminho mais curto passando por k
+                        if (dist[i][k] != Double.POSITIVE_INFINITY &&
+                            dist[k][j] != Double.POSITIVE_INFINITY &&
+                            distanciaViaK < dist[i][j]) {
                         
-                        dist[i][j] = distanciaViaK;
-                        // O predecessor de j vindo de i é o mesmo predecessor de j vindo de k
-                        pred[i][j] = pred[k][j];
+                            dist[i][j] = distanciaViaK;
+                            // O predecessor de j vindo de i é o mesmo predecessor de j vindo de k
+                            pred[i][j] = pred[k][j];
+                            efetivos++;
+                        }
                     }
                 }
+                pivosDesdeCheckpoint++;
+                metricas.incrementar(Contador.PIVOS_FLOYD_WARSHALL, 1);
+                metricas.incrementar(Contador.RELAXAMENTOS, (long) n * n);
+                metricas.incrementar(Contador.RELAXAMENTOS_EFETIVOS, efetivos);
+                contexto.reportarProgresso("floyd-warshall", k + 1, n);
+            }
+        }
+
+        // Terminou: o checkpoint não serve mais
+        if (checkpoint != null) {
+            try {
+                checkpoint.apagar();
+            } catch (IOException e) {
+                System.err.println("Aviso: Não foi possível apagar o checkpoint " + checkpoint.getArquivo()
+                        + ": " + e.getMessage());
             }
         }
 
@@ -210,186 +422,176 @@ public class FloydWarshall {
         return new Resultado(dist, pred, vertices, indicePorVertice);
     }
 
+    /**
+     * Grava um checkpoint; uma falha só gera um aviso, para não perder a execução.
+     */
+    private static void gravarCheckpoint(CheckpointFloydWarshall checkpoint, double[][] dist, Vertice[][] pred,
+                                         List<Vertice> vertices, Map<Vertice, Integer> indicePorVertice,
+                                         String hashGrafo, int k) {
+        try {
+            checkpoint.gravar(dist, pred, vertices, indicePorVertice, hashGrafo, k);
+        } catch (IOException e) {
+            System.err.println("Aviso: Não foi possível gravar o checkpoint " + checkpoint.getArquivo()
+                    + ": " + e.getMessage());
+        }
+    }
+
     /**
      * Imprime a matriz de distâncias de forma legível.
      */
     public static void imprimirMatrizDistancias(Resultado resultado) {
+        imprimirMatrizDistancias(resultado, System.out);
+    }
+
+    /**
+     * Imprime a matriz de distâncias de forma legível na saída informada.
+     */
+    public static void imprimirMatrizDistancias(Resultado resultado, PrintStream saida) {
+        imprimirMatrizDistancias(resultado, "Floyd-Warshall", saida);
+    }
+
+    /**
+     * Igual a {@link #imprimirMatrizDistancias(Resultado, PrintStream)}, com o nome do
+     * algoritmo que produziu o resultado no título (ex: "Johnson").
+     */
+    public static void imprimirMatrizDistancias(Resultado resultado, String algoritmo, PrintStream saida) {
         double[][] dist = resultado.getDistancias();
         List<Vertice> vertices = resultado.getVerticesPorIndice();
         int n = vertices.size();
 
-        System.out.println("\nMatriz de Distâncias Mínimas (Floyd-Warshall):");
-        System.out.println("=".repeat(60));
+        saida.println("\nMatriz de Distâncias Mínimas (" + algoritmo + "):");
+        saida.println("=".repeat(60));
 
         // Cabeçalho com rótulos dos vértices
-        System.out.print("     ");
+        saida.print("     ");
         for (Vertice v : vertices) {
-            System.out.printf("%8s", v.getRotulo());
+            saida.printf("%8s", v.getRotulo());
         }
-        System.out.println();
+        saida.println();
 
         // Linhas da matriz
         for (int i = 0; i < n; i++) {
-            System.out.printf("%4s ", vertices.get(i).getRotulo());
+            saida.printf("%4s ", vertices.get(i).getRotulo());
             for (int j = 0; j < n; j++) {
                 if (dist[i][j] == Double.POSITIVE_INFINITY) {
-                    System.out.printf("%8s", "∞");
+                    saida.printf("%8s", "∞");
                 } else {
-                    System.out.printf("%8.2f", dist[i][j]);
+                    saida.printf("%8.2f", dist[i][j]);
                 }
             }
-            System.out.println();
+            saida.println();
         }
-        System.out.println();
+        saida.println();
     }
 
     /**
      * Imprime a matriz de predecessores de forma legível.
      */
     public static void imprimirMatrizPredecessores(Resultado resultado) {
+        imprimirMatrizPredecessores(resultado, System.out);
+    }
+
+    /**
+     * Imprime a matriz de predecessores de forma legível na saída informada.
+     */
+    public static void imprimirMatrizPredecessores(Resultado resultado, PrintStream saida) {
         Vertice[][] pred = resultado.getPredecessores();
         List<Vertice> vertices = resultado.getVerticesPorIndice();
         int n = vertices.size();
 
-        System.out.println("\nMatriz de Predecessores (Floyd-Warshall):");
-        System.out.println("=".repeat(60));
+        saida.println("\nMatriz de Predecessores (Floyd-Warshall):");
+        saida.println("=".repeat(60));
 
         // Cabeçalho com rótulos dos vértices
-        System.out.print("     ");
+        saida.print("     ");
         for (Vertice v : vertices) {
-            System.out.printf("%8s", v.getRotulo());
+            saida.printf("%8s", v.getRotulo());
         }
-        System.out.println();
+        saida.println();
 
         // Linhas da matriz
         for (int i = 0; i < n; i++) {
-            System.out.printf("%4s ", vertices.get(i).getRotulo());
+            saida.printf("%4s ", vertices.get(i).getRotulo());
             for (int j = 0; j < n; j++) {
                 if (pred[i][j] == null) {
-                    System.out.printf("%8s", "-");
+                    saida.printf("%8s", "-");
                 } else {
-                    System.out.printf("%8s", pred[i][j].getRotulo());
+                    saida.printf("%8s", pred[i][j].getRotulo());
                 }
             }
-            System.out.println();
+            saida.println();
         }
-        System.out.println();
+        saida.println();
     }
 
     /**
      * Reconstrói e imprime o caminho mínimo entre dois vértices.
      */
     public static void imprimirCaminho(Resultado resultado, Vertice origem, Vertice destino) {
-        Map<Vertice, Integer> indicePorVertice = resultado.getIndicePorVertice();
-        Vertice[][] pred = resultado.getPredecessores();
+        imprimirCaminho(resultado, origem, destino, System.out);
+    }
 
-        Integer i = indicePorVertice.get(origem);
-        Integer j = indicePorVertice.get(destino);
+    /**
+     * Reconstrói e imprime o caminho mínimo entre dois vértices na saída informada.
+     */
+    public static void imprimirCaminho(Resultado resultado, Vertice origem, Vertice destino, PrintStream saida) {
+        Map<Vertice, Integer> indicePorVertice = resultado.getIndicePorVertice();
 
-        if (i == null || j == null) {
-            System.out.println("Vértice não encontrado no grafo.");
+        if (!indicePorVertice.containsKey(origem) || !indicePorVertice.containsKey(destino)) {
+            saida.println("Vértice não encontrado no grafo.");
             return;
         }
 
         double distancia = resultado.getDistancia(origem, destino);
         
         if (distancia == Double.POSITIVE_INFINITY) {
-            System.out.printf("Não há caminho de %s para %s.\n", origem, destino);
+            saida.printf("Não há caminho de %s para %s.\n", origem, destino);
             return;
         }
 
-        // Reconstruir o caminho usando a matriz de predecessores
-        List<Vertice> caminho = new ArrayList<>();
-        Vertice atual = destino;
-
-        // Caminhamos de trás para frente usando os predecessores
-        while (atual != null && !atual.equals(origem)) {
-            caminho.add(0, atual); // Adiciona no início
-            atual = pred[i][indicePorVertice.get(atual)];
-        }
-
-        if (atual != null && atual.equals(origem)) {
-            caminho.add(0, origem);
-        }
+        List<Vertice> caminho = reconstruirCaminho(resultado, origem, destino);
 
         // Imprimir o caminho
-        System.out.printf("Caminho mínimo de %s para %s (distância: %.2f): ", 
+        saida.printf("Caminho mínimo de %s para %s (distância: %.2f): ", 
                          origem, destino, distancia);
         for (int idx = 0; idx < caminho.size(); idx++) {
-            System.out.print(caminho.get(idx));
+            saida.print(caminho.get(idx));
             if (idx < caminho.size() - 1) {
-                System.out.print(" -> ");
+                saida.print(" -> ");
             }
         }
-        System.out.println();
+        saida.println();
     }
 
     /**
-     * Detecta quais arestas têm peso explícito (atributo weight) no arquivo DOT.
-     * 
-     * @param caminhoArquivoDOT Caminho para o arquivo DOT
-     * @return Conjunto de chaves de arestas que têm peso explícito
-     * @throws IOException Se houver erro ao ler o arquivo
+     * Reconstrói o caminho mínimo entre dois vértices usando a matriz de predecessores.
+     *
+     * @return Os vértices do caminho (da origem ao destino), ou uma lista vazia se não houver caminho
      */
-    private static Set<String> detectarArestasComPesoExplicito(String caminhoArquivoDOT) throws IOException {
-        Set<String> arestasComPeso = new HashSet<>();
-        Set<String> arestasProcessadas = new HashSet<>(); // Para evitar duplicatas em grafos não-direcionados
-        
-        MutableGraph gvGraph = new Parser().read(new File(caminhoArquivoDOT));
-        boolean direcionado = gvGraph.isDirected();
-        
-        for (MutableNode node : gvGraph.nodes()) {
-            String rotuloOrigem = node.name().value();
-            
-            node.links().forEach(link -> {
-                String rotuloDestino = link.to().name().value();
-                
-                // Para grafos não-direcionados, cria uma chave normalizada para evitar processar duas vezes
-                String chaveArestaNormalizada;
-                if (direcionado) {
-                    chaveArestaNormalizada = rotuloOrigem + "->" + rotuloDestino;
-                } else {
-                    // Para não-direcionados, normaliza a ordem (menor primeiro)
-                    if (rotuloOrigem.compareTo(rotuloDestino) < 0) {
-                        chaveArestaNormalizada = rotuloOrigem + "--" + rotuloDestino;
-                    } else {
-                        chaveArestaNormalizada = rotuloDestino + "--" + rotuloOrigem;
-                    }
-                }
-                
-                // Processa cada aresta apenas uma vez
-                if (!arestasProcessadas.contains(chaveArestaNormalizada)) {
-                    arestasProcessadas.add(chaveArestaNormalizada);
-                    
-                    // Verifica se a aresta tem o atributo weight
-                    Object weightAttr = link.attrs().get("weight");
-                    if (weightAttr != null) {
-                        // Aresta tem peso explícito - adiciona ambas as direções se for não-direcionado
-                        String chave1 = rotuloOrigem + "->" + rotuloDestino;
-                        String chave2 = rotuloDestino + "->" + rotuloOrigem;
-                        
-                        arestasComPeso.add(chave1);
-                        if (!direcionado) {
-                            // Para não-direcionados, adiciona também a direção reversa
-                            arestasComPeso.add(chave2);
-                        }
-                    }
-                }
-            });
+    public static List<Vertice> reconstruirCaminho(Resultado resultado, Vertice origem, Vertice destino) {
+        Map<Vertice, Integer> indicePorVertice = resultado.getIndicePorVertice();
+        Vertice[][] pred = resultado.getPredecessores();
+
+        Integer i = indicePorVertice.get(origem);
+        Integer j = indicePorVertice.get(destino);
+
+        List<Vertice> caminho = new ArrayList<>();
+        if (i == null || j == null || resultado.getDistancia(origem, destino) == Double.POSITIVE_INFINITY) {
+            return caminho;
         }
-        
-        return arestasComPeso;
-    }
 
-    /**
-     * Cria uma chave única para identificar uma aresta.
-     * Mantém a ordem origem->destino para garantir que arestas direcionadas
-     * sejam identificadas corretamente.
-     */
-    private static String criarChaveAresta(String origem, String destino) {
-        // Sempre mantém a ordem origem -> destino
-        // Isso funciona tanto para grafos direcionados quanto não-direcionados
-        return origem + "->" + destino;
+        Vertice atual = destino;
+
+        // Caminhamos de trás para frente usando os predecessores
+        while (atual != null && !atual.equals(origem)) {
+            caminho.add(0, atual); // Adiciona no início
+            atual = pred[i][indicePorVertice.get(atual)];
+        }
+
+        if (atual != null && atual.equals(origem)) {
+            caminho.add(0, origem);
+        }
+
+        return caminho;
     }
 }
-
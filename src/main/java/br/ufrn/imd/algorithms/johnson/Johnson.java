@@ -0,0 +1,150 @@
+package br.ufrn.imd.algorithms.johnson;
+
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.GrafoCompacto;
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.fila_prioridade.HeapIndexado;
+import br.ufrn.imd.algorithms.floyd_warshall.FloydWarshall;
+import br.ufrn.imd.algorithms.reordenacao.Reordenacao;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Implementação do Algoritmo de Johnson para caminhos mínimos entre todos os pares.
+ * * 1. Bellman-Ford a partir de uma origem virtual (ligada a todos com peso 0)
+ *      calcula um potencial h(v) para cada vértice.
+ * 2. Os pesos são trocados por w(u,v) + h(u) - h(v), que nunca são negativos.
+ * 3. Um Dijkstra por origem (em paralelo) e as distâncias voltam ao peso original.
+ * Complexidade: O(V·E log V), bem melhor que o O(V³) do Floyd-Warshall em
+ * grafos esparsos. Aceita pesos negativos, mas não ciclos negativos.
+ * O resultado tem o mesmo formato do Floyd-Warshall, e as arestas sem peso
+ * explícito são ignoradas pela mesma regra ({@link br.ufrn.imd.ArestasSemPeso}).
+ */
+public class Johnson {
+
+    // Origens processadas por tarefa paralela (com um único rascunho alocado por tarefa)
+    private static final int ORIGENS_POR_TAREFA = 64;
+
+    /**
+     * @throws IllegalArgumentException se o grafo contiver ciclo de peso negativo
+     */
+    public static FloydWarshall.Resultado calcular(Grafo grafo) {
+        return calcular(grafo, Reordenacao.NENHUMA);
+    }
+
+    /**
+     * Igual a {@link #calcular(Grafo)}, com os índices na ordem dada pela reordenação.
+     */
+    public static FloydWarshall.Resultado calcular(Grafo grafo, Reordenacao reordenacao) {
+        // A ordem vem do grafo inteiro (a mesma do Floyd-Warshall); só as arestas sem peso ficam de fora
+        GrafoCompacto compacto = GrafoCompacto.comPesosExplicitos(grafo, reordenacao.ordenar(grafo));
+        int n = compacto.getNumVertices();
+        int[] inicio = compacto.getInicio();
+        int[] destinos = compacto.getDestinos();
+        double[] pesos = compacto.getPesos();
+
+        // PASSO 1: potenciais (só necessários se houver peso negativo)
+        double[] h = new double[n];
+        if (grafo.getPesoMinimo() < 0) {
+            calcularPotenciais(compacto, h);
+        }
+
+        // PASSO 2 e 3: um Dijkstra por origem, com pesos repesados
+        double[][] dist = new double[n][];
+        Vertice[][] pred = new Vertice[n][];
+        // O rascunho é alocado por bloco de origens, e não guardado por thread:
+        // nada fica preso às threads do pool comum depois do cálculo
+        int numTarefas = (n + ORIGENS_POR_TAREFA - 1) / ORIGENS_POR_TAREFA;
+        IntStream.range(0, numTarefas).parallel().forEach(tarefa -> {
+            RascunhoDijkstra r = new RascunhoDijkstra(n);
+            int fim = Math.min(n, (tarefa + 1) * ORIGENS_POR_TAREFA);
+            for (int s = tarefa * ORIGENS_POR_TAREFA; s < fim; s++) {
+                double[] distLinha = new double[n];
+                Vertice[] predLinha = new Vertice[n];
+                Arrays.fill(distLinha, Double.POSITIVE_INFINITY);
+
+                r.heap.inserirOuDiminuir(s, 0.0);
+                r.pai[s] = s;
+                while (!r.heap.isEmpty()) {
+                    int u = r.heap.extrairMin();
+                    double du = r.heap.getChave(u);
+                    r.finalizado[u] = true;
+                    r.tocados[r.numTocados++] = u;
+                    distLinha[u] = du - h[s] + h[u];
+                    predLinha[u] = compacto.getVertice(r.pai[u]);
+                    for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                        int v = destinos[e];
+                        if (!r.finalizado[v]
+                                && r.heap.inserirOuDiminuir(v, du + pesos[e] + h[u] - h[v])) {
+                            r.pai[v] = u;
+                        }
+                    }
+                }
+                predLinha[s] = compacto.getVertice(s);
+                r.limpar();
+
+                dist[s] = distLinha;
+                pred[s] = predLinha;
+            }
+        });
+
+        return new FloydWarshall.Resultado(dist, pred, compacto.getVerticesPorIndice(),
+                compacto.getIndicePorVertice());
+    }
+
+    /**
+     * Bellman-Ford a partir da origem virtual: como ela liga todos com peso 0,
+     * basta começar com h = 0 para todos.
+     */
+    private static void calcularPotenciais(GrafoCompacto compacto, double[] h) {
+        int n = compacto.getNumVertices();
+        int[] inicio = compacto.getInicio();
+        int[] destinos = compacto.getDestinos();
+        double[] pesos = compacto.getPesos();
+
+        // Com a origem virtual o grafo tem n+1 vértices, logo até n rodadas
+        for (int rodada = 0; rodada <= n; rodada++) {
+            boolean houveAtualizacao = false;
+            for (int u = 0; u < n; u++) {
+                for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                    double candidata = h[u] + pesos[e];
+                    if (candidata < h[destinos[e]]) {
+                        h[destinos[e]] = candidata;
+                        houveAtualizacao = true;
+                    }
+                }
+            }
+            if (!houveAtualizacao) {
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Grafo contém ciclo de peso negativo!");
+    }
+
+    /**
+     * Estruturas de um Dijkstra, reaproveitadas entre as origens de um mesmo bloco.
+     */
+    private static class RascunhoDijkstra {
+        final HeapIndexado heap;
+        final boolean[] finalizado;
+        final int[] pai;
+        final int[] tocados;
+        int numTocados;
+
+        RascunhoDijkstra(int n) {
+            heap = new HeapIndexado(n);
+            finalizado = new boolean[n];
+            pai = new int[n];
+            tocados = new int[n];
+        }
+
+        void limpar() {
+            for (int i = 0; i < numTocados; i++) {
+                finalizado[tocados[i]] = false;
+            }
+            numTocados = 0;
+            heap.limpar();
+        }
+    }
+}
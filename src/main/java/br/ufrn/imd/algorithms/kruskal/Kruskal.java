@@ -0,0 +1,54 @@
+package br.ufrn.imd.algorithms.kruskal;
+
+import br.ufrn.imd.Aresta;
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.uniao_busca.UniaoBusca;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementação do Algoritmo de Kruskal para a Árvore Geradora Mínima.
+ * * Ordena as arestas por peso e as aceita sempre que ligam componentes
+ * diferentes. Diferente de Prim, não depende de um vértice inicial e, se o
+ * grafo for desconexo, devolve a floresta geradora mínima (uma árvore por
+ * componente). Complexidade: O(E log E).
+ */
+public class Kruskal {
+
+    /**
+     * @param grafo Grafo não-direcionado
+     * @return As arestas da floresta geradora mínima
+     * @throws IllegalArgumentException se o grafo for direcionado
+     */
+    public static List<Aresta> calcular(Grafo grafo) {
+        if (grafo.isDirecionado()) {
+            throw new IllegalArgumentException("O Algoritmo de Kruskal é para grafos não-direcionados.");
+        }
+
+        Map<Vertice, Integer> indicePorVertice = new HashMap<>();
+        for (Vertice v : grafo.getVertices()) {
+            indicePorVertice.put(v, indicePorVertice.size());
+        }
+
+        // Cada aresta aparece nos dois sentidos; a união-busca descarta a repetida
+        List<Aresta> arestas = new ArrayList<>(grafo.getTodasArestas());
+        arestas.sort(Comparator.comparingDouble(Aresta::getPeso));
+
+        UniaoBusca componentes = new UniaoBusca(indicePorVertice.size());
+        List<Aresta> mst = new ArrayList<>();
+        for (Aresta aresta : arestas) {
+            if (componentes.getNumConjuntos() == 1) {
+                break; // Já é uma árvore
+            }
+            if (componentes.unir(indicePorVertice.get(aresta.getOrigem()), indicePorVertice.get(aresta.getDestino()))) {
+                mst.add(aresta);
+            }
+        }
+        return mst;
+    }
+}
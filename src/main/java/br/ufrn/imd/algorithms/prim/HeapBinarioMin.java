@@ -1,13 +1,16 @@
 package br.ufrn.imd.algorithms.prim;
 
 import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.fila_prioridade.FilaPrioridade;
+import br.ufrn.imd.metricas.Contador;
+import br.ufrn.imd.metricas.Metricas;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class HeapBinarioMin {
+public class HeapBinarioMin implements FilaPrioridade {
 
     // O array (base 0) que armazena os nós do heap
     private final List<HeapNode> heap;
@@ -16,14 +19,28 @@ public class HeapBinarioMin {
     // Isso é essencial para a operação decreaseKey em O(log N).
     private final Map<Vertice, Integer> posicoes;
 
+    // Trocas feitas desde a última vez que o heap ficou vazio
+    private long trocas;
+    private final Metricas metricas;
+
     public HeapBinarioMin() {
+        this(Metricas.NENHUMA);
+    }
+
+    /**
+     * Heap que registra o número de trocas nas métricas sempre que fica vazio
+     * (em Prim e Dijkstra, uma vez no fim do algoritmo).
+     */
+    public HeapBinarioMin(Metricas metricas) {
         this.heap = new ArrayList<>();
         this.posicoes = new HashMap<>();
+        this.metricas = metricas;
     }
 
     /**
      * Insere um novo vértice no heap com uma chave (peso).
      */
+    @Override
     public void inserir(Vertice vertice, double chave) {
         HeapNode node = new HeapNode(vertice, chave);
         heap.add(node); // Adiciona ao final
@@ -37,6 +54,7 @@ public class HeapBinarioMin {
     /**
      * Remove e retorna o nó com a menor chave (raiz do heap).
      */
+    @Override
     public Vertice extrairMin() {
         if (isEmpty()) {
             throw new IllegalStateException("Heap está vazio");
@@ -55,12 +73,17 @@ public class HeapBinarioMin {
         }
 
         posicoes.remove(minNode.vertice);
+        if (isEmpty() && trocas > 0) {
+            metricas.incrementar(Contador.TROCAS_HEAP, trocas);
+            trocas = 0;
+        }
         return minNode.vertice;
     }
 
     /**
      * Diminui a chave (peso) de um vértice que já está no heap.
      */
+    @Override
     public void decreaseKey(Vertice vertice, double novaChave) {
         Integer indice = posicoes.get(vertice);
         if (indice == null) {
@@ -79,10 +102,12 @@ public class HeapBinarioMin {
     /**
      * Verifica se o heap contém um determinado vértice.
      */
+    @Override
     public boolean contem(Vertice v) {
         return posicoes.containsKey(v);
     }
 
+    @Override
     public boolean isEmpty() {
         return heap.isEmpty();
     }
@@ -127,5 +152,6 @@ public class HeapBinarioMin {
         // Atualiza as posições no mapa
         posicoes.put(nodeI.vertice, j);
         posicoes.put(nodeJ.vertice, i);
+        trocas++;
     }
 }
\ No newline at end of file
@@ -2,7 +2,15 @@ package br.ufrn.imd.algorithms.prim;
 
 import br.ufrn.imd.Aresta;
 import br.ufrn.imd.Grafo;
+import br.ufrn.imd.GrafoIndexado;
+import br.ufrn.imd.IteradorVizinhos;
 import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.fila_prioridade.FilaPrioridade;
+import br.ufrn.imd.algorithms.fila_prioridade.HeapIndexado;
+import br.ufrn.imd.metricas.Contador;
+import br.ufrn.imd.metricas.Cronometro;
+import br.ufrn.imd.metricas.Fase;
+import br.ufrn.imd.metricas.Metricas;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -18,7 +26,7 @@ public class Prim {
     // Mapas para armazenar os pais (arestas) e as chaves (pesos)
     private Map<Vertice, Aresta> arestaParaPai;
     private Map<Vertice, Double> chaves;
-    private HeapBinarioMin filaPrioridade;
+    private FilaPrioridade filaPrioridade;
 
     /**
      * Executa o algoritmo de Prim em um grafo.
@@ -28,6 +36,21 @@ public class Prim {
      * @return Uma lista de arestas que compõem a MST.
      */
     public List<Aresta> executar(Grafo grafo, Vertice inicio) {
+        return executar(grafo, inicio, Metricas.NENHUMA);
+    }
+
+    /**
+     * Executa o algoritmo de Prim registrando tempo, extrações, decrease-keys
+     * e relaxamentos nas métricas.
+     */
+    @SuppressWarnings("try")
+    public List<Aresta> executar(Grafo grafo, Vertice inicio, Metricas metricas) {
+        try (Cronometro c = metricas.iniciarFase(Fase.PRIM)) {
+            return executarMedindo(grafo, inicio, metricas);
+        }
+    }
+
+    private List<Aresta> executarMedindo(Grafo grafo, Vertice inicio, Metricas metricas) {
         if (grafo.isDirecionado()) {
             System.err.println("Aviso: O Algoritmo de Prim é para grafos não-direcionados.");
         }
@@ -35,7 +58,8 @@ public class Prim {
         // Inicialização
         arestaParaPai = new HashMap<>();
         chaves = new HashMap<>();
-        filaPrioridade = new HeapBinarioMin(); //  Usa nosso heap
+        // Usa baldes de Dial se os pesos forem inteiros pequenos; senão, nosso heap binário
+        filaPrioridade = FilaPrioridade.criar(grafo, false, metricas);
 
         for (Vertice v : grafo.getVertices()) {
             chaves.put(v, Double.POSITIVE_INFINITY);
@@ -50,12 +74,19 @@ public class Prim {
             filaPrioridade.inserir(v, chaves.get(v));
         }
 
+        // Contadores locais, repassados às métricas só no final
+        long extracoes = 0;
+        long relaxamentos = 0;
+        long decreaseKeys = 0;
+
         // Loop principal do algoritmo (referência: Cormen, 21.2)
         while (!filaPrioridade.isEmpty()) {
             Vertice u = filaPrioridade.extrairMin();
+            extracoes++;
 
             // Para cada vizinho 'v' do vértice 'u'
             for (Aresta aresta : grafo.getArestasVizinhas(u)) {
+                relaxamentos++;
                 Vertice v = aresta.getDestino();
                 double peso = aresta.getPeso();
 
@@ -67,22 +98,116 @@ public class Prim {
                     arestaParaPai.put(v, aresta);
                     // Atualiza a posição de 'v' no heap
                     filaPrioridade.decreaseKey(v, peso);
+                    decreaseKeys++;
                 }
             }
         }
 
+        metricas.incrementar(Contador.EXTRACOES_MIN, extracoes);
+        metricas.incrementar(Contador.RELAXAMENTOS, relaxamentos);
+        metricas.incrementar(Contador.RELAXAMENTOS_EFETIVOS, decreaseKeys);
+        metricas.incrementar(Contador.DECREASE_KEYS, decreaseKeys);
+
         // Coleta os resultados (as arestas da MST)
         List<Aresta> mst = new ArrayList<>();
-        double custoTotal = 0;
         for (Vertice v : arestaParaPai.keySet()) {
             Aresta aresta = arestaParaPai.get(v);
             if (aresta != null) {
                 mst.add(aresta);
-                custoTotal += aresta.getPeso();
             }
         }
 
-        System.out.println("Custo total da MST (Prim): " + custoTotal);
         return mst;
     }
+
+    /**
+     * Executa o algoritmo de Prim sobre um grafo indexado (forma compacta ou
+     * comprimida), com chaves e pais em vetores e um heap de índices.
+     * * Como na versão por Grafo, os vértices que não são alcançados a partir de
+     * inicio formam árvores próprias (floresta geradora): quando o heap esvazia,
+     * a busca recomeça do próximo vértice ainda fora da árvore.
+     *
+     * @param inicio Índice do vértice inicial
+     * @return As arestas da floresta, cada uma ligando um vértice ao seu pai
+     */
+    @SuppressWarnings("try")
+    public List<Aresta> executar(GrafoIndexado grafo, int inicio, Metricas metricas) {
+        try (Cronometro c = metricas.iniciarFase(Fase.PRIM)) {
+            return executarMedindo(grafo, inicio, metricas);
+        }
+    }
+
+    private List<Aresta> executarMedindo(GrafoIndexado grafo, int inicio, Metricas metricas) {
+        if (grafo.isDirecionado()) {
+            System.err.println("Aviso: O Algoritmo de Prim é para grafos não-direcionados.");
+        }
+
+        int n = grafo.getNumVertices();
+        if (inicio < 0 || inicio >= n) {
+            throw new IllegalArgumentException("Vértice inicial inválido: " + inicio);
+        }
+        int[] pai = new int[n];
+        double[] pesoPai = new double[n];
+        boolean[] naArvore = new boolean[n];
+        HeapIndexado heap = new HeapIndexado(n);
+        IteradorVizinhos vizinhos = grafo.novoIterador();
+
+        long extracoes = 0;
+        long relaxamentos = 0;
+        long decreaseKeys = 0;
+
+        int proximaRaiz = 0;
+        int raiz = inicio;
+        while (raiz >= 0) {
+            pai[raiz] = -1;
+            heap.inserirOuDiminuir(raiz, 0.0);
+            while (!heap.isEmpty()) {
+                int u = heap.extrairMin();
+                naArvore[u] = true;
+                extracoes++;
+
+                vizinhos.iniciar(u);
+                while (vizinhos.proximo()) {
+                    relaxamentos++;
+                    int v = vizinhos.getDestino();
+                    double peso = vizinhos.getPeso();
+                    if (!naArvore[v] && heap.inserirOuDiminuir(v, peso)) {
+                        pai[v] = u;
+                        pesoPai[v] = peso;
+                        decreaseKeys++;
+                    }
+                }
+            }
+
+            // Próxima componente (vértices não alcançados a partir das raízes anteriores)
+            while (proximaRaiz < n && naArvore[proximaRaiz]) {
+                proximaRaiz++;
+            }
+            raiz = proximaRaiz < n ? proximaRaiz : -1;
+        }
+
+        metricas.incrementar(Contador.EXTRACOES_MIN, extracoes);
+        metricas.incrementar(Contador.RELAXAMENTOS, relaxamentos);
+        metricas.incrementar(Contador.RELAXAMENTOS_EFETIVOS, decreaseKeys);
+        metricas.incrementar(Contador.DECREASE_KEYS, decreaseKeys);
+
+        List<Aresta> mst = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            if (pai[v] >= 0) {
+                mst.add(new Aresta(grafo.getVertice(pai[v]), grafo.getVertice(v), pesoPai[v]));
+            }
+        }
+        return mst;
+    }
+
+    /**
+     * Soma os pesos das arestas de uma MST.
+     */
+    public static double custoTotal(List<Aresta> mst) {
+        double custoTotal = 0;
+        for (Aresta aresta : mst) {
+            custoTotal += aresta.getPeso();
+        }
+        return custoTotal;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,295 @@
+package br.ufrn.imd.algorithms.reordenacao;
+
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.GrafoCompacto;
+import br.ufrn.imd.Vertice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Renumeração dos vértices para melhorar a localidade de memória.
+ * * Sem reordenação, os índices seguem a ordem do HashMap de vértices, então
+ * vizinhos ficam espalhados pelos vetores e cada relaxamento é uma falta de
+ * cache. As ordens abaixo aproximam vértices vizinhos (ou os mais acessados):
+ * - GRAU: vértices de maior grau primeiro (os "hubs" ficam juntos no início).
+ * - BFS: ordem de visita de uma busca em largura a partir do vértice de maior grau.
+ * - RCM: Reverse Cuthill–McKee, que minimiza a largura de banda da matriz de
+ *   adjacência (|i - j| das arestas), partindo de um vértice pseudo-periférico.
+ * Em grafos direcionados as arestas são consideradas nos dois sentidos.
+ * A reordenação só muda os índices: os resultados continuam indexados por Vertice.
+ */
+public enum Reordenacao {
+    NENHUMA("nenhuma"),
+    GRAU("grau"),
+    BFS("bfs"),
+    RCM("rcm");
+
+    /**
+     * Máximo de buscas feitas para achar um vértice pseudo-periférico (George–Liu).
+     */
+    private static final int MAXIMO_BUSCAS_PERIFERICO = 8;
+
+    private final String nome;
+
+    Reordenacao(String nome) {
+        this.nome = nome;
+    }
+
+    /**
+     * Nome usado na linha de comando (ex: "rcm").
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Procura uma reordenação pelo nome usado na linha de comando.
+     *
+     * @throws IllegalArgumentException se não houver reordenação com esse nome
+     */
+    public static Reordenacao porNome(String nome) {
+        for (Reordenacao r : values()) {
+            if (r.nome.equalsIgnoreCase(nome)) {
+                return r;
+            }
+        }
+        List<String> nomes = new ArrayList<>();
+        for (Reordenacao r : values()) {
+            nomes.add(r.nome);
+        }
+        throw new IllegalArgumentException("Reordenação desconhecida: " + nome
+                + " (disponíveis: " + String.join(", ", nomes) + ")");
+    }
+
+    /**
+     * Monta a forma compacta do grafo já com os índices nesta ordem.
+     */
+    public GrafoCompacto aplicar(Grafo grafo) {
+        GrafoCompacto compacto = GrafoCompacto.de(grafo);
+        return this == NENHUMA ? compacto : compacto.reordenado(calcularOrdem(compacto));
+    }
+
+    /**
+     * Os vértices do grafo nesta ordem (para quem monta os próprios índices, como o Floyd-Warshall).
+     */
+    public List<Vertice> ordenar(Grafo grafo) {
+        if (this == NENHUMA) {
+            return new ArrayList<>(grafo.getVertices());
+        }
+        return aplicar(grafo).getVerticesPorIndice();
+    }
+
+    /**
+     * Calcula a nova ordem dos índices do grafo.
+     *
+     * @return ordem[novo] = antigo
+     */
+    public int[] calcularOrdem(GrafoCompacto grafo) {
+        Vizinhanca vizinhanca = new Vizinhanca(grafo);
+        switch (this) {
+            case GRAU:
+                return ordemPorGrau(vizinhanca);
+            case BFS:
+                return ordemBusca(vizinhanca, false);
+            case RCM:
+                return ordemBusca(vizinhanca, true);
+            default:
+                int[] identidade = new int[grafo.getNumVertices()];
+                Arrays.setAll(identidade, i -> i);
+                return identidade;
+        }
+    }
+
+    /**
+     * Largura de banda da matriz de adjacência: o maior |i - j| entre as arestas.
+     * Quanto menor, mais próximos na memória estão os vizinhos.
+     */
+    public static int larguraDeBanda(GrafoCompacto grafo) {
+        int[] inicio = grafo.getInicio();
+        int[] destinos = grafo.getDestinos();
+        int largura = 0;
+        for (int u = 0; u < grafo.getNumVertices(); u++) {
+            for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                largura = Math.max(largura, Math.abs(u - destinos[e]));
+            }
+        }
+        return largura;
+    }
+
+    // --- Ordens ---
+
+    private static int[] ordemPorGrau(Vizinhanca viz) {
+        // Chave = (grau decrescente, índice crescente), para uma ordem estável
+        int n = viz.n;
+        long[] chaves = new long[n];
+        for (int v = 0; v < n; v++) {
+            chaves[v] = ((long) (Integer.MAX_VALUE - viz.grau(v)) << 32) | v;
+        }
+        Arrays.sort(chaves);
+        int[] ordem = new int[n];
+        for (int i = 0; i < n; i++) {
+            ordem[i] = (int) chaves[i];
+        }
+        return ordem;
+    }
+
+    /**
+     * Busca em largura em cada componente.
+     * - BFS: começa pelo vértice de maior grau e visita os vizinhos na ordem das listas.
+     * - Cuthill–McKee (rcm = true): começa por um vértice pseudo-periférico, visita
+     *   os vizinhos do menor para o maior grau e, no fim, inverte a ordem.
+     */
+    private static int[] ordemBusca(Vizinhanca viz, boolean rcm) {
+        int n = viz.n;
+        int[] ordem = new int[n];
+        boolean[] visitado = new boolean[n];
+        long[] vizinhos = new long[Math.max(1, viz.grauMaximo())];
+        int[] nivel = new int[n];
+        Arrays.fill(nivel, -1);
+        int[] fila = new int[n];
+
+        // Candidatos a início de componente: menor grau primeiro (RCM) ou maior grau primeiro (BFS)
+        int[] candidatos = ordemPorGrau(viz);
+        if (rcm) {
+            inverter(candidatos, 0, n);
+        }
+
+        int fim = 0;
+        for (int candidato : candidatos) {
+            if (visitado[candidato]) {
+                continue;
+            }
+            int inicio = rcm && viz.grau(candidato) > 0 ? pseudoPeriferico(viz, candidato, nivel, fila) : candidato;
+
+            int cabeca = fim;
+            ordem[fim++] = inicio;
+            visitado[inicio] = true;
+            while (cabeca < fim) {
+                int u = ordem[cabeca++];
+                int k = 0;
+                for (int lado = 0; lado < viz.lados; lado++) {
+                    int[] in = viz.inicio[lado];
+                    int[] dest = viz.destinos[lado];
+                    for (int e = in[u]; e < in[u + 1]; e++) {
+                        int v = dest[e];
+                        if (!visitado[v]) {
+                            visitado[v] = true;
+                            vizinhos[k++] = rcm ? ((long) viz.grau(v) << 32) | v : v;
+                        }
+                    }
+                }
+                if (rcm) {
+                    Arrays.sort(vizinhos, 0, k);
+                }
+                for (int i = 0; i < k; i++) {
+                    ordem[fim++] = (int) vizinhos[i];
+                }
+            }
+        }
+
+        if (rcm) {
+            inverter(ordem, 0, n);
+        }
+        return ordem;
+    }
+
+    /**
+     * Heurística de George–Liu: repete buscas em largura a partir de um vértice de
+     * grau mínimo do último nível enquanto a excentricidade aumentar.
+     *
+     * @param nivel Rascunho com -1 em todas as posições (é devolvido assim)
+     * @param fila  Rascunho com espaço para todos os vértices
+     */
+    private static int pseudoPeriferico(Vizinhanca viz, int inicio, int[] nivel, int[] fila) {
+        int atual = inicio;
+        int excentricidade = -1;
+        for (int busca = 0; busca < MAXIMO_BUSCAS_PERIFERICO; busca++) {
+            // BFS marcando o nível de cada vértice (nivel = -1 para não visitado)
+            int fim = 0;
+            fila[fim++] = atual;
+            nivel[atual] = 0;
+            int cabeca = 0;
+            int ultimo = 0;
+            while (cabeca < fim) {
+                int u = fila[cabeca++];
+                ultimo = nivel[u];
+                for (int lado = 0; lado < viz.lados; lado++) {
+                    int[] in = viz.inicio[lado];
+                    int[] dest = viz.destinos[lado];
+                    for (int e = in[u]; e < in[u + 1]; e++) {
+                        int v = dest[e];
+                        if (nivel[v] < 0) {
+                            nivel[v] = nivel[u] + 1;
+                            fila[fim++] = v;
+                        }
+                    }
+                }
+            }
+
+            // Vértice de menor grau no último nível
+            int proximo = atual;
+            int menorGrau = Integer.MAX_VALUE;
+            for (int i = 0; i < fim; i++) {
+                int v = fila[i];
+                if (nivel[v] == ultimo && viz.grau(v) < menorGrau) {
+                    menorGrau = viz.grau(v);
+                    proximo = v;
+                }
+            }
+            for (int i = 0; i < fim; i++) {
+                nivel[fila[i]] = -1;
+            }
+
+            if (ultimo <= excentricidade) {
+                break;
+            }
+            excentricidade = ultimo;
+            atual = proximo;
+        }
+        return atual;
+    }
+
+    private static void inverter(int[] v, int de, int ate) {
+        for (int i = de, j = ate - 1; i < j; i++, j--) {
+            int t = v[i];
+            v[i] = v[j];
+            v[j] = t;
+        }
+    }
+
+    /**
+     * Vizinhos de cada vértice nos dois sentidos (saída e, em grafos direcionados, entrada).
+     */
+    private static final class Vizinhanca {
+        final int n;
+        final int lados;
+        final int[][] inicio;
+        final int[][] destinos;
+
+        Vizinhanca(GrafoCompacto grafo) {
+            this.n = grafo.getNumVertices();
+            GrafoCompacto transposto = grafo.transposto();
+            this.lados = transposto == grafo ? 1 : 2;
+            this.inicio = new int[][]{grafo.getInicio(), transposto.getInicio()};
+            this.destinos = new int[][]{grafo.getDestinos(), transposto.getDestinos()};
+        }
+
+        int grau(int v) {
+            int g = inicio[0][v + 1] - inicio[0][v];
+            if (lados == 2) {
+                g += inicio[1][v + 1] - inicio[1][v];
+            }
+            return g;
+        }
+
+        int grauMaximo() {
+            int maximo = 0;
+            for (int v = 0; v < n; v++) {
+                maximo = Math.max(maximo, grau(v));
+            }
+            return maximo;
+        }
+    }
+}
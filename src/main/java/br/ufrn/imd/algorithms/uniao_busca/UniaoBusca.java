@@ -0,0 +1,66 @@
+package br.ufrn.imd.algorithms.uniao_busca;
+
+/**
+ * Conjuntos disjuntos (union-find) sobre os índices 0..n-1, com união por
+ * tamanho e compressão de caminho. Usado por Kruskal, Borůvka e para contar
+ * componentes conexas.
+ */
+public class UniaoBusca {
+
+    private final int[] pai;
+    private final int[] tamanho;
+    private int numConjuntos;
+
+    public UniaoBusca(int n) {
+        pai = new int[n];
+        tamanho = new int[n];
+        for (int i = 0; i < n; i++) {
+            pai[i] = i;
+            tamanho[i] = 1;
+        }
+        numConjuntos = n;
+    }
+
+    /**
+     * Retorna o representante do conjunto de x.
+     */
+    public int buscar(int x) {
+        int raiz = x;
+        while (pai[raiz] != raiz) {
+            raiz = pai[raiz];
+        }
+        // Compressão de caminho
+        while (pai[x] != raiz) {
+            int proximo = pai[x];
+            pai[x] = raiz;
+            x = proximo;
+        }
+        return raiz;
+    }
+
+    /**
+     * Une os conjuntos de a e b.
+     *
+     * @return false se a e b já estavam no mesmo conjunto
+     */
+    public boolean unir(int a, int b) {
+        int ra = buscar(a);
+        int rb = buscar(b);
+        if (ra == rb) {
+            return false;
+        }
+        if (tamanho[ra] < tamanho[rb]) {
+            int t = ra;
+            ra = rb;
+            rb = t;
+        }
+        pai[rb] = ra;
+        tamanho[ra] += tamanho[rb];
+        numConjuntos--;
+        return true;
+    }
+
+    public int getNumConjuntos() {
+        return numConjuntos;
+    }
+}
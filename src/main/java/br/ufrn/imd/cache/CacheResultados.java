@@ -0,0 +1,184 @@
+package br.ufrn.imd.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.ToLongFunction;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache de resultados com duas camadas:
+ * - Memória: LRU limitado pelo tamanho estimado (em bytes) dos resultados.
+ * - Disco (opcional): um arquivo compactado por chave, que sobrevive entre execuções.
+ * * Uma falha em memória procura no disco e, se encontrar, promove o resultado
+ * para a memória. Todo resultado guardado é escrito nas duas camadas.
+ * Os métodos são seguros para uso por várias threads.
+ */
+public class CacheResultados {
+
+    private static class Entrada {
+        final Object valor;
+        final long bytes;
+
+        Entrada(Object valor, long bytes) {
+            this.valor = valor;
+            this.bytes = bytes;
+        }
+    }
+
+    private final long limiteBytes;
+    private final Path diretorio;
+
+    // LinkedHashMap em ordem de acesso: o primeiro elemento é o menos usado recentemente
+    private final LinkedHashMap<String, Entrada> memoria = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytesEmMemoria;
+
+    private long acertosMemoria;
+    private long acertosDisco;
+    private long falhas;
+
+    /**
+     * @param limiteBytes Tamanho máximo (estimado) dos resultados mantidos em memória
+     * @param diretorio   Diretório da camada em disco, ou null para usar só a memória
+     */
+    public CacheResultados(long limiteBytes, Path diretorio) throws IOException {
+        if (limiteBytes < 0) {
+            throw new IllegalArgumentException("Limite do cache não pode ser negativo: " + limiteBytes);
+        }
+        this.limiteBytes = limiteBytes;
+        this.diretorio = diretorio == null ? null : Files.createDirectories(diretorio);
+    }
+
+    /**
+     * Procura um resultado, primeiro em memória e depois em disco.
+     * Um resultado encontrado só no disco é promovido para a memória.
+     *
+     * @param estimarBytes Estima o tamanho em memória de um resultado lido do disco
+     * @return O resultado, ou null se ele não estiver em nenhuma camada
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T obter(String chave, ToLongFunction<T> estimarBytes) {
+        synchronized (this) {
+            Entrada entrada = memoria.get(chave);
+            if (entrada != null) {
+                acertosMemoria++;
+                return (T) entrada.valor;
+            }
+        }
+
+        T valor = (T) lerDoDisco(chave);
+        if (valor == null) {
+            synchronized (this) {
+                falhas++;
+            }
+            return null;
+        }
+
+        guardarEmMemoria(chave, valor, estimarBytes.applyAsLong(valor));
+        synchronized (this) {
+            acertosDisco++;
+        }
+        return valor;
+    }
+
+    /**
+     * Guarda um resultado nas duas camadas.
+     *
+     * @param bytes Tamanho estimado do resultado em memória
+     */
+    public void guardar(String chave, Object valor, long bytes) {
+        guardarEmMemoria(chave, valor, bytes);
+        if (diretorio != null && valor instanceof Serializable) {
+            escreverNoDisco(chave, valor);
+        }
+    }
+
+    public synchronized long getBytesEmMemoria() {
+        return bytesEmMemoria;
+    }
+
+    public synchronized int getEntradasEmMemoria() {
+        return memoria.size();
+    }
+
+    public synchronized String getEstatisticas() {
+        return String.format("entradas=%d, bytes=%d/%d, acertos(memória)=%d, acertos(disco)=%d, falhas=%d",
+                memoria.size(), bytesEmMemoria, limiteBytes, acertosMemoria, acertosDisco, falhas);
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private synchronized void guardarEmMemoria(String chave, Object valor, long bytes) {
+        if (bytes > limiteBytes) {
+            return; // Nunca caberia: fica só no disco
+        }
+
+        Entrada anterior = memoria.put(chave, new Entrada(valor, bytes));
+        if (anterior != null) {
+            bytesEmMemoria -= anterior.bytes;
+        }
+        bytesEmMemoria += bytes;
+
+        // Remove os menos usados até voltar ao limite
+        Iterator<Entrada> it = memoria.values().iterator();
+        while (bytesEmMemoria > limiteBytes && it.hasNext()) {
+            bytesEmMemoria -= it.next().bytes;
+            it.remove();
+        }
+    }
+
+    private Path arquivoDaChave(String chave) {
+        // As chaves só contêm letras, dígitos e alguns separadores; o resto é trocado por '_'
+        return diretorio.resolve(chave.replaceAll("[^A-Za-z0-9._-]", "_") + ".bin.gz");
+    }
+
+    private Object lerDoDisco(String chave) {
+        if (diretorio == null) {
+            return null;
+        }
+        Path arquivo = arquivoDaChave(chave);
+        if (!Files.exists(arquivo)) {
+            return null;
+        }
+        try (InputStream entrada = new GZIPInputStream(Files.newInputStream(arquivo));
+             ObjectInputStream objetos = new ObjectInputStream(entrada)) {
+            return objetos.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            // Arquivo corrompido ou de outra versão: trata como ausente
+            System.err.println("Aviso: Ignorando entrada inválida do cache em disco " + arquivo + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void escreverNoDisco(String chave, Object valor) {
+        Path arquivo = arquivoDaChave(chave);
+        Path temporario = null;
+        try {
+            // Escreve em um arquivo temporário e move, para nunca deixar uma entrada pela metade
+            temporario = Files.createTempFile(diretorio, "cache", ".tmp");
+            try (OutputStream saida = new GZIPOutputStream(Files.newOutputStream(temporario));
+                 ObjectOutputStream objetos = new ObjectOutputStream(saida)) {
+                objetos.writeObject(valor);
+            }
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (temporario != null) {
+                try {
+                    Files.deleteIfExists(temporario);
+                } catch (IOException ignorada) {
+                    // Sobra apenas um arquivo temporário
+                }
+            }
+            System.err.println("Aviso: Não foi possível gravar o cache em disco " + arquivo + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package br.ufrn.imd.cache;
+
+import br.ufrn.imd.Aresta;
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.Vertice;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Calcula um hash (SHA-256) do conteúdo de um grafo.
+ * * Dois grafos com o mesmo tipo (direcionado ou não), os mesmos vértices e as
+ * mesmas arestas, inseridas na mesma ordem, têm o mesmo hash, mesmo que sejam
+ * objetos diferentes ou venham de arquivos diferentes. As arestas sem peso
+ * explícito ({@link Grafo#getArestasSemPeso()}) também entram, porque mudam o
+ * resultado do Floyd-Warshall. O hash é alimentado aos
+ * poucos (streaming), sem montar uma representação intermediária do grafo.
+ */
+public class HashGrafo {
+
+    /**
+     * @return O hash do grafo em hexadecimal.
+     */
+    public static String calcular(Grafo grafo) {
+        MessageDigest digest = novoDigest();
+
+        digest.update((byte) (grafo.isDirecionado() ? 1 : 0));
+
+        // Os vértices vêm de um HashMap, então são ordenados para que o hash
+        // não dependa da ordem interna do mapa
+        List<String> rotulos = new ArrayList<>();
+        for (Vertice v : grafo.getVertices()) {
+            rotulos.add(v.getRotulo());
+        }
+        rotulos.sort(null);
+        atualizarInt(digest, rotulos.size());
+        for (String rotulo : rotulos) {
+            atualizarTexto(digest, rotulo);
+        }
+
+        List<Aresta> arestas = grafo.getTodasArestas();
+        atualizarInt(digest, arestas.size());
+        for (Aresta a : arestas) {
+            atualizarTexto(digest, a.getOrigem().getRotulo());
+            atualizarTexto(digest, a.getDestino().getRotulo());
+            atualizarLong(digest, Double.doubleToLongBits(a.getPeso()));
+        }
+
+        // -1 distingue "sem a informação" de "nenhuma aresta sem peso"
+        if (grafo.getArestasSemPeso() == null) {
+            atualizarInt(digest, -1);
+        } else {
+            List<String> semPeso = new ArrayList<>(grafo.getArestasSemPeso());
+            semPeso.sort(null);
+            atualizarInt(digest, semPeso.size());
+            for (String chave : semPeso) {
+                atualizarTexto(digest, chave);
+            }
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * @return O hash do conteúdo de um arquivo em hexadecimal.
+     */
+    public static String calcularArquivo(Path arquivo) throws IOException {
+        MessageDigest digest = novoDigest();
+        byte[] buffer = new byte[8192];
+        try (InputStream entrada = Files.newInputStream(arquivo)) {
+            int lidos;
+            while ((lidos = entrada.read(buffer)) > 0) {
+                digest.update(buffer, 0, lidos);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private static MessageDigest novoDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Toda JVM é obrigada a oferecer SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void atualizarTexto(MessageDigest digest, String texto) {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        atualizarInt(digest, bytes.length); // O tamanho evita ambiguidades como "ab"+"c" e "a"+"bc"
+        digest.update(bytes);
+    }
+
+    private static void atualizarInt(MessageDigest digest, int valor) {
+        digest.update((byte) (valor >>> 24));
+        digest.update((byte) (valor >>> 16));
+        digest.update((byte) (valor >>> 8));
+        digest.update((byte) valor);
+    }
+
+    private static void atualizarLong(MessageDigest digest, long valor) {
+        atualizarInt(digest, (int) (valor >>> 32));
+        atualizarInt(digest, (int) valor);
+    }
+}
@@ -0,0 +1,210 @@
+package br.ufrn.imd.cache;
+
+import br.ufrn.imd.Aresta;
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.bellman_ford.BellmanFord;
+import br.ufrn.imd.algorithms.dijkstra.Dijkstra;
+import br.ufrn.imd.algorithms.floyd_warshall.CheckpointFloydWarshall;
+import br.ufrn.imd.algorithms.floyd_warshall.FloydWarshall;
+import br.ufrn.imd.algorithms.prim.Prim;
+import br.ufrn.imd.algorithms.reordenacao.Reordenacao;
+import br.ufrn.imd.execucao.ContextoExecucao;
+import br.ufrn.imd.metricas.Metricas;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Executa os algoritmos passando pelo cache de resultados.
+ * * A chave de cada resultado é formada pelo hash do conteúdo do grafo, pelo
+ * nome do algoritmo e pelos seus parâmetros (ex: o vértice de origem), então
+ * grafos idênticos compartilham resultados mesmo vindo de arquivos diferentes.
+ * Os resultados devolvidos são compartilhados e não devem ser alterados.
+ * As métricas, o contexto (prazo/progresso) e o checkpoint só atuam quando o
+ * resultado precisa ser calculado; resultados parciais de execuções
+ * interrompidas nunca são guardados.
+ */
+public class ResultadosEmCache {
+
+    // Estimativas grosseiras do tamanho de cada estrutura em memória
+    private static final long BYTES_POR_ENTRADA_MAPA = 64;
+    private static final long BYTES_POR_ARESTA = 48;
+
+    private final CacheResultados cache;
+
+    /**
+     * Hash já calculado de cada grafo, junto com o estado do grafo na época.
+     * Grafos só crescem (addVertice/addAresta), então um tamanho diferente
+     * indica que o hash está desatualizado; o conjunto de arestas sem peso só
+     * muda por setArestasSemPeso, que troca a referência.
+     */
+    private final Map<Grafo, Versao> versoesPorGrafo = new WeakHashMap<>();
+    private final Map<Grafo, String> hashesPorGrafo = new WeakHashMap<>();
+
+    private static final class Versao {
+        final long vertices;
+        final long arestas;
+        final Set<String> arestasSemPeso;
+
+        Versao(Grafo grafo) {
+            this.vertices = grafo.getNumVertices();
+            this.arestas = grafo.getTodasArestas().size();
+            this.arestasSemPeso = grafo.getArestasSemPeso();
+        }
+
+        boolean mesma(Versao outra) {
+            return vertices == outra.vertices && arestas == outra.arestas
+                    && arestasSemPeso == outra.arestasSemPeso;
+        }
+    }
+
+    public ResultadosEmCache(CacheResultados cache) {
+        this.cache = cache;
+    }
+
+    public CacheResultados getCache() {
+        return cache;
+    }
+
+    /**
+     * Árvore geradora mínima (Prim) a partir do vértice inicial.
+     */
+    public List<Aresta> prim(Grafo grafo, Vertice inicio) {
+        return prim(grafo, inicio, Metricas.NENHUMA);
+    }
+
+    /**
+     * Árvore geradora mínima (Prim), registrando o cálculo nas métricas.
+     */
+    public List<Aresta> prim(Grafo grafo, Vertice inicio, Metricas metricas) {
+        return obterOuCalcular(chave(grafo, "prim", inicio.getRotulo()),
+                () -> Collections.unmodifiableList(new Prim().executar(grafo, inicio, metricas)),
+                mst -> mst.size() * BYTES_POR_ARESTA);
+    }
+
+    /**
+     * Distâncias mínimas a partir da origem (Bellman-Ford).
+     */
+    public Map<Vertice, Double> bellmanFord(Grafo grafo, Vertice origem) {
+        return bellmanFord(grafo, origem, Metricas.NENHUMA, ContextoExecucao.ilimitado(), Reordenacao.NENHUMA);
+    }
+
+    /**
+     * Distâncias mínimas a partir da origem (Bellman-Ford) com métricas, contexto e
+     * reordenação. A reordenação não muda as distâncias, então não entra na chave.
+     */
+    public Map<Vertice, Double> bellmanFord(Grafo grafo, Vertice origem, Metricas metricas,
+                                            ContextoExecucao contexto, Reordenacao reordenacao) {
+        return obterOuCalcular(chave(grafo, "bellman-ford", origem.getRotulo()),
+                () -> Collections.unmodifiableMap(BellmanFord.calcular(grafo, origem, metricas, contexto, reordenacao)),
+                distancias -> distancias.size() * BYTES_POR_ENTRADA_MAPA, contexto);
+    }
+
+    /**
+     * Distâncias mínimas a partir da origem (Dijkstra).
+     */
+    public Map<Vertice, Double> dijkstra(Grafo grafo, Vertice origem) {
+        return obterOuCalcular(chave(grafo, "dijkstra", origem.getRotulo()),
+                () -> Collections.unmodifiableMap(Dijkstra.calcular(grafo, origem)),
+                distancias -> distancias.size() * BYTES_POR_ENTRADA_MAPA);
+    }
+
+    /**
+     * Caminhos mínimos entre todos os pares (Floyd-Warshall).
+     *
+     * @param caminhoArquivoDOT Arquivo DOT original (opcional, ver FloydWarshall.calcular).
+     *                          Só é lido se o grafo não souber quais arestas têm peso;
+     *                          nesse caso, como ele muda o resultado, seu conteúdo entra na chave.
+     */
+    public FloydWarshall.Resultado floydWarshall(Grafo grafo, String caminhoArquivoDOT) {
+        return floydWarshall(grafo, caminhoArquivoDOT, Metricas.NENHUMA, ContextoExecucao.ilimitado(), null,
+                Reordenacao.NENHUMA);
+    }
+
+    /**
+     * Caminhos mínimos entre todos os pares (Floyd-Warshall) com métricas, contexto,
+     * checkpoint e reordenação. A reordenação muda a ordem da matriz, então entra na chave.
+     *
+     * @param checkpoint Onde gravar o progresso se o resultado precisar ser calculado (ou null)
+     */
+    public FloydWarshall.Resultado floydWarshall(Grafo grafo, String caminhoArquivoDOT, Metricas metricas,
+                                                 ContextoExecucao contexto, CheckpointFloydWarshall checkpoint,
+                                                 Reordenacao reordenacao) {
+        // As arestas sem peso do grafo já entram no hash do grafo
+        String parametros = "sem-arquivo";
+        if (grafo.getArestasSemPeso() != null) {
+            parametros = "pesos-do-grafo";
+        } else if (caminhoArquivoDOT != null) {
+            try {
+                parametros = "arquivo=" + HashGrafo.calcularArquivo(Path.of(caminhoArquivoDOT));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Não foi possível ler o arquivo DOT para detectar pesos explícitos: "
+                        + e.getMessage(), e);
+            }
+        }
+        parametros += ".ordem=" + reordenacao.getNome();
+
+        return obterOuCalcular(chave(grafo, "floyd-warshall", parametros),
+                () -> FloydWarshall.calcular(grafo, caminhoArquivoDOT, metricas, contexto, checkpoint, reordenacao),
+                resultado -> {
+                    long n = resultado.getVerticesPorIndice().size();
+                    // Matriz de double + matriz de referências + índices
+                    return n * n * Double.BYTES + n * n * 8 + n * BYTES_POR_ENTRADA_MAPA;
+                }, contexto);
+    }
+
+    /**
+     * Retorna o hash do conteúdo do grafo, recalculando apenas se o grafo mudou.
+     */
+    public String hash(Grafo grafo) {
+        Versao atual = new Versao(grafo);
+        synchronized (hashesPorGrafo) {
+            Versao versao = versoesPorGrafo.get(grafo);
+            if (versao != null && versao.mesma(atual)) {
+                return hashesPorGrafo.get(grafo);
+            }
+        }
+
+        String hash = HashGrafo.calcular(grafo);
+        synchronized (hashesPorGrafo) {
+            versoesPorGrafo.put(grafo, atual);
+            hashesPorGrafo.put(grafo, hash);
+        }
+        return hash;
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private String chave(Grafo grafo, String algoritmo, String parametros) {
+        return hash(grafo) + "." + algoritmo + "." + parametros;
+    }
+
+    private <T> T obterOuCalcular(String chave, Supplier<T> calcular, ToLongFunction<T> estimarBytes) {
+        return obterOuCalcular(chave, calcular, estimarBytes, null);
+    }
+
+    /**
+     * Como o anterior, mas não guarda o resultado se o contexto tiver interrompido
+     * o cálculo (o resultado seria parcial).
+     */
+    private <T> T obterOuCalcular(String chave, Supplier<T> calcular, ToLongFunction<T> estimarBytes,
+                                  ContextoExecucao contexto) {
+        T valor = cache.obter(chave, estimarBytes);
+        if (valor == null) {
+            valor = calcular.get();
+            if (contexto == null || !contexto.foiInterrompida()) {
+                cache.guardar(chave, valor, estimarBytes.applyAsLong(valor));
+            }
+        }
+        return valor;
+    }
+}
@@ -0,0 +1,117 @@
+package br.ufrn.imd.execucao;
+
+import java.time.Duration;
+
+/**
+ * Controla uma execução longa: recebe o progresso, impõe um prazo e permite
+ * cancelar de outra thread.
+ * * Os algoritmos consultam o contexto uma vez por passo caro (pivô do
+ * Floyd-Warshall, rodada do Bellman-Ford), nunca no laço interno. Ao parar,
+ * montam o resultado parcial e o devolvem ou lançam conforme a política.
+ * Um contexto acompanha uma única execução.
+ */
+public class ContextoExecucao {
+
+    /**
+     * Por que uma execução foi interrompida.
+     */
+    public enum Motivo {
+        CANCELADA,
+        PRAZO_ESGOTADO
+    }
+
+    private final OuvinteProgresso ouvinte;
+
+    /**
+     * Instante (em System.nanoTime()) a partir do qual a execução deve parar.
+     */
+    private final long prazoNanos;
+    private final boolean temPrazo;
+    private final PoliticaInterrupcao politica;
+
+    private volatile boolean cancelado;
+    private volatile Motivo motivoInterrupcao;
+
+    /**
+     * @param ouvinte  Recebe o progresso (ou null)
+     * @param prazo    Tempo máximo a partir de agora (ou null para não ter prazo)
+     * @param politica O que fazer ao ser interrompido
+     */
+    public ContextoExecucao(OuvinteProgresso ouvinte, Duration prazo, PoliticaInterrupcao politica) {
+        this.ouvinte = ouvinte;
+        this.temPrazo = prazo != null;
+        this.prazoNanos = prazo == null ? 0 : System.nanoTime() + prazo.toNanos();
+        this.politica = politica;
+    }
+
+    /**
+     * Contexto sem prazo nem ouvinte, usado pelas sobrecargas sem contexto.
+     */
+    public static ContextoExecucao ilimitado() {
+        return new ContextoExecucao(null, null, PoliticaInterrupcao.LANCAR);
+    }
+
+    /**
+     * Pede que a execução pare no próximo ponto de verificação.
+     * Pode ser chamado de qualquer thread.
+     */
+    public void cancelar() {
+        cancelado = true;
+    }
+
+    /**
+     * Verifica se a execução deve parar (cancelada ou fora do prazo).
+     */
+    public boolean deveParar() {
+        if (cancelado) {
+            motivoInterrupcao = Motivo.CANCELADA;
+            return true;
+        }
+        if (temPrazo && System.nanoTime() - prazoNanos >= 0) {
+            motivoInterrupcao = Motivo.PRAZO_ESGOTADO;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Aplica a política a um resultado parcial: lança ExecucaoInterrompidaException
+     * ou simplesmente devolve o resultado. Só deve ser chamado depois de deveParar() == true.
+     *
+     * @param algoritmo  Nome do algoritmo, para a mensagem
+     * @param concluidos Passos concluídos antes da interrupção
+     * @param total      Número máximo de passos
+     */
+    public <T> T interromper(T parcial, String algoritmo, long concluidos, long total) {
+        if (politica == PoliticaInterrupcao.LANCAR) {
+            String causa = motivoInterrupcao == Motivo.CANCELADA ? "cancelado" : "prazo esgotado";
+            throw new ExecucaoInterrompidaException(algoritmo + " interrompido (" + causa + ") após "
+                    + concluidos + " de " + total + " passos", motivoInterrupcao, parcial);
+        }
+        return parcial;
+    }
+
+    public void reportarProgresso(String algoritmo, long concluidos, long total) {
+        if (ouvinte != null) {
+            ouvinte.progresso(algoritmo, concluidos, total);
+        }
+    }
+
+    /**
+     * @return true se algum algoritmo parou antes de terminar por causa deste contexto.
+     */
+    public boolean foiInterrompida() {
+        return motivoInterrupcao != null;
+    }
+
+    /**
+     * @return O motivo da interrupção, ou null se a execução não foi interrompida.
+     */
+    public Motivo getMotivoInterrupcao() {
+        return motivoInterrupcao;
+    }
+
+    public PoliticaInterrupcao getPolitica() {
+        return politica;
+    }
+}
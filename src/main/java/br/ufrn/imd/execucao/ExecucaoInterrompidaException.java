@@ -0,0 +1,31 @@
+package br.ufrn.imd.execucao;
+
+/**
+ * Lançada quando um algoritmo é cancelado ou estoura o prazo e a política é
+ * {@link PoliticaInterrupcao#LANCAR}. Carrega o resultado parcial (do mesmo
+ * tipo que o algoritmo devolveria), para quem quiser aproveitá-lo.
+ */
+public class ExecucaoInterrompidaException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final ContextoExecucao.Motivo motivo;
+    private final transient Object resultadoParcial;
+
+    public ExecucaoInterrompidaException(String mensagem, ContextoExecucao.Motivo motivo, Object resultadoParcial) {
+        super(mensagem);
+        this.motivo = motivo;
+        this.resultadoParcial = resultadoParcial;
+    }
+
+    public ContextoExecucao.Motivo getMotivo() {
+        return motivo;
+    }
+
+    /**
+     * Resultado parcial do algoritmo (ex: FloydWarshall.Resultado após k pivôs,
+     * ou o mapa de distâncias do Bellman-Ford após i rodadas).
+     */
+    public Object getResultadoParcial() {
+        return resultadoParcial;
+    }
+}
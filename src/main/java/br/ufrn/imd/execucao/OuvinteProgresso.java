@@ -0,0 +1,16 @@
+package br.ufrn.imd.execucao;
+
+/**
+ * Recebe o progresso de um algoritmo longo (ex: pivô k de n do Floyd-Warshall).
+ * É chamado na thread do algoritmo, então deve ser rápido.
+ */
+@FunctionalInterface
+public interface OuvinteProgresso {
+
+    /**
+     * @param algoritmo  Nome do algoritmo (ex: "floyd-warshall", "bellman-ford")
+     * @param concluidos Passos já concluídos (pivôs, rodadas)
+     * @param total      Número máximo de passos
+     */
+    void progresso(String algoritmo, long concluidos, long total);
+}
@@ -0,0 +1,16 @@
+package br.ufrn.imd.execucao;
+
+/**
+ * O que um algoritmo faz quando é cancelado ou estoura o prazo.
+ */
+public enum PoliticaInterrupcao {
+    /**
+     * Lança ExecucaoInterrompidaException, levando o resultado parcial.
+     */
+    LANCAR,
+    /**
+     * Devolve o resultado parcial normalmente; quem chamou consulta
+     * ContextoExecucao.foiInterrompida() para saber se ele está completo.
+     */
+    RETORNAR_PARCIAL
+}
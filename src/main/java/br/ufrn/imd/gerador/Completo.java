@@ -0,0 +1,29 @@
+package br.ufrn.imd.gerador;
+
+import java.util.SplittableRandom;
+
+/**
+ * Grafo completo: todo par de vértices distintos é ligado.
+ * Uma partição por vértice de origem.
+ */
+public class Completo extends ModeloGrafo {
+
+    public Completo(int numVertices, boolean direcionado) {
+        super(numVertices, direcionado);
+    }
+
+    @Override
+    public long numParticoes() {
+        return getNumVertices();
+    }
+
+    @Override
+    public void gerarParticao(long particao, SplittableRandom aleatorio, ConsumidorPares saida) {
+        int u = (int) particao;
+        for (int v = isDirecionado() ? 0 : u + 1; v < getNumVertices(); v++) {
+            if (v != u) {
+                saida.aceitar(u, v);
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package br.ufrn.imd.gerador;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Opções de linha de comando do modo gerador.
+ * * Exemplo: {@code --gerar=rmat:escala=20,m=16000000 --direcionado --pesos=0:100
+ * --potencial=50 --semente=7 --arquivo=grande.dot}
+ */
+public class ConfiguracaoGerador {
+
+    public static final long SEMENTE_PADRAO = 42L;
+
+    private final GeradorGrafos gerador;
+
+    /**
+     * Arquivo DOT de saída, ou null para a saída padrão.
+     */
+    private final String arquivo;
+
+    public ConfiguracaoGerador(GeradorGrafos gerador, String arquivo) {
+        this.gerador = gerador;
+        this.arquivo = arquivo;
+    }
+
+    /**
+     * Lê as opções do modo gerador.
+     *
+     * @throws IllegalArgumentException se algum argumento for inválido
+     */
+    public static ConfiguracaoGerador deArgumentos(String[] args) {
+        String especificacao = null;
+        boolean direcionado = false;
+        String faixa = "1:100";
+        double potencial = 0;
+        long semente = SEMENTE_PADRAO;
+        String arquivo = null;
+
+        for (String arg : args) {
+            if (arg.startsWith("--gerar=")) {
+                especificacao = arg.substring("--gerar=".length());
+            } else if (arg.equals("--direcionado")) {
+                direcionado = true;
+            } else if (arg.startsWith("--pesos=")) {
+                faixa = arg.substring("--pesos=".length());
+            } else if (arg.startsWith("--potencial=")) {
+                potencial = lerNumero(arg.substring("--potencial=".length()), arg);
+            } else if (arg.startsWith("--semente=")) {
+                try {
+                    semente = Long.parseLong(arg.substring("--semente=".length()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Valor inválido em " + arg);
+                }
+            } else if (arg.startsWith("--arquivo=")) {
+                arquivo = arg.substring("--arquivo=".length());
+            } else {
+                throw new IllegalArgumentException("Opção desconhecida no modo gerador: " + arg);
+            }
+        }
+        if (especificacao == null || especificacao.isEmpty()) {
+            throw new IllegalArgumentException("Informe o modelo em --gerar=<modelo>:<parâmetros>");
+        }
+
+        FaixaPesos pesos = lerFaixa(faixa);
+        if (potencial > 0) {
+            pesos = pesos.comPotencial(potencial);
+        }
+        return new ConfiguracaoGerador(new GeradorGrafos(lerModelo(especificacao, direcionado), pesos, semente),
+                arquivo);
+    }
+
+    /**
+     * Lê "modelo:chave=valor,chave=valor". Modelos: gnp (n, p), gnm (n, m),
+     * rmat (escala, m e opcionalmente a, b, c), grade (linhas, colunas), completo (n).
+     */
+    static ModeloGrafo lerModelo(String especificacao, boolean direcionado) {
+        String[] partes = especificacao.split(":", 2);
+        Map<String, Double> parametros = new HashMap<>();
+        if (partes.length == 2 && !partes[1].isEmpty()) {
+            for (String par : partes[1].split(",")) {
+                String[] chaveValor = par.split("=", 2);
+                if (chaveValor.length != 2) {
+                    throw new IllegalArgumentException("Parâmetro inválido em --gerar: " + par);
+                }
+                parametros.put(chaveValor[0].trim(), lerNumero(chaveValor[1].trim(), par));
+            }
+        }
+
+        return switch (partes[0]) {
+            case "gnp" -> new ErdosRenyiGnp(inteiro(parametros, "n"), obrigatorio(parametros, "p"), direcionado);
+            case "gnm" -> new ErdosRenyiGnm(inteiro(parametros, "n"), (long) obrigatorio(parametros, "m"), direcionado);
+            case "rmat" -> new Rmat(inteiro(parametros, "escala"), (long) obrigatorio(parametros, "m"),
+                    parametros.getOrDefault("a", 0.57), parametros.getOrDefault("b", 0.19),
+                    parametros.getOrDefault("c", 0.19), direcionado);
+            case "grade" -> new Grade(inteiro(parametros, "linhas"), inteiro(parametros, "colunas"), direcionado);
+            case "completo" -> new Completo(inteiro(parametros, "n"), direcionado);
+            default -> throw new IllegalArgumentException("Modelo desconhecido: " + partes[0]
+                    + " (use gnp, gnm, rmat, grade ou completo)");
+        };
+    }
+
+    /**
+     * Lê "min:max". Se algum dos limites tiver ponto decimal os pesos são reais,
+     * senão inteiros.
+     */
+    static FaixaPesos lerFaixa(String faixa) {
+        String[] limites = faixa.split(":", 2);
+        if (limites.length != 2) {
+            throw new IllegalArgumentException("Use --pesos=<mínimo>:<máximo>: " + faixa);
+        }
+        double minimo = lerNumero(limites[0], faixa);
+        double maximo = lerNumero(limites[1], faixa);
+        boolean reais = faixa.contains(".");
+        return new FaixaPesos(minimo, maximo, !reais, 0);
+    }
+
+    private static double obrigatorio(Map<String, Double> parametros, String nome) {
+        Double valor = parametros.get(nome);
+        if (valor == null) {
+            throw new IllegalArgumentException("Parâmetro obrigatório ausente em --gerar: " + nome);
+        }
+        return valor;
+    }
+
+    private static int inteiro(Map<String, Double> parametros, String nome) {
+        double valor = obrigatorio(parametros, nome);
+        if (valor != Math.rint(valor) || valor > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Parâmetro " + nome + " deve ser inteiro: " + valor);
+        }
+        return (int) valor;
+    }
+
+    private static double lerNumero(String texto, String contexto) {
+        try {
+            return Double.parseDouble(texto);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido em " + contexto);
+        }
+    }
+
+    public GeradorGrafos getGerador() {
+        return gerador;
+    }
+
+    public String getArquivo() {
+        return arquivo;
+    }
+}
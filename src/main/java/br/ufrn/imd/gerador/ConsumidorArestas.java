@@ -0,0 +1,10 @@
+package br.ufrn.imd.gerador;
+
+/**
+ * Recebe as arestas produzidas por um gerador (ou por um ConstrutorGrafo), uma a uma.
+ * Os vértices são índices de 0 a n-1.
+ */
+@FunctionalInterface
+public interface ConsumidorArestas {
+    void aceitar(int origem, int destino, double peso);
+}
@@ -0,0 +1,51 @@
+package br.ufrn.imd.gerador;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Modelo G(n, m) de Erdős–Rényi: exatamente m arestas distintas sorteadas
+ * uniformemente entre todos os pares possíveis.
+ * * Para garantir que as arestas sejam distintas a geração é feita em uma
+ * única partição (sequencial).
+ */
+public class ErdosRenyiGnm extends ModeloGrafo {
+
+    private final long numArestas;
+
+    public ErdosRenyiGnm(int numVertices, long numArestas, boolean direcionado) {
+        super(numVertices, direcionado);
+        long possiveis = (long) numVertices * (numVertices - 1) / (direcionado ? 1 : 2);
+        if (numArestas < 0 || numArestas > possiveis) {
+            throw new IllegalArgumentException("Número de arestas deve estar entre 0 e " + possiveis + ": " + numArestas);
+        }
+        this.numArestas = numArestas;
+    }
+
+    @Override
+    public long numParticoes() {
+        return 1;
+    }
+
+    @Override
+    public void gerarParticao(long particao, SplittableRandom aleatorio, ConsumidorPares saida) {
+        int n = getNumVertices();
+        Set<Long> sorteadas = new HashSet<>();
+        while (sorteadas.size() < numArestas) {
+            int u = aleatorio.nextInt(n);
+            int v = aleatorio.nextInt(n);
+            if (u == v) {
+                continue;
+            }
+            if (!isDirecionado() && u > v) {
+                int t = u;
+                u = v;
+                v = t;
+            }
+            if (sorteadas.add(((long) u << 32) | v)) {
+                saida.aceitar(u, v);
+            }
+        }
+    }
+}
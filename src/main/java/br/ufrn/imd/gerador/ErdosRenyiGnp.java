@@ -0,0 +1,56 @@
+package br.ufrn.imd.gerador;
+
+import java.util.SplittableRandom;
+
+/**
+ * Modelo G(n, p) de Erdős–Rényi: cada par de vértices vira aresta com probabilidade p.
+ * * Uma partição por vértice de origem. Em vez de sortear cada par, sorteia o
+ * tamanho do salto até a próxima aresta (distribuição geométrica, Batagelj e
+ * Brandes), então o custo é proporcional ao número de arestas, não a n².
+ */
+public class ErdosRenyiGnp extends ModeloGrafo {
+
+    private final double probabilidade;
+
+    public ErdosRenyiGnp(int numVertices, double probabilidade, boolean direcionado) {
+        super(numVertices, direcionado);
+        if (probabilidade < 0 || probabilidade > 1) {
+            throw new IllegalArgumentException("Probabilidade deve estar em [0, 1]: " + probabilidade);
+        }
+        this.probabilidade = probabilidade;
+    }
+
+    @Override
+    public long numParticoes() {
+        return getNumVertices();
+    }
+
+    @Override
+    public void gerarParticao(long particao, SplittableRandom aleatorio, ConsumidorPares saida) {
+        if (probabilidade == 0) {
+            return;
+        }
+        int u = (int) particao;
+        int n = getNumVertices();
+
+        // Candidatos: todos os v != u (direcionado) ou v > u (não-direcionado)
+        int primeiro = isDirecionado() ? 0 : u + 1;
+        double logNaoAresta = Math.log1p(-probabilidade);
+
+        long v = primeiro - 1;
+        while (true) {
+            if (probabilidade == 1) {
+                v++;
+            } else {
+                double r = aleatorio.nextDouble();
+                v += 1 + (long) Math.floor(Math.log1p(-r) / logNaoAresta);
+            }
+            if (v >= n) {
+                return;
+            }
+            if (v != u) {
+                saida.aceitar(u, (int) v);
+            }
+        }
+    }
+}
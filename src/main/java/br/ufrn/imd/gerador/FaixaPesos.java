@@ -0,0 +1,91 @@
+package br.ufrn.imd.gerador;
+
+import java.util.SplittableRandom;
+
+/**
+ * Como os pesos das arestas geradas são sorteados.
+ * * O peso base é sorteado uniformemente em [minimo, maximo] (inteiro ou real).
+ * Para obter pesos negativos sem ciclos negativos, cada vértice recebe um
+ * potencial p(v) em [0, amplitudePotencial] e o peso final da aresta u→v é
+ * base + p(u) - p(v). Em qualquer ciclo os potenciais se cancelam, então o
+ * peso do ciclo é a soma dos pesos base (que são não-negativos).
+ */
+public class FaixaPesos {
+
+    private final double minimo;
+    private final double maximo;
+    private final boolean inteiros;
+    private final double amplitudePotencial;
+
+    public FaixaPesos(double minimo, double maximo, boolean inteiros, double amplitudePotencial) {
+        if (minimo > maximo) {
+            throw new IllegalArgumentException("Peso mínimo maior que o máximo: " + minimo + " > " + maximo);
+        }
+        if (amplitudePotencial < 0) {
+            throw new IllegalArgumentException("Amplitude do potencial não pode ser negativa: " + amplitudePotencial);
+        }
+        if (amplitudePotencial > 0 && minimo < 0) {
+            throw new IllegalArgumentException("Com potencial, o peso base mínimo deve ser não-negativo "
+                    + "(senão podem surgir ciclos negativos)");
+        }
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.inteiros = inteiros;
+        this.amplitudePotencial = amplitudePotencial;
+    }
+
+    /**
+     * Todos os pesos iguais a 1 (grafo não-ponderado).
+     */
+    public static FaixaPesos unitaria() {
+        return new FaixaPesos(1, 1, true, 0);
+    }
+
+    public static FaixaPesos inteiros(long minimo, long maximo) {
+        return new FaixaPesos(minimo, maximo, true, 0);
+    }
+
+    public static FaixaPesos reais(double minimo, double maximo) {
+        return new FaixaPesos(minimo, maximo, false, 0);
+    }
+
+    /**
+     * Mesma faixa base, mas com potenciais em [0, amplitude], o que gera pesos
+     * negativos sem ciclos negativos (só faz sentido em grafos direcionados).
+     */
+    public FaixaPesos comPotencial(double amplitude) {
+        return new FaixaPesos(minimo, maximo, inteiros, amplitude);
+    }
+
+    public boolean temPotencial() {
+        return amplitudePotencial > 0;
+    }
+
+    /**
+     * Sorteia o peso da aresta origem→destino.
+     */
+    double sortear(SplittableRandom aleatorio, long semente, int origem, int destino) {
+        double base;
+        if (minimo == maximo) {
+            base = minimo;
+        } else if (inteiros) {
+            base = aleatorio.nextLong((long) minimo, (long) maximo + 1);
+        } else {
+            base = aleatorio.nextDouble(minimo, maximo);
+        }
+        if (amplitudePotencial > 0) {
+            base += potencial(semente, origem) - potencial(semente, destino);
+        }
+        return base;
+    }
+
+    /**
+     * Potencial de um vértice, derivado só da semente e do índice
+     * (não precisa ser guardado e é o mesmo em qualquer thread).
+     */
+    private double potencial(long semente, int vertice) {
+        long bits = Misturador.misturar(semente ^ 0x5DEECE66DL, vertice);
+        double fracao = (bits >>> 11) * 0x1.0p-53;
+        return inteiros ? Math.floor(fracao * (amplitudePotencial + 1)) : fracao * amplitudePotencial;
+    }
+}
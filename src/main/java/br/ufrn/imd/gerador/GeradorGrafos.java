@@ -0,0 +1,307 @@
+package br.ufrn.imd.gerador;
+
+import br.ufrn.imd.ConstrutorGrafo;
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.GrafoCompacto;
+import br.ufrn.imd.GrafoComprimido;
+import br.ufrn.imd.Vertice;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Gera grafos sintéticos reprodutíveis a partir de um modelo, uma faixa de
+ * pesos e uma semente.
+ * * Cada partição do modelo usa um gerador derivado de (semente, partição),
+ * então a mesma semente produz sempre o mesmo grafo, seja a geração
+ * sequencial (Grafo, DOT) ou paralela (GrafoCompacto).
+ * Os vértices têm rótulos "v0", "v1", ..., "v(n-1)".
+ */
+public class GeradorGrafos {
+
+    /**
+     * Quantos blocos de partições são gerados em paralelo por núcleo.
+     */
+    private static final int BLOCOS_POR_NUCLEO = 8;
+
+    private final ModeloGrafo modelo;
+    private final FaixaPesos pesos;
+    private final long semente;
+
+    public GeradorGrafos(ModeloGrafo modelo, FaixaPesos pesos, long semente) {
+        if (pesos.temPotencial() && !modelo.isDirecionado()) {
+            // Em grafo não-direcionado u-v e v-u são a mesma aresta, então p(u)-p(v)
+            // não se cancela: uma aresta negativa já é um ciclo negativo.
+            throw new IllegalArgumentException("Pesos negativos por potencial só são possíveis em grafos direcionados");
+        }
+        this.modelo = modelo;
+        this.pesos = pesos;
+        this.semente = semente;
+    }
+
+    public static String rotulo(int i) {
+        return "v" + i;
+    }
+
+    /**
+     * Entrega todas as arestas ao consumidor, sequencialmente e na ordem das partições.
+     */
+    public void gerar(ConsumidorArestas saida) {
+        for (long p = 0; p < modelo.numParticoes(); p++) {
+            gerarParticao(p, saida);
+        }
+    }
+
+    private void gerarParticao(long particao, ConsumidorArestas saida) {
+        SplittableRandom aleatorio = new SplittableRandom(Misturador.misturar(semente, particao));
+        modelo.gerarParticao(particao, aleatorio,
+                (u, v) -> saida.aceitar(u, v, pesos.sortear(aleatorio, semente, u, v)));
+    }
+
+    /**
+     * Monta um Grafo com as arestas geradas, usando o ConstrutorGrafo.
+     * Todos os vértices são criados, inclusive os isolados.
+     */
+    public Grafo paraGrafo() {
+        // Os vértices são adicionados em ordem, então o índice no construtor é o índice do gerador
+        ConstrutorGrafo construtor = new ConstrutorGrafo(modelo.isDirecionado());
+        for (int i = 0; i < modelo.getNumVertices(); i++) {
+            construtor.addVertice(rotulo(i));
+        }
+        gerar(construtor::addAresta);
+        Grafo grafo = construtor.construir();
+        // O gerador sempre sorteia um peso, como o atributo weight do DOT que ele escreve
+        grafo.setArestasSemPeso(Set.of());
+        return grafo;
+    }
+
+    /**
+     * Escreve o grafo no formato DOT aceito pelo LeitorDOT, aresta por aresta,
+     * sem manter o grafo em memória (serve para entradas com milhões de arestas).
+     */
+    public void escreverDot(Writer saida) throws IOException {
+        String ligacao = modelo.isDirecionado() ? " -> " : " -- ";
+        saida.write(modelo.isDirecionado() ? "digraph g {\n" : "graph g {\n");
+        for (int i = 0; i < modelo.getNumVertices(); i++) {
+            saida.write("    " + rotulo(i) + ";\n");
+        }
+        StringBuilder linha = new StringBuilder();
+        try {
+            gerar((u, v, peso) -> {
+                linha.setLength(0);
+                linha.append("    v").append(u).append(ligacao).append('v').append(v)
+                        .append(" [weight=").append(formatarPeso(peso)).append("];\n");
+                try {
+                    saida.write(linha.toString());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        saida.write("}\n");
+        saida.flush();
+    }
+
+    private static String formatarPeso(double peso) {
+        if (peso == Math.rint(peso) && Math.abs(peso) < 1e15) {
+            return Long.toString((long) peso);
+        }
+        return Double.toString(peso);
+    }
+
+    /**
+     * Gera o grafo direto na forma compacta (CSR), em paralelo.
+     * * As partições são geradas em blocos paralelos, os graus são contados,
+     * as arestas são distribuídas nas posições finais e, por fim, os vizinhos
+     * de cada vértice são ordenados por (destino, peso). A ordenação deixa o
+     * resultado independente da ordem em que as threads escreveram.
+     * Em grafos não-direcionados as duas direções de cada aresta são guardadas,
+     * como em GrafoCompacto.de(Grafo).
+     */
+    public GrafoCompacto paraCompacto() {
+        int n = modelo.getNumVertices();
+        long particoes = modelo.numParticoes();
+        int numBlocos = (int) Math.min(particoes,
+                (long) Runtime.getRuntime().availableProcessors() * BLOCOS_POR_NUCLEO);
+
+        // 1. Geração paralela: cada bloco guarda suas arestas em vetores próprios
+        BlocoArestas[] blocos = new BlocoArestas[numBlocos];
+        IntStream.range(0, numBlocos).parallel().forEach(b -> {
+            BlocoArestas bloco = new BlocoArestas();
+            long inicio = particoes * b / numBlocos;
+            long fim = particoes * (b + 1) / numBlocos;
+            for (long p = inicio; p < fim; p++) {
+                gerarParticao(p, bloco);
+            }
+            blocos[b] = bloco;
+        });
+
+        // 2. Contagem de graus (cada aresta não-direcionada conta nas duas pontas)
+        AtomicIntegerArray graus = new AtomicIntegerArray(n);
+        long total = 0;
+        for (BlocoArestas bloco : blocos) {
+            total += modelo.isDirecionado() ? bloco.tamanho : 2L * bloco.tamanho;
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Grafo grande demais para a forma compacta: " + total + " arestas");
+        }
+        IntStream.range(0, numBlocos).parallel().forEach(b -> {
+            BlocoArestas bloco = blocos[b];
+            for (int i = 0; i < bloco.tamanho; i++) {
+                graus.incrementAndGet(bloco.origens[i]);
+                if (!modelo.isDirecionado()) {
+                    graus.incrementAndGet(bloco.destinos[i]);
+                }
+            }
+        });
+
+        int[] inicio = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            inicio[i + 1] = inicio[i] + graus.get(i);
+        }
+
+        // 3. Preenchimento paralelo; graus passa a ser o cursor de cada vértice
+        int[] destinos = new int[(int) total];
+        double[] pesosCsr = new double[(int) total];
+        for (int i = 0; i < n; i++) {
+            graus.set(i, inicio[i]);
+        }
+        IntStream.range(0, numBlocos).parallel().forEach(b -> {
+            BlocoArestas bloco = blocos[b];
+            for (int i = 0; i < bloco.tamanho; i++) {
+                int pos = graus.getAndIncrement(bloco.origens[i]);
+                destinos[pos] = bloco.destinos[i];
+                pesosCsr[pos] = bloco.pesos[i];
+                if (!modelo.isDirecionado()) {
+                    pos = graus.getAndIncrement(bloco.destinos[i]);
+                    destinos[pos] = bloco.origens[i];
+                    pesosCsr[pos] = bloco.pesos[i];
+                }
+            }
+            blocos[b] = null; // Libera a memória do bloco assim que possível
+        });
+
+        // 4. Ordem canônica dos vizinhos
+        IntStream.range(0, n).parallel().forEach(v -> ordenar(destinos, pesosCsr, inicio[v], inicio[v + 1]));
+
+        List<Vertice> verticesPorIndice = new ArrayList<>(n);
+        Map<Vertice, Integer> indicePorVertice = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            Vertice vertice = new Vertice(rotulo(i));
+            verticesPorIndice.add(vertice);
+            indicePorVertice.put(vertice, i);
+        }
+
+        return new GrafoCompacto(modelo.isDirecionado(), Collections.unmodifiableList(verticesPorIndice),
+                indicePorVertice, inicio, destinos, pesosCsr);
+    }
+
+    /**
+     * Gera o grafo direto na forma comprimida, sem guardar as arestas: como a
+     * geração é reprodutível, as arestas são geradas de novo a cada passada
+     * da construção (veja GrafoComprimido.de(boolean, List, Consumer)).
+     */
+    public GrafoComprimido paraComprimido() {
+        List<Vertice> vertices = new ArrayList<>(modelo.getNumVertices());
+        for (int i = 0; i < modelo.getNumVertices(); i++) {
+            vertices.add(new Vertice(rotulo(i)));
+        }
+        return GrafoComprimido.de(modelo.isDirecionado(), vertices, this::gerar);
+    }
+
+    /**
+     * Heapsort de destinos[inicio..fim) por (destino, peso), movendo os pesos junto.
+     */
+    private static void ordenar(int[] destinos, double[] pesos, int inicio, int fim) {
+        int tamanho = fim - inicio;
+        for (int i = tamanho / 2 - 1; i >= 0; i--) {
+            descer(destinos, pesos, inicio, i, tamanho);
+        }
+        for (int ultimo = tamanho - 1; ultimo > 0; ultimo--) {
+            trocar(destinos, pesos, inicio, inicio + ultimo);
+            descer(destinos, pesos, inicio, 0, ultimo);
+        }
+    }
+
+    private static void descer(int[] destinos, double[] pesos, int base, int i, int tamanho) {
+        while (true) {
+            int maior = i;
+            int esquerda = 2 * i + 1;
+            int direita = esquerda + 1;
+            if (esquerda < tamanho && comparar(destinos, pesos, base + esquerda, base + maior) > 0) {
+                maior = esquerda;
+            }
+            if (direita < tamanho && comparar(destinos, pesos, base + direita, base + maior) > 0) {
+                maior = direita;
+            }
+            if (maior == i) {
+                return;
+            }
+            trocar(destinos, pesos, base + i, base + maior);
+            i = maior;
+        }
+    }
+
+    private static int comparar(int[] destinos, double[] pesos, int a, int b) {
+        int c = Integer.compare(destinos[a], destinos[b]);
+        return c != 0 ? c : Double.compare(pesos[a], pesos[b]);
+    }
+
+    private static void trocar(int[] destinos, double[] pesos, int a, int b) {
+        int d = destinos[a];
+        destinos[a] = destinos[b];
+        destinos[b] = d;
+        double p = pesos[a];
+        pesos[a] = pesos[b];
+        pesos[b] = p;
+    }
+
+    /**
+     * Arestas de um bloco de partições, em vetores primitivos que crescem sob demanda.
+     */
+    private static final class BlocoArestas implements ConsumidorArestas {
+        int[] origens = new int[1024];
+        int[] destinos = new int[1024];
+        double[] pesos = new double[1024];
+        int tamanho;
+
+        @Override
+        public void aceitar(int origem, int destino, double peso) {
+            if (tamanho == origens.length) {
+                int novo = Math.toIntExact(Math.min((long) tamanho * 2, Integer.MAX_VALUE - 8));
+                origens = Arrays.copyOf(origens, novo);
+                destinos = Arrays.copyOf(destinos, novo);
+                pesos = Arrays.copyOf(pesos, novo);
+            }
+            origens[tamanho] = origem;
+            destinos[tamanho] = destino;
+            pesos[tamanho] = peso;
+            tamanho++;
+        }
+    }
+
+    public ModeloGrafo getModelo() {
+        return modelo;
+    }
+
+    public FaixaPesos getPesos() {
+        return pesos;
+    }
+
+    public long getSemente() {
+        return semente;
+    }
+}
@@ -0,0 +1,53 @@
+package br.ufrn.imd.gerador;
+
+import java.util.SplittableRandom;
+
+/**
+ * Grade 2D (linhas × colunas), parecida com uma malha viária: cada vértice
+ * liga-se ao vizinho da direita e ao de baixo. O vértice (l, c) tem índice
+ * l * colunas + c. Em grafos direcionados as duas mãos de cada rua são geradas.
+ */
+public class Grade extends ModeloGrafo {
+
+    private final int linhas;
+    private final int colunas;
+
+    public Grade(int linhas, int colunas, boolean direcionado) {
+        super(verticesDaGrade(linhas, colunas), direcionado);
+        this.linhas = linhas;
+        this.colunas = colunas;
+    }
+
+    private static int verticesDaGrade(int linhas, int colunas) {
+        if (linhas <= 0 || colunas <= 0) {
+            throw new IllegalArgumentException("Grade deve ter dimensões positivas: " + linhas + "x" + colunas);
+        }
+        return Math.multiplyExact(linhas, colunas);
+    }
+
+    @Override
+    public long numParticoes() {
+        return linhas;
+    }
+
+    @Override
+    public void gerarParticao(long particao, SplittableRandom aleatorio, ConsumidorPares saida) {
+        int l = (int) particao;
+        for (int c = 0; c < colunas; c++) {
+            int u = l * colunas + c;
+            if (c + 1 < colunas) {
+                ligar(u, u + 1, saida);
+            }
+            if (l + 1 < linhas) {
+                ligar(u, u + colunas, saida);
+            }
+        }
+    }
+
+    private void ligar(int u, int v, ConsumidorPares saida) {
+        saida.aceitar(u, v);
+        if (isDirecionado()) {
+            saida.aceitar(v, u);
+        }
+    }
+}
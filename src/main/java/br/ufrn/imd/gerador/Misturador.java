@@ -0,0 +1,22 @@
+package br.ufrn.imd.gerador;
+
+/**
+ * Deriva sementes independentes a partir da semente do gerador e de um índice
+ * (partição ou vértice), para que o resultado não dependa da ordem nem da
+ * quantidade de threads.
+ */
+final class Misturador {
+
+    private Misturador() {
+    }
+
+    /**
+     * Função de mistura do SplitMix64 aplicada à semente combinada com o índice.
+     */
+    static long misturar(long semente, long indice) {
+        long z = semente + (indice + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
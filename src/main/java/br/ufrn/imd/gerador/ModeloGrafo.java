@@ -0,0 +1,54 @@
+package br.ufrn.imd.gerador;
+
+import java.util.SplittableRandom;
+
+/**
+ * Um modelo de grafo aleatório (ou determinístico) dividido em partições.
+ * * Cada partição é gerada só a partir do seu próprio gerador de números
+ * aleatórios, então as partições podem ser produzidas em qualquer ordem, em
+ * paralelo, e o grafo resultante é sempre o mesmo para a mesma semente.
+ * Em grafos não-direcionados cada aresta é emitida uma única vez.
+ */
+public abstract class ModeloGrafo {
+
+    private final int numVertices;
+    private final boolean direcionado;
+
+    protected ModeloGrafo(int numVertices, boolean direcionado) {
+        if (numVertices <= 0) {
+            throw new IllegalArgumentException("Número de vértices deve ser positivo: " + numVertices);
+        }
+        this.numVertices = numVertices;
+        this.direcionado = direcionado;
+    }
+
+    public int getNumVertices() {
+        return numVertices;
+    }
+
+    public boolean isDirecionado() {
+        return direcionado;
+    }
+
+    /**
+     * Número de partições em que a geração é dividida.
+     */
+    public abstract long numParticoes();
+
+    /**
+     * Gera as arestas (sem peso) de uma partição.
+     *
+     * @param particao  Índice da partição, de 0 a numParticoes()-1
+     * @param aleatorio Gerador exclusivo desta partição
+     * @param saida     Recebe cada aresta (origem, destino)
+     */
+    public abstract void gerarParticao(long particao, SplittableRandom aleatorio, ConsumidorPares saida);
+
+    /**
+     * Recebe os pares (origem, destino) de uma partição; o peso é sorteado depois.
+     */
+    @FunctionalInterface
+    public interface ConsumidorPares {
+        void aceitar(int origem, int destino);
+    }
+}
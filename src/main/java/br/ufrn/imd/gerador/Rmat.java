@@ -0,0 +1,85 @@
+package br.ufrn.imd.gerador;
+
+import java.util.SplittableRandom;
+
+/**
+ * Modelo R-MAT (Chakrabarti, Zhan e Faloutsos): grafos com distribuição de
+ * graus em lei de potência, parecidos com redes sociais e da web.
+ * * Cada aresta desce recursivamente por uma matriz de adjacência de lado 2^escala,
+ * escolhendo um quadrante com probabilidades a, b, c e d = 1 - a - b - c.
+ * Laços (u = u) são descartados e arestas repetidas são mantidas.
+ */
+public class Rmat extends ModeloGrafo {
+
+    /**
+     * Arestas geradas por partição.
+     */
+    static final int ARESTAS_POR_PARTICAO = 1 << 16;
+
+    private final int escala;
+    private final long numArestas;
+    private final double a;
+    private final double b;
+    private final double c;
+
+    /**
+     * Parâmetros clássicos do Graph500 (a=0.57, b=0.19, c=0.19).
+     */
+    public Rmat(int escala, long numArestas, boolean direcionado) {
+        this(escala, numArestas, 0.57, 0.19, 0.19, direcionado);
+    }
+
+    public Rmat(int escala, long numArestas, double a, double b, double c, boolean direcionado) {
+        super(verticesDaEscala(escala), direcionado);
+        if (a < 0 || b < 0 || c < 0 || a + b + c > 1) {
+            throw new IllegalArgumentException("Probabilidades do R-MAT inválidas: a=" + a + ", b=" + b + ", c=" + c);
+        }
+        if (numArestas < 0) {
+            throw new IllegalArgumentException("Número de arestas não pode ser negativo: " + numArestas);
+        }
+        this.escala = escala;
+        this.numArestas = numArestas;
+        this.a = a;
+        this.b = b;
+        this.c = c;
+    }
+
+    private static int verticesDaEscala(int escala) {
+        if (escala < 1 || escala > 30) {
+            throw new IllegalArgumentException("Escala do R-MAT deve estar entre 1 e 30: " + escala);
+        }
+        return 1 << escala;
+    }
+
+    @Override
+    public long numParticoes() {
+        return (numArestas + ARESTAS_POR_PARTICAO - 1) / ARESTAS_POR_PARTICAO;
+    }
+
+    @Override
+    public void gerarParticao(long particao, SplittableRandom aleatorio, ConsumidorPares saida) {
+        long inicio = particao * ARESTAS_POR_PARTICAO;
+        long fim = Math.min(numArestas, inicio + ARESTAS_POR_PARTICAO);
+
+        for (long e = inicio; e < fim; e++) {
+            int u = 0;
+            int v = 0;
+            for (int nivel = escala - 1; nivel >= 0; nivel--) {
+                double r = aleatorio.nextDouble();
+                if (r < a) {
+                    continue; // Quadrante superior esquerdo
+                } else if (r < a + b) {
+                    v |= 1 << nivel;
+                } else if (r < a + b + c) {
+                    u |= 1 << nivel;
+                } else {
+                    u |= 1 << nivel;
+                    v |= 1 << nivel;
+                }
+            }
+            if (u != v) {
+                saida.aceitar(u, v);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package br.ufrn.imd.metricas;
+
+/**
+ * Eventos contados nos laços críticos dos algoritmos.
+ */
+public enum Contador {
+    /**
+     * Arestas examinadas para tentar melhorar uma distância ou chave.
+     */
+    RELAXAMENTOS("relaxamentos"),
+    /**
+     * Relaxamentos que de fato melhoraram uma distância ou chave.
+     */
+    RELAXAMENTOS_EFETIVOS("relaxamentos efetivos"),
+    DECREASE_KEYS("decrease-keys"),
+    EXTRACOES_MIN("extrações do mínimo"),
+    /**
+     * Trocas de posição dentro do heap binário (subidas e descidas).
+     */
+    TROCAS_HEAP("trocas no heap"),
+    /**
+     * Rodadas do Bellman-Ford até convergir (sem contar a verificação de ciclo negativo).
+     */
+    RODADAS_BELLMAN_FORD("rodadas do Bellman-Ford"),
+    PIVOS_FLOYD_WARSHALL("pivôs do Floyd-Warshall"),
+    VERTICES_ADICIONADOS("vértices adicionados"),
+    ARESTAS_ADICIONADAS("arestas adicionadas");
+
+    private final String descricao;
+
+    Contador(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
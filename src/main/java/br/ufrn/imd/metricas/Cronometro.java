@@ -0,0 +1,21 @@
+package br.ufrn.imd.metricas;
+
+/**
+ * Mede uma fase do início até o close(). Feito para ser usado em try-with-resources:
+ * {@code try (Cronometro c = metricas.iniciarFase(Fase.PRIM)) { ... }}
+ * Como {@code c} não é usado no corpo, o método leva {@code @SuppressWarnings("try")}
+ * para o javac com -Xlint:try não avisar.
+ */
+public interface Cronometro extends AutoCloseable {
+
+    /**
+     * Cronômetro que não mede nada (compartilhado, não aloca).
+     */
+    Cronometro NENHUM = () -> { };
+
+    /**
+     * Encerra a medição. Não lança exceções verificadas.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,23 @@
+package br.ufrn.imd.metricas;
+
+/**
+ * Fases cronometradas separadamente.
+ */
+public enum Fase {
+    LEITURA_DOT("leitura do DOT"),
+    CONSTRUCAO_GRAFO("construção do grafo"),
+    PRIM("Prim"),
+    BELLMAN_FORD("Bellman-Ford"),
+    FLOYD_WARSHALL_INICIALIZACAO("inicialização do Floyd-Warshall"),
+    FLOYD_WARSHALL("Floyd-Warshall");
+
+    private final String descricao;
+
+    Fase(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
@@ -0,0 +1,59 @@
+package br.ufrn.imd.metricas;
+
+/**
+ * Ponto de extensão para medir o que acontece dentro dos algoritmos.
+ * * Os algoritmos contam em variáveis locais e só repassam os totais em pontos
+ * pouco frequentes (fim do algoritmo, de cada rodada do Bellman-Ford ou de
+ * cada pivô do Floyd-Warshall), então o custo no laço interno é o de somar
+ * um long. Com {@link #NENHUMA} (o padrão) as chamadas são vazias e o JIT as
+ * elimina.
+ */
+public interface Metricas {
+
+    /**
+     * Não registra nada. É o valor usado pelas sobrecargas sem métricas.
+     */
+    Metricas NENHUMA = new Metricas() {
+        @Override
+        public void incrementar(Contador contador, long quantidade) {
+        }
+
+        @Override
+        public Cronometro iniciarFase(Fase fase) {
+            return Cronometro.NENHUM;
+        }
+    };
+
+    /**
+     * Soma uma quantidade a um contador.
+     */
+    void incrementar(Contador contador, long quantidade);
+
+    /**
+     * Começa a cronometrar uma fase; a medição termina no close() do cronômetro.
+     */
+    Cronometro iniciarFase(Fase fase);
+
+    /**
+     * Repassa tudo para as duas métricas (ex: contadores em memória e eventos JFR).
+     */
+    static Metricas combinar(Metricas primeira, Metricas segunda) {
+        return new Metricas() {
+            @Override
+            public void incrementar(Contador contador, long quantidade) {
+                primeira.incrementar(contador, quantidade);
+                segunda.incrementar(contador, quantidade);
+            }
+
+            @Override
+            public Cronometro iniciarFase(Fase fase) {
+                Cronometro c1 = primeira.iniciarFase(fase);
+                Cronometro c2 = segunda.iniciarFase(fase);
+                return () -> {
+                    c2.close();
+                    c1.close();
+                };
+            }
+        };
+    }
+}
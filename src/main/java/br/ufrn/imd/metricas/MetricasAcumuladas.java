@@ -0,0 +1,72 @@
+package br.ufrn.imd.metricas;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumula contadores e tempos de fase em memória (LongAdder, seguro para
+ * várias threads ao mesmo tempo, como as etapas do pipeline).
+ */
+public class MetricasAcumuladas implements Metricas {
+
+    private final LongAdder[] contadores = novosAdders(Contador.values().length);
+    private final LongAdder[] nanosPorFase = novosAdders(Fase.values().length);
+    private final LongAdder[] execucoesPorFase = novosAdders(Fase.values().length);
+
+    private static LongAdder[] novosAdders(int quantidade) {
+        LongAdder[] adders = new LongAdder[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    @Override
+    public void incrementar(Contador contador, long quantidade) {
+        contadores[contador.ordinal()].add(quantidade);
+    }
+
+    @Override
+    public Cronometro iniciarFase(Fase fase) {
+        long inicio = System.nanoTime();
+        return () -> {
+            nanosPorFase[fase.ordinal()].add(System.nanoTime() - inicio);
+            execucoesPorFase[fase.ordinal()].increment();
+        };
+    }
+
+    public long getContador(Contador contador) {
+        return contadores[contador.ordinal()].sum();
+    }
+
+    /**
+     * Tempo total gasto na fase, somando todas as execuções.
+     */
+    public long getNanos(Fase fase) {
+        return nanosPorFase[fase.ordinal()].sum();
+    }
+
+    public long getExecucoes(Fase fase) {
+        return execucoesPorFase[fase.ordinal()].sum();
+    }
+
+    /**
+     * Escreve os contadores não-nulos e o tempo de cada fase executada.
+     */
+    public void imprimir(PrintStream saida) {
+        saida.println("\n--- Métricas ---");
+        for (Fase fase : Fase.values()) {
+            long execucoes = getExecucoes(fase);
+            if (execucoes > 0) {
+                saida.printf(" - %s: %.2f ms (%d execução(ões))%n",
+                        fase.getDescricao(), getNanos(fase) / 1e6, execucoes);
+            }
+        }
+        for (Contador contador : Contador.values()) {
+            long valor = getContador(contador);
+            if (valor > 0) {
+                saida.printf(" - %s: %d%n", contador.getDescricao(), valor);
+            }
+        }
+    }
+}
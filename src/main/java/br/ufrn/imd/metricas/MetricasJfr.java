@@ -0,0 +1,63 @@
+package br.ufrn.imd.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emite eventos do JDK Flight Recorder: um evento com duração por fase e um
+ * evento por lote de contagem. Sem gravação ativa os eventos ficam desligados
+ * e o custo é praticamente zero.
+ * * Ex: {@code java -XX:StartFlightRecording=filename=grafos.jfr -jar ... --metricas}
+ */
+public class MetricasJfr implements Metricas {
+
+    @Name("br.ufrn.imd.Fase")
+    @Label("Fase de Algoritmo em Grafo")
+    @Category("Grafos")
+    @Description("Duração de uma fase (leitura, construção, algoritmo)")
+    static class EventoFase extends Event implements Cronometro {
+        @Label("Fase")
+        String fase;
+
+        @Override
+        public void close() {
+            commit();
+        }
+    }
+
+    @Name("br.ufrn.imd.Contador")
+    @Label("Contador de Algoritmo em Grafo")
+    @Category("Grafos")
+    @Description("Quantidade somada a um contador (por rodada, pivô ou execução)")
+    static class EventoContador extends Event {
+        @Label("Contador")
+        String contador;
+
+        @Label("Quantidade")
+        long quantidade;
+    }
+
+    @Override
+    public void incrementar(Contador contador, long quantidade) {
+        EventoContador evento = new EventoContador();
+        if (evento.isEnabled()) {
+            evento.contador = contador.name();
+            evento.quantidade = quantidade;
+            evento.commit();
+        }
+    }
+
+    @Override
+    public Cronometro iniciarFase(Fase fase) {
+        EventoFase evento = new EventoFase();
+        if (!evento.isEnabled()) {
+            return Cronometro.NENHUM;
+        }
+        evento.fase = fase.name();
+        evento.begin();
+        return evento;
+    }
+}
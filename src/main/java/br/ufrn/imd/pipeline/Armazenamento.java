@@ -0,0 +1,48 @@
+package br.ufrn.imd.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Como o grafo lido fica na memória durante as etapas.
+ * - GRAFO: o Grafo completo (objetos por vértice e aresta), aceito por todas as etapas.
+ * - COMPRIMIDO: só a forma comprimida ({@link br.ufrn.imd.GrafoComprimido}),
+ *   montada direto das arestas lidas. Cabe em bem menos memória, mas só as
+ *   etapas que percorrem um GrafoIndexado (Prim e Bellman-Ford) a aceitam.
+ */
+public enum Armazenamento {
+    GRAFO("grafo"),
+    COMPRIMIDO("comprimido");
+
+    private final String nome;
+
+    Armazenamento(String nome) {
+        this.nome = nome;
+    }
+
+    /**
+     * Nome usado na linha de comando (ex: "comprimido").
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Procura um armazenamento pelo nome usado na linha de comando.
+     *
+     * @throws IllegalArgumentException se não houver armazenamento com esse nome
+     */
+    public static Armazenamento porNome(String nome) {
+        for (Armazenamento a : values()) {
+            if (a.nome.equalsIgnoreCase(nome)) {
+                return a;
+            }
+        }
+        List<String> nomes = new ArrayList<>();
+        for (Armazenamento a : values()) {
+            nomes.add(a.nome);
+        }
+        throw new IllegalArgumentException("Armazenamento desconhecido: " + nome
+                + " (disponíveis: " + String.join(", ", nomes) + ")");
+    }
+}
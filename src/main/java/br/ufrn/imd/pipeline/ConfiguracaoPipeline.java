@@ -0,0 +1,433 @@
+package br.ufrn.imd.pipeline;
+
+import br.ufrn.imd.algorithms.floyd_warshall.CheckpointFloydWarshall;
+import br.ufrn.imd.algorithms.reordenacao.Reordenacao;
+import br.ufrn.imd.cache.CacheResultados;
+import br.ufrn.imd.cache.ResultadosEmCache;
+import br.ufrn.imd.execucao.ContextoExecucao;
+import br.ufrn.imd.execucao.OuvinteProgresso;
+import br.ufrn.imd.execucao.PoliticaInterrupcao;
+import br.ufrn.imd.metricas.Metricas;
+import br.ufrn.imd.metricas.MetricasAcumuladas;
+import br.ufrn.imd.metricas.MetricasJfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opções de execução do pipeline, normalmente lidas da linha de comando.
+ */
+public class ConfiguracaoPipeline {
+
+    /**
+     * Etapas executadas quando nenhuma é escolhida (o comportamento original do programa).
+     */
+    public static final List<Etapa> ETAPAS_PADRAO =
+            List.of(Etapa.PRIM, Etapa.BELLMAN_FORD, Etapa.FLOYD_WARSHALL);
+
+    /**
+     * Etapas padrão com --armazenamento=comprimido (as padrão que aceitam a forma comprimida).
+     */
+    public static final List<Etapa> ETAPAS_COMPRIMIDO = List.of(Etapa.PRIM, Etapa.BELLMAN_FORD);
+
+    /**
+     * Tamanho do cache em memória quando apenas --cache-dir é informado.
+     */
+    public static final int TAMANHO_CACHE_PADRAO_MB = 256;
+
+    private final List<Etapa> etapas;
+    private final String rotuloOrigem;
+    private final String caminhoArquivo;
+    private final int threads;
+
+    // Opções do modo lote (lote == null quando um único arquivo é processado)
+    private final String lote;
+    private final String diretorioSaida;
+
+    // Cache de resultados compartilhado entre as etapas (null quando desligado)
+    private final ResultadosEmCache cache;
+
+    // Contadores e tempos de fase (null quando --metricas não foi informada)
+    private final MetricasAcumuladas metricasAcumuladas;
+    private final Metricas metricas;
+
+    // Tempo máximo de Bellman-Ford e Floyd-Warshall em cada etapa (null para sem limite)
+    private final Duration prazo;
+
+    // Se o progresso de Bellman-Ford e Floyd-Warshall deve ser impresso na saída de erro
+    private final boolean progresso;
+
+    // Checkpoint do Floyd-Warshall (null quando --checkpoint não foi informada)
+    private final CheckpointFloydWarshall checkpoint;
+
+    // Se as etapas devem ser escolhidas pelo planejador a partir do grafo lido (--planejar)
+    private final boolean planejar;
+
+    // Renumeração dos vértices antes de Bellman-Ford, Floyd-Warshall e Johnson (--reordenar)
+    private final Reordenacao reordenacao;
+
+    // Forma do grafo na memória durante as etapas (--armazenamento)
+    private final Armazenamento armazenamento;
+
+    /**
+     * @param etapas         Etapas a executar, na ordem em que os resultados serão emitidos
+     * @param rotuloOrigem   Vértice inicial para Prim e para os caminhos mínimos de origem única
+     * @param caminhoArquivo Arquivo DOT de onde o grafo foi lido (usado pelo Floyd-Warshall)
+     * @param threads        Número de threads do executor das etapas
+     */
+    public ConfiguracaoPipeline(List<Etapa> etapas, String rotuloOrigem, String caminhoArquivo, int threads) {
+        this(etapas, rotuloOrigem, caminhoArquivo, threads, null, null, null, null, null, false, null, false,
+                Reordenacao.NENHUMA, Armazenamento.GRAFO);
+    }
+
+    /**
+     * @param lote           Diretório ou glob com os arquivos do modo lote (null fora do modo lote)
+     * @param diretorioSaida Diretório onde cada arquivo do lote terá seu relatório (null para a saída padrão)
+     * @param cache          Cache de resultados usado por Prim, Bellman-Ford, Dijkstra e Floyd-Warshall (ou null)
+     * @param metricas       Onde acumular contadores e tempos de fase (null para não medir).
+     *                       Quando presente, também são emitidos eventos JFR.
+     * @param prazo          Tempo máximo de Bellman-Ford e Floyd-Warshall por etapa (null para sem limite)
+     * @param progresso      true para imprimir o progresso de Bellman-Ford e Floyd-Warshall na saída de erro
+     * @param checkpoint     Checkpoint do Floyd-Warshall: retomado se existir, gravado periodicamente (ou null)
+     * @param planejar       true para trocar as etapas pelas escolhidas pelo planejador para cada grafo
+     * @param reordenacao    Ordem dos índices dos vértices em Bellman-Ford, Floyd-Warshall e Johnson
+     * @param armazenamento  Forma do grafo na memória; com COMPRIMIDO todas as etapas precisam aceitá-la
+     */
+    public ConfiguracaoPipeline(List<Etapa> etapas, String rotuloOrigem, String caminhoArquivo, int threads,
+                                String lote, String diretorioSaida, ResultadosEmCache cache,
+                                MetricasAcumuladas metricas, Duration prazo, boolean progresso,
+                                CheckpointFloydWarshall checkpoint, boolean planejar, Reordenacao reordenacao,
+                                Armazenamento armazenamento) {
+        if (etapas.isEmpty()) {
+            throw new IllegalArgumentException("Nenhuma etapa selecionada");
+        }
+        if (armazenamento == Armazenamento.COMPRIMIDO) {
+            for (Etapa etapa : etapas) {
+                if (!etapa.isAceitaComprimido()) {
+                    throw new IllegalArgumentException("A etapa " + etapa.getNome()
+                            + " precisa do grafo completo e não pode ser usada com --armazenamento=comprimido.");
+                }
+            }
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Número de threads deve ser positivo: " + threads);
+        }
+        this.etapas = List.copyOf(etapas);
+        this.rotuloOrigem = rotuloOrigem;
+        this.caminhoArquivo = caminhoArquivo;
+        this.threads = threads;
+        this.lote = lote;
+        this.diretorioSaida = diretorioSaida;
+        this.cache = cache;
+        this.metricasAcumuladas = metricas;
+        this.metricas = metricas == null ? Metricas.NENHUMA : Metricas.combinar(metricas, new MetricasJfr());
+        this.prazo = prazo;
+        this.progresso = progresso;
+        this.checkpoint = checkpoint;
+        this.planejar = planejar;
+        this.reordenacao = reordenacao;
+        this.armazenamento = armazenamento;
+    }
+
+    /**
+     * Cria uma cópia desta configuração para processar um arquivo específico do lote.
+     */
+    public ConfiguracaoPipeline comArquivo(String caminhoArquivo) {
+        return new ConfiguracaoPipeline(etapas, rotuloOrigem, caminhoArquivo, threads, lote, diretorioSaida, cache,
+                metricasAcumuladas, prazo, progresso, checkpoint, planejar, reordenacao, armazenamento);
+    }
+
+    /**
+     * Cria uma cópia desta configuração com outras etapas (as escolhidas pelo planejador).
+     */
+    public ConfiguracaoPipeline comEtapas(List<Etapa> etapas) {
+        return new ConfiguracaoPipeline(etapas, rotuloOrigem, caminhoArquivo, threads, lote, diretorioSaida, cache,
+                metricasAcumuladas, prazo, progresso, checkpoint, planejar, reordenacao, armazenamento);
+    }
+
+    /**
+     * Lê as opções a partir dos argumentos de linha de comando.
+     * Formato: {@code <arquivo.dot> [--etapas=prim,bellman-ford,...] [--origem=a] [--threads=N]}
+     * ou, no modo lote, {@code --lote=<diretório|glob> [--paralelismo=N] [--saida=<diretório>] [...]}
+     * Em ambos os casos o cache de resultados é ligado com {@code --cache-mb=N} e/ou {@code --cache-dir=<diretório>},
+     * e {@code --metricas} liga os contadores, os tempos de fase e os eventos JFR.
+     * {@code --prazo=<segundos>} limita Bellman-Ford e Floyd-Warshall e {@code --progresso} mostra seu andamento.
+     * {@code --checkpoint=<arquivo>} grava (e retoma) o Floyd-Warshall a cada {@code --checkpoint-intervalo=<segundos>}.
+     * {@code --planejar} escolhe as etapas a partir do grafo, no lugar de {@code --etapas}.
+     * {@code --reordenar=rcm|grau|bfs} renumera os vértices antes dos algoritmos de caminhos mínimos.
+     * {@code --armazenamento=comprimido} guarda só a forma comprimida do grafo (apenas Prim e Bellman-Ford).
+     *
+     * @throws IllegalArgumentException se algum argumento for inválido
+     */
+    public static ConfiguracaoPipeline deArgumentos(String[] args) {
+        String caminhoArquivo = null;
+        List<Etapa> etapas = ETAPAS_PADRAO;
+        String rotuloOrigem = "a";
+        Integer threads = null;
+        Integer paralelismo = null;
+        String lote = null;
+        String diretorioSaida = null;
+        Integer cacheMb = null;
+        String cacheDir = null;
+        MetricasAcumuladas metricas = null;
+        Duration prazo = null;
+        boolean progresso = false;
+        String arquivoCheckpoint = null;
+        Integer intervaloCheckpoint = null;
+        boolean etapasInformadas = false;
+        boolean planejar = false;
+        Reordenacao reordenacao = Reordenacao.NENHUMA;
+        Armazenamento armazenamento = Armazenamento.GRAFO;
+
+        for (String arg : args) {
+            if (arg.startsWith("--etapas=")) {
+                etapasInformadas = true;
+                etapas = new ArrayList<>();
+                for (String nome : arg.substring("--etapas=".length()).split(",")) {
+                    etapas.add(Etapa.porNome(nome.trim()));
+                }
+            } else if (arg.startsWith("--origem=")) {
+                rotuloOrigem = arg.substring("--origem=".length());
+            } else if (arg.startsWith("--threads=")) {
+                threads = lerInteiro(arg, "--threads=");
+            } else if (arg.startsWith("--paralelismo=")) {
+                paralelismo = lerInteiro(arg, "--paralelismo=");
+            } else if (arg.startsWith("--lote=")) {
+                lote = arg.substring("--lote=".length());
+            } else if (arg.startsWith("--saida=")) {
+                diretorioSaida = arg.substring("--saida=".length());
+            } else if (arg.startsWith("--cache-mb=")) {
+                cacheMb = lerInteiro(arg, "--cache-mb=");
+            } else if (arg.startsWith("--cache-dir=")) {
+                cacheDir = arg.substring("--cache-dir=".length());
+            } else if (arg.equals("--metricas")) {
+                metricas = new MetricasAcumuladas();
+            } else if (arg.startsWith("--prazo=")) {
+                int segundos = lerInteiro(arg, "--prazo=");
+                if (segundos <= 0) {
+                    throw new IllegalArgumentException("Prazo deve ser positivo: " + segundos);
+                }
+                prazo = Duration.ofSeconds(segundos);
+            } else if (arg.equals("--progresso")) {
+                progresso = true;
+            } else if (arg.equals("--planejar")) {
+                planejar = true;
+            } else if (arg.startsWith("--reordenar=")) {
+                reordenacao = Reordenacao.porNome(arg.substring("--reordenar=".length()));
+            } else if (arg.startsWith("--armazenamento=")) {
+                armazenamento = Armazenamento.porNome(arg.substring("--armazenamento=".length()));
+            } else if (arg.startsWith("--checkpoint=")) {
+                arquivoCheckpoint = arg.substring("--checkpoint=".length());
+            } else if (arg.startsWith("--checkpoint-intervalo=")) {
+                intervaloCheckpoint = lerInteiro(arg, "--checkpoint-intervalo=");
+            } else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException("Opção desconhecida: " + arg);
+            } else if (caminhoArquivo == null) {
+                caminhoArquivo = arg;
+            } else {
+                throw new IllegalArgumentException("Mais de um arquivo informado: " + arg);
+            }
+        }
+
+        if (planejar && etapasInformadas) {
+            throw new IllegalArgumentException("Use --etapas ou --planejar, não os dois.");
+        }
+        if (armazenamento == Armazenamento.COMPRIMIDO) {
+            // O planejador, o cache e a reordenação trabalham sobre o Grafo completo,
+            // que é justamente o que o armazenamento comprimido não monta
+            if (planejar) {
+                throw new IllegalArgumentException("--planejar não pode ser usada com --armazenamento=comprimido.");
+            }
+            if (cacheMb != null || cacheDir != null) {
+                throw new IllegalArgumentException("O cache não pode ser usado com --armazenamento=comprimido.");
+            }
+            if (reordenacao != Reordenacao.NENHUMA) {
+                throw new IllegalArgumentException("--reordenar não pode ser usada com --armazenamento=comprimido.");
+            }
+            if (!etapasInformadas) {
+                etapas = ETAPAS_COMPRIMIDO;
+            }
+        }
+
+        ResultadosEmCache cache = null;
+        if (cacheMb != null || cacheDir != null) {
+            cache = criarCache(cacheMb == null ? TAMANHO_CACHE_PADRAO_MB : cacheMb, cacheDir);
+        }
+
+        CheckpointFloydWarshall checkpoint = null;
+        if (arquivoCheckpoint != null) {
+            Duration intervalo = intervaloCheckpoint == null
+                    ? CheckpointFloydWarshall.INTERVALO_PADRAO
+                    : Duration.ofSeconds(intervaloCheckpoint);
+            checkpoint = new CheckpointFloydWarshall(Path.of(arquivoCheckpoint), 0, intervalo);
+        } else if (intervaloCheckpoint != null) {
+            throw new IllegalArgumentException("--checkpoint-intervalo exige --checkpoint.");
+        }
+
+        if (lote != null) {
+            if (checkpoint != null) {
+                throw new IllegalArgumentException("--checkpoint não pode ser usada com --lote.");
+            }
+            if (caminhoArquivo != null) {
+                throw new IllegalArgumentException("Use um arquivo ou --lote, não os dois.");
+            }
+            // No modo lote as threads processam arquivos (as etapas de cada arquivo
+            // rodam em sequência), então só --paralelismo tem efeito
+            if (threads != null) {
+                throw new IllegalArgumentException("--threads não se aplica ao modo lote; use --paralelismo.");
+            }
+            if (paralelismo == null) {
+                paralelismo = Runtime.getRuntime().availableProcessors();
+            }
+            return new ConfiguracaoPipeline(etapas, rotuloOrigem, null, paralelismo, lote, diretorioSaida, cache,
+                    metricas, prazo, progresso, null, planejar, reordenacao, armazenamento);
+        }
+
+        if (caminhoArquivo == null) {
+            throw new IllegalArgumentException("Nenhum arquivo .dot de entrada foi fornecido.");
+        }
+        if (diretorioSaida != null) {
+            throw new IllegalArgumentException("--saida só pode ser usada com --lote.");
+        }
+        if (paralelismo != null) {
+            throw new IllegalArgumentException("--paralelismo só pode ser usada com --lote; use --threads.");
+        }
+        if (threads == null) {
+            threads = Math.min(etapas.size(), Runtime.getRuntime().availableProcessors());
+        }
+
+        return new ConfiguracaoPipeline(etapas, rotuloOrigem, caminhoArquivo, threads, null, null, cache, metricas,
+                prazo, progresso, checkpoint, planejar, reordenacao, armazenamento);
+    }
+
+    private static ResultadosEmCache criarCache(int megabytes, String diretorio) {
+        if (megabytes < 0) {
+            throw new IllegalArgumentException("Tamanho do cache não pode ser negativo: " + megabytes);
+        }
+        try {
+            return new ResultadosEmCache(new CacheResultados((long) megabytes << 20,
+                    diretorio == null ? null : Path.of(diretorio)));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Não foi possível criar o diretório do cache: " + e.getMessage());
+        }
+    }
+
+    static int lerInteiro(String arg, String prefixo) {
+        try {
+            return Integer.parseInt(arg.substring(prefixo.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido em " + arg);
+        }
+    }
+
+    public List<Etapa> getEtapas() {
+        return etapas;
+    }
+
+    public String getRotuloOrigem() {
+        return rotuloOrigem;
+    }
+
+    public String getCaminhoArquivo() {
+        return caminhoArquivo;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return O cache de resultados, ou null se o cache estiver desligado.
+     */
+    public ResultadosEmCache getCache() {
+        return cache;
+    }
+
+    /**
+     * @return As métricas que as etapas devem usar ({@link Metricas#NENHUMA} se --metricas não foi informada).
+     */
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    /**
+     * @return Os contadores acumulados para o relatório final, ou null se --metricas não foi informada.
+     */
+    public MetricasAcumuladas getMetricasAcumuladas() {
+        return metricasAcumuladas;
+    }
+
+    /**
+     * Cria o contexto de execução de uma etapa: o prazo começa a contar agora
+     * e uma interrupção vira erro da etapa.
+     */
+    public ContextoExecucao novoContexto() {
+        return new ContextoExecucao(progresso ? new ProgressoNaSaidaErro() : null, prazo, PoliticaInterrupcao.LANCAR);
+    }
+
+    /**
+     * @return O checkpoint do Floyd-Warshall, ou null se --checkpoint não foi informada.
+     */
+    public CheckpointFloydWarshall getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * @return true se as etapas devem ser escolhidas pelo planejador para cada grafo.
+     */
+    public boolean isPlanejar() {
+        return planejar;
+    }
+
+    /**
+     * @return A ordem dos vértices usada por Bellman-Ford, Floyd-Warshall e Johnson.
+     */
+    public Reordenacao getReordenacao() {
+        return reordenacao;
+    }
+
+    /**
+     * @return A forma do grafo na memória durante as etapas.
+     */
+    public Armazenamento getArmazenamento() {
+        return armazenamento;
+    }
+
+    public Duration getPrazo() {
+        return prazo;
+    }
+
+    /**
+     * Imprime o progresso na saída de erro, no máximo uma linha por ponto percentual.
+     */
+    private static class ProgressoNaSaidaErro implements OuvinteProgresso {
+        private long ultimoPercentual = -1;
+
+        @Override
+        public void progresso(String algoritmo, long concluidos, long total) {
+            long percentual = total == 0 ? 100 : concluidos * 100 / total;
+            if (percentual != ultimoPercentual) {
+                ultimoPercentual = percentual;
+                System.err.printf("[%s] %d/%d (%d%%)%n", algoritmo, concluidos, total, percentual);
+            }
+        }
+    }
+
+    public boolean isLote() {
+        return lote != null;
+    }
+
+    public String getLote() {
+        return lote;
+    }
+
+    /**
+     * @return O diretório de saída do modo lote, ou null para usar a saída padrão.
+     */
+    public String getDiretorioSaida() {
+        return diretorioSaida;
+    }
+}
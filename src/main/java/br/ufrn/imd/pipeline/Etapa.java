@@ -0,0 +1,376 @@
+package br.ufrn.imd.pipeline;
+
+import br.ufrn.imd.Aresta;
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.GrafoIndexado;
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.alcancabilidade.FechoTransitivo;
+import br.ufrn.imd.algorithms.bellman_ford.BellmanFord;
+import br.ufrn.imd.algorithms.boruvka.Boruvka;
+import br.ufrn.imd.algorithms.busca_largura.BuscaLarguraTodosPares;
+import br.ufrn.imd.algorithms.componentes_fortes.TodosParesPorComponentes;
+import br.ufrn.imd.algorithms.dijkstra.Dijkstra;
+import br.ufrn.imd.algorithms.floyd_warshall.FloydWarshall;
+import br.ufrn.imd.algorithms.johnson.Johnson;
+import br.ufrn.imd.algorithms.kruskal.Kruskal;
+import br.ufrn.imd.algorithms.prim.Prim;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Etapas (algoritmos) que o pipeline sabe executar.
+ * Cada etapa lê o grafo e escreve seu relatório na saída recebida.
+ */
+public enum Etapa {
+    PRIM("prim", "Algoritmo de Prim", Etapa::executarPrim, Etapa::executarPrim),
+    BELLMAN_FORD("bellman-ford", "Algoritmo de Bellman-Ford", Etapa::executarBellmanFord,
+            Etapa::executarBellmanFord),
+    FLOYD_WARSHALL("floyd-warshall", "Algoritmo de Floyd-Warshall", Etapa::executarFloydWarshall),
+    DIJKSTRA("dijkstra", "Algoritmo de Dijkstra", Etapa::executarDijkstra),
+    ALCANCABILIDADE("alcancabilidade", "Fecho Transitivo (Alcançabilidade)", Etapa::executarAlcancabilidade),
+    BFS("bfs", "BFS de Todos os Pares (Saltos)", Etapa::executarBfs),
+    JOHNSON("johnson", "Algoritmo de Johnson", Etapa::executarJohnson),
+    KRUSKAL("kruskal", "Algoritmo de Kruskal", Etapa::executarKruskal),
+    BORUVKA("boruvka", "Algoritmo de Borůvka", Etapa::executarBoruvka),
+    FLOYD_WARSHALL_COMPONENTES("floyd-warshall-scc", "Floyd-Warshall por Componentes Fortemente Conexas",
+            Etapa::executarFloydWarshallComponentes);
+
+    /**
+     * Corpo de uma etapa.
+     */
+    @FunctionalInterface
+    interface Corpo {
+        void executar(Grafo grafo, ConfiguracaoPipeline config, PrintStream saida) throws Exception;
+    }
+
+    /**
+     * Corpo de uma etapa sobre a forma indexada do grafo (--armazenamento=comprimido).
+     */
+    @FunctionalInterface
+    interface CorpoIndexado {
+        void executar(GrafoIndexado grafo, ConfiguracaoPipeline config, PrintStream saida) throws Exception;
+    }
+
+    // Quanto do resultado do Floyd-Warshall por componentes vai para o relatório
+    private static final int MAXIMO_COMPONENTES_IMPRESSAS = 10;
+    private static final int MAXIMO_VERTICES_POR_COMPONENTE = 5;
+
+    private final String nome;
+    private final String titulo;
+    private final Corpo corpo;
+
+    // null quando a etapa precisa do Grafo completo
+    private final CorpoIndexado corpoIndexado;
+
+    Etapa(String nome, String titulo, Corpo corpo) {
+        this(nome, titulo, corpo, null);
+    }
+
+    Etapa(String nome, String titulo, Corpo corpo, CorpoIndexado corpoIndexado) {
+        this.nome = nome;
+        this.titulo = titulo;
+        this.corpo = corpo;
+        this.corpoIndexado = corpoIndexado;
+    }
+
+    /**
+     * Nome usado na linha de comando (ex: "bellman-ford").
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Título exibido no relatório (ex: "Algoritmo de Bellman-Ford").
+     */
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public void executar(Grafo grafo, ConfiguracaoPipeline config, PrintStream saida) throws Exception {
+        corpo.executar(grafo, config, saida);
+    }
+
+    /**
+     * @return true se a etapa também roda sobre a forma comprimida (--armazenamento=comprimido).
+     */
+    public boolean isAceitaComprimido() {
+        return corpoIndexado != null;
+    }
+
+    /**
+     * Executa a etapa sobre a forma indexada (compacta ou comprimida) do grafo.
+     *
+     * @throws IllegalArgumentException se a etapa precisar do Grafo completo
+     */
+    public void executar(GrafoIndexado grafo, ConfiguracaoPipeline config, PrintStream saida) throws Exception {
+        if (corpoIndexado == null) {
+            throw new IllegalArgumentException("A etapa " + nome + " precisa do grafo completo.");
+        }
+        corpoIndexado.executar(grafo, config, saida);
+    }
+
+    /**
+     * Procura uma etapa pelo nome usado na linha de comando.
+     *
+     * @throws IllegalArgumentException se não houver etapa com esse nome
+     */
+    public static Etapa porNome(String nome) {
+        for (Etapa etapa : values()) {
+            if (etapa.nome.equalsIgnoreCase(nome)) {
+                return etapa;
+            }
+        }
+        List<String> nomes = new ArrayList<>();
+        for (Etapa etapa : values()) {
+            nomes.add(etapa.nome);
+        }
+        throw new IllegalArgumentException("Etapa desconhecida: " + nome + " (disponíveis: " + String.join(", ", nomes) + ")");
+    }
+
+    // --- Corpos das etapas ---
+
+    private static void executarPrim(Grafo grafo, ConfiguracaoPipeline config, PrintStream saida) {
+        // Verifica se o grafo é direcionado
+        if (grafo.isDirecionado()) {
+            saida.println("O algoritmo de Prim não é aplicável a grafos direcionados.");
+            return;
+        }
+
+        Vertice inicio = grafo.getVertice(config.getRotuloOrigem());
+        if (inicio == null) {
+            saida.println("Vértice inicial '" + config.getRotuloOrigem() + "' não encontrado para Prim.");
+            return;
+        }
+
+        List<Aresta> mst = config.getCache() != null
+                ? config.getCache().prim(grafo, inicio, config.getMetricas())
+                : new Prim().executar(grafo, inicio, config.getMetricas());
+        imprimirArvore(mst, "Prim", saida);
+    }
+
+    private static void executarPrim(GrafoIndexado grafo, ConfiguracaoPipeline config, PrintStream saida) {
+        if (grafo.isDirecionado()) {
+            saida.println("O algoritmo de Prim não é aplicável a grafos direcionados.");
+            return;
+        }
+
+        int inicio = grafo.getIndice(new Vertice(config.getRotuloOrigem()));
+        if (inicio < 0) {
+            saida.println("Vértice inicial '" + config.getRotuloOrigem() + "' não encontrado para Prim.");
+            return;
+        }
+
+        imprimirArvore(new Prim().executar(grafo, inicio, config.getMetricas()), "Prim", saida);
+    }
+
+    private static void executarKruskal(Grafo grafo, ConfiguracaoPipeline config, PrintStream saida) {
+        if (grafo.isDirecionado()) {
+            saida.println("O algoritmo de Kruskal não é aplicável a grafos direcionados.");
+            return;
+        }
+        imprimirArvore(Kruskal.calcular(grafo), "Kruskal", saida);
+    }
+
+    private static void executarBoruvka(Grafo grafo, ConfiguracaoPipeline config, PrintStream saida) {
+        if (grafo.isDirecionado()) {
+            saida.println("O algoritmo de Borůvka não é aplicável a grafos direcionados.");
+            return;
+        }
+        imprimirArvore(Boruvka.calcular(grafo), "Borůvka", saida);
+    }
+
+    private static void executarBellmanFord(Grafo grafo, ConfiguracaoPipeline config, PrintStream saida) {
+        Vertice origem = grafo.getVertice(config.getRotuloOrigem());
+        if (origem == null) {
+            saida.println("Vértice inicial '" + config.getRotuloOrigem() + "' não encontrado para Bellman-Ford.");
+            return;
+        }
+
+        imprimirDistancias(config.getCache() != null
+                ? config.getCache().bellmanFord(grafo, origem, config.getMetricas(), config.novoContexto(),
+                        config.getReordenacao())
+                : BellmanFord.calcular(grafo, origem, config.getMetricas(), config.novoContexto(),
+                        config.getReordenacao()), origem, saida);
+    }
+
+    private static void executarBellmanFord(GrafoIndexado grafo, ConfiguracaoPipeline config, PrintStream saida) {
+        Vertice origem = new Vertice(config.getRotuloOrigem());
+        int indiceOrigem = grafo.getIndice(origem);
+        if (indiceOrigem < 0) {
+            saida.println("Vértice inicial '" + config.getRotuloOrigem() + "' não encontrado para Bellman-Ford.");
+            return;
+        }
+
+        double[] distancias = BellmanFord.calcular(grafo, indiceOrigem, config.getMetricas(), config.novoContexto());
+        Map<Vertice, Double> porVertice = new HashMap<>();
+        for (int i = 0; i < distancias.length; i++) {
+            porVertice.put(grafo.getVertice(i), distancias[i]);
+        }
+        imprimirDistancias(porVertice, origem, saida);
+    }
+
+    private static void executarDijkstra(Grafo grafo, ConfiguracaoPipeline config, PrintStream saida) {
+        Vertice origem = grafo.getVertice(config.getRotuloOrigem());
+        if (origem == null) {
+            saida.println("Vértice inicial '" + config.getRotuloOrigem() + "' não encontrado para Dijkstra.");
+            return;
+        }
+
+        imprimirDistancias(config.getCache() != null
+                ? config.getCache().dijkstra(grafo, origem)
+                : Dijkstra.calcular(grafo, origem), origem, saida);
+    }
+
+    private static void executarFloydWarshall(Grafo grafo, ConfiguracaoPipeline config, PrintStream saida)
+            throws IOException {
+        // Passa o caminho do arquivo DOT para detectar arestas com peso explícito
+        // (só é lido se o grafo não trouxer essa informação)
+        FloydWarshall.Resultado resultado;
+        if (config.getCheckpoint() != null && config.getCheckpoint().existe()) {
+            // Um checkpoint existente tem prioridade sobre o cache: o trabalho já feito é retomado
+            saida.println("Retomando do checkpoint " + config.getCheckpoint().getArquivo());
+            resultado = FloydWarshall.retomar(grafo, config.getCheckpoint(), config.getMetricas(),
+                    config.novoContexto());
+        } else if (config.getCache() != null) {
+            resultado = config.getCache().floydWarshall(grafo, config.getCaminhoArquivo(), config.getMetricas(),
+                    config.novoContexto(), config.getCheckpoint(), config.getReordenacao());
+        } else {
+            resultado = FloydWarshall.calcular(grafo, config.getCaminhoArquivo(), config.getMetricas(),
+                    config.novoContexto(), config.getCheckpoint(), config.getReordenacao());
+        }
+
+        FloydWarshall.imprimirMatrizDistancias(resultado, saida);
+        imprimirTodosPares(resultado, saida);
+    }
+
+    private static void executarJohnson(Grafo grafo, ConfiguracaoPipeline config, PrintStream saida) {
+        FloydWarshall.Resultado resultado = Johnson.calcular(grafo, config.getReordenacao());
+        FloydWarshall.imprimirMatrizDistancias(resultado, "Johnson", saida);
+        imprimirTodosPares(resultado, saida);
+    }
+
+    private static void executarFloydWarshallComponentes(Grafo grafo, ConfiguracaoPipeline config,
+                                                         PrintStream saida) {
+        TodosParesPorComponentes.Resultado resultado = TodosParesPorComponentes.calcular(grafo, config.getMetricas(),
+                config.novoContexto());
+        saida.println("Componentes fortemente conexas: " + resultado.getNumComponentes()
+                + " (maior com " + resultado.getTamanhoMaiorComponente() + " vértices)");
+
+        // Só as componentes e algumas consultas: a matriz n×n é justamente o que esta etapa evita
+        int mostradas = Math.min(MAXIMO_COMPONENTES_IMPRESSAS, resultado.getNumComponentes());
+        for (int c = 0; c < mostradas; c++) {
+            List<Vertice> membros = resultado.getVerticesDaComponente(c);
+            List<Vertice> exemplo = membros.subList(0, Math.min(MAXIMO_VERTICES_POR_COMPONENTE, membros.size()));
+            saida.println(" - componente " + c + ": " + membros.size() + " vértice(s) " + exemplo
+                    + (membros.size() > exemplo.size() ? " ..." : ""));
+        }
+        if (resultado.getNumComponentes() > mostradas) {
+            saida.println(" ... e mais " + (resultado.getNumComponentes() - mostradas) + " componentes");
+        }
+
+        saida.println("Exemplos de caminhos mínimos:");
+        List<Vertice> vertices = resultado.getVerticesPorIndice();
+        if (vertices.size() >= 2) {
+            Vertice origem = vertices.get(0);
+            for (int i = 1; i < Math.min(4, vertices.size()); i++) {
+                Vertice destino = vertices.get(i);
+                double distancia = resultado.getDistancia(origem, destino);
+                if (distancia == Double.POSITIVE_INFINITY) {
+                    saida.printf("Não há caminho de %s para %s.\n", origem, destino);
+                    continue;
+                }
+                List<String> rotulos = new ArrayList<>();
+                for (Vertice v : resultado.reconstruirCaminho(origem, destino)) {
+                    rotulos.add(v.toString());
+                }
+                saida.printf("Caminho mínimo de %s para %s (distância: %.2f): %s\n",
+                        origem, destino, distancia, String.join(" -> ", rotulos));
+            }
+        }
+    }
+
+    /**
+     * Predecessores e alguns caminhos de exemplo de um resultado de todos os pares.
+     */
+    private static void imprimirTodosPares(FloydWarshall.Resultado resultado, PrintStream saida) {
+        FloydWarshall.imprimirMatrizPredecessores(resultado, saida);
+
+        // Exemplo: imprime alguns caminhos mínimos do primeiro vértice para os demais
+        saida.println("Exemplos de caminhos mínimos:");
+        List<Vertice> vertices = resultado.getVerticesPorIndice();
+        if (vertices.size() >= 2) {
+            Vertice origem = vertices.get(0);
+            for (int i = 1; i < Math.min(4, vertices.size()); i++) {
+                FloydWarshall.imprimirCaminho(resultado, origem, vertices.get(i), saida);
+            }
+        }
+    }
+
+    private static void executarAlcancabilidade(Grafo grafo, ConfiguracaoPipeline config, PrintStream saida) {
+        Vertice origem = grafo.getVertice(config.getRotuloOrigem());
+        if (origem == null) {
+            saida.println("Vértice inicial '" + config.getRotuloOrigem() + "' não encontrado para o fecho transitivo.");
+            return;
+        }
+
+        FechoTransitivo.Resultado resultado = FechoTransitivo.calcular(grafo);
+        saida.println("Vértices alcançáveis a partir de " + origem + " ("
+                + resultado.contarAlcancaveis(origem) + "):");
+        for (Vertice v : resultado.getVerticesPorIndice()) {
+            if (resultado.alcancavel(origem, v)) {
+                saida.println(" - " + v.getRotulo());
+            }
+        }
+    }
+
+    private static void executarBfs(Grafo grafo, ConfiguracaoPipeline config, PrintStream saida) {
+        if (!grafo.isNaoPonderado()) {
+            saida.println("Aviso: o grafo tem pesos diferentes de 1; as distâncias abaixo contam saltos.");
+        }
+
+        BuscaLarguraTodosPares.Resultado resultado = BuscaLarguraTodosPares.calcular(grafo);
+        List<Vertice> vertices = resultado.getVerticesPorIndice();
+        int n = vertices.size();
+
+        saida.println("Matriz de Distâncias em Saltos (BFS):");
+        saida.println("=".repeat(60));
+        saida.print("     ");
+        for (Vertice v : vertices) {
+            saida.printf("%8s", v.getRotulo());
+        }
+        saida.println();
+        for (int i = 0; i < n; i++) {
+            saida.printf("%4s ", vertices.get(i).getRotulo());
+            for (int j = 0; j < n; j++) {
+                int d = resultado.getDistancia(i, j);
+                if (d == BuscaLarguraTodosPares.SEM_CAMINHO) {
+                    saida.printf("%8s", "∞");
+                } else {
+                    saida.printf("%8d", d);
+                }
+            }
+            saida.println();
+        }
+    }
+
+    private static void imprimirArvore(List<Aresta> arvore, String algoritmo, PrintStream saida) {
+        saida.println("Custo total da MST (" + algoritmo + "): " + Prim.custoTotal(arvore));
+        saida.println("Arestas da MST:");
+        for (Aresta a : arvore) {
+            saida.println(a.getOrigem() + " --(" + a.getPeso() + ")--> " + a.getDestino());
+        }
+    }
+
+    private static void imprimirDistancias(Map<Vertice, Double> distancias, Vertice origem, PrintStream saida) {
+        saida.println("Distâncias mínimas a partir de " + origem + ":");
+        for (Vertice v : distancias.keySet()) {
+            saida.printf(" - %s: %.2f\n", v.getRotulo(), distancias.get(v));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package br.ufrn.imd.pipeline;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Escreve os resultados das etapas no formato de texto usado pelo programa.
+ * Compartilhado entre a execução de um único arquivo e o modo lote.
+ */
+public class FormatadorResultados {
+
+    /**
+     * Escreve a saída de cada etapa, na ordem recebida.
+     *
+     * @param saida Onde escrever os relatórios das etapas
+     * @param erros Onde escrever os erros das etapas que falharam
+     */
+    public static void escreverResultados(List<ResultadoEtapa> resultados, PrintStream saida, PrintStream erros) {
+        for (ResultadoEtapa resultado : resultados) {
+            saida.println("\n--- Executando " + resultado.getEtapa().getTitulo() + " ---");
+            saida.print(resultado.getSaida());
+            if (!resultado.isSucesso()) {
+                escreverErro(resultado, erros);
+            }
+        }
+    }
+
+    /**
+     * Escreve o tempo gasto em cada etapa.
+     */
+    public static void escreverTempos(List<ResultadoEtapa> resultados, PrintStream saida) {
+        saida.println("\n--- Tempo por etapa ---");
+        for (ResultadoEtapa resultado : resultados) {
+            saida.printf(" - %-18s %10.3f ms%s\n", resultado.getEtapa().getNome(),
+                    resultado.getDuracaoMillis(), resultado.isSucesso() ? "" : " (falhou)");
+        }
+    }
+
+    private static void escreverErro(ResultadoEtapa resultado, PrintStream erros) {
+        Throwable erro = resultado.getErro();
+        if (erro instanceof IllegalArgumentException) {
+            erros.println("Erro no " + resultado.getEtapa().getTitulo() + ": " + erro.getMessage());
+        } else {
+            erros.println("Ocorreu um erro inesperado no " + resultado.getEtapa().getTitulo() + ": " + erro.getMessage());
+            erro.printStackTrace(erros);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package br.ufrn.imd.pipeline;
+
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.GrafoIndexado;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Executa as etapas (algoritmos) sobre um mesmo grafo já carregado.
+ * * O grafo é somente-lido pelas etapas, então elas rodam em paralelo no
+ * executor informado. Cada etapa escreve em seu próprio buffer, e os
+ * resultados são devolvidos na ordem da configuração, não na ordem de término.
+ */
+public class Pipeline {
+
+    private final Executor executor;
+
+    public Pipeline(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Executa todas as etapas configuradas e espera por elas.
+     *
+     * @return Os resultados, na mesma ordem de config.getEtapas()
+     */
+    public List<ResultadoEtapa> executar(Grafo grafo, ConfiguracaoPipeline config) {
+        List<CompletableFuture<ResultadoEtapa>> futuros = new ArrayList<>();
+        for (Etapa etapa : config.getEtapas()) {
+            futuros.add(CompletableFuture.supplyAsync(() -> executarEtapa(etapa, grafo, config), executor));
+        }
+        return esperar(futuros);
+    }
+
+    /**
+     * Executa todas as etapas configuradas sobre a forma indexada do grafo
+     * (--armazenamento=comprimido) e espera por elas.
+     *
+     * @return Os resultados, na mesma ordem de config.getEtapas()
+     */
+    public List<ResultadoEtapa> executar(GrafoIndexado grafo, ConfiguracaoPipeline config) {
+        List<CompletableFuture<ResultadoEtapa>> futuros = new ArrayList<>();
+        for (Etapa etapa : config.getEtapas()) {
+            futuros.add(CompletableFuture.supplyAsync(() -> executarEtapa(etapa, grafo, config), executor));
+        }
+        return esperar(futuros);
+    }
+
+    private static List<ResultadoEtapa> esperar(List<CompletableFuture<ResultadoEtapa>> futuros) {
+        List<ResultadoEtapa> resultados = new ArrayList<>();
+        for (CompletableFuture<ResultadoEtapa> futuro : futuros) {
+            resultados.add(futuro.join());
+        }
+        return resultados;
+    }
+
+    /**
+     * Executa uma única etapa, capturando sua saída, sua duração e um eventual erro.
+     */
+    public static ResultadoEtapa executarEtapa(Etapa etapa, Grafo grafo, ConfiguracaoPipeline config) {
+        return medir(etapa, saida -> etapa.executar(grafo, config, saida));
+    }
+
+    /**
+     * Igual a {@link #executarEtapa(Etapa, Grafo, ConfiguracaoPipeline)}, sobre a forma indexada do grafo.
+     */
+    public static ResultadoEtapa executarEtapa(Etapa etapa, GrafoIndexado grafo, ConfiguracaoPipeline config) {
+        return medir(etapa, saida -> etapa.executar(grafo, config, saida));
+    }
+
+    /**
+     * Execução de uma etapa escrevendo na saída recebida.
+     */
+    @FunctionalInterface
+    private interface Execucao {
+        void executar(PrintStream saida) throws Exception;
+    }
+
+    private static ResultadoEtapa medir(Etapa etapa, Execucao execucao) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream saida = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+        Throwable erro = null;
+
+        long inicio = System.nanoTime();
+        try {
+            execucao.executar(saida);
+        } catch (Exception | StackOverflowError | OutOfMemoryError e) {
+            // Estouro de pilha ou de memória numa etapa vira uma etapa com falha:
+            // o que ela alocou fica inalcançável e as demais etapas (e arquivos) seguem
+            erro = e;
+        }
+        long duracao = System.nanoTime() - inicio;
+
+        saida.flush();
+        return new ResultadoEtapa(etapa, buffer.toString(StandardCharsets.UTF_8), duracao, erro);
+    }
+}
@@ -0,0 +1,158 @@
+package br.ufrn.imd.pipeline;
+
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.GrafoComprimido;
+import br.ufrn.imd.LeitorDOT;
+import br.ufrn.imd.planejador.EstatisticasGrafo;
+import br.ufrn.imd.planejador.Planejador;
+import br.ufrn.imd.planejador.Recursos;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Modo lote: processa vários arquivos DOT em uma única JVM.
+ * * Cada arquivo é lido e resolvido por uma thread do executor (o que limita
+ * o paralelismo ao tamanho do pool); dentro do arquivo as etapas rodam em
+ * sequência, para não disputar as mesmas threads. Como a JVM é a mesma, o
+ * código já compilado pelo JIT é reaproveitado entre os arquivos.
+ */
+public class ProcessadorLote {
+
+    private final ExecutorService executor;
+
+    public ProcessadorLote(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Lista os arquivos de um lote.
+     * Aceita um diretório (todos os arquivos .dot e .gv dentro dele) ou um
+     * glob no último componente do caminho (ex: "grafos/grafo_*.dot").
+     *
+     * @return Os arquivos encontrados, em ordem alfabética
+     */
+    public static List<Path> resolverArquivos(String padrao) throws IOException {
+        Path caminho = Path.of(padrao);
+        Path diretorio;
+        PathMatcher filtro;
+
+        if (Files.isDirectory(caminho)) {
+            diretorio = caminho;
+            filtro = caminho.getFileSystem().getPathMatcher("glob:*.{dot,gv}");
+        } else {
+            diretorio = caminho.getParent() != null ? caminho.getParent() : Path.of(".");
+            filtro = caminho.getFileSystem().getPathMatcher("glob:" + caminho.getFileName());
+        }
+
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos
+                    .filter(Files::isRegularFile)
+                    .filter(p -> filtro.matches(p.getFileName()))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Processa todos os arquivos, entregando cada resultado à saída assim que fica pronto.
+     *
+     * @param arquivos Arquivos DOT do lote
+     * @param config   Etapas e demais opções (o arquivo de cada execução é substituído)
+     * @param saida    Destino dos relatórios de cada arquivo
+     * @return O resumo do lote
+     */
+    public RelatorioLote executar(List<Path> arquivos, ConfiguracaoPipeline config, SaidaLote saida)
+            throws InterruptedException {
+        RelatorioLote relatorio = new RelatorioLote();
+        long inicio = System.nanoTime();
+
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (Path arquivo : arquivos) {
+            tarefas.add(executor.submit(() -> {
+                ResultadoArquivo resultado = processar(arquivo.toString(), config.comArquivo(arquivo.toString()));
+                relatorio.registrar(resultado);
+                try {
+                    saida.escrever(resultado);
+                } catch (IOException e) {
+                    // Como os erros de leitura: fica no relatório e o lote segue
+                    relatorio.registrarFalhaSaida(arquivo.toString(), e);
+                }
+            }));
+        }
+
+        for (Future<?> tarefa : tarefas) {
+            try {
+                tarefa.get();
+            } catch (ExecutionException e) {
+                // A saída é fechada logo depois: nenhuma tarefa pode continuar escrevendo nela
+                for (Future<?> outra : tarefas) {
+                    outra.cancel(true);
+                }
+                throw new IllegalStateException("Falha no processamento do lote", e.getCause());
+            }
+        }
+
+        relatorio.setDuracaoNanos(System.nanoTime() - inicio);
+        return relatorio;
+    }
+
+    /**
+     * Lê um arquivo e executa as etapas configuradas (ou planejadas), em sequência, na thread atual.
+     */
+    private ResultadoArquivo processar(String caminhoArquivo, ConfiguracaoPipeline config) {
+        long inicio = System.nanoTime();
+        if (config.getArmazenamento() == Armazenamento.COMPRIMIDO) {
+            return processarComprimido(caminhoArquivo, config, inicio);
+        }
+        Grafo grafo;
+        try {
+            grafo = new LeitorDOT().lerArquivo(caminhoArquivo, config.getMetricas());
+        } catch (IOException | RuntimeException | StackOverflowError | OutOfMemoryError e) {
+            return new ResultadoArquivo(caminhoArquivo, 0, 0, List.of(), e, System.nanoTime() - inicio);
+        }
+
+        // Com --planejar, as etapas de cada arquivo dependem do seu grafo. Como até
+        // --paralelismo arquivos rodam juntos, cada plano conta só com a sua parte do heap livre
+        List<Etapa> etapas = config.isPlanejar()
+                ? Planejador.planejar(EstatisticasGrafo.coletar(grafo),
+                        Recursos.atuais().divididos(config.getThreads())).getEtapas()
+                : config.getEtapas();
+
+        List<ResultadoEtapa> resultados = new ArrayList<>();
+        for (Etapa etapa : etapas) {
+            resultados.add(Pipeline.executarEtapa(etapa, grafo, config));
+        }
+
+        return new ResultadoArquivo(caminhoArquivo, grafo.getNumVertices(), grafo.getTodasArestas().size(),
+                resultados, null, System.nanoTime() - inicio);
+    }
+
+    /**
+     * Igual a {@link #processar}, mas mantendo só a forma comprimida do grafo (--armazenamento=comprimido).
+     */
+    private ResultadoArquivo processarComprimido(String caminhoArquivo, ConfiguracaoPipeline config, long inicio) {
+        GrafoComprimido grafo;
+        try {
+            grafo = new LeitorDOT().lerComprimido(caminhoArquivo, config.getMetricas());
+        } catch (IOException | RuntimeException | StackOverflowError | OutOfMemoryError e) {
+            return new ResultadoArquivo(caminhoArquivo, 0, 0, List.of(), e, System.nanoTime() - inicio);
+        }
+
+        List<ResultadoEtapa> resultados = new ArrayList<>();
+        for (Etapa etapa : config.getEtapas()) {
+            resultados.add(Pipeline.executarEtapa(etapa, grafo, config));
+        }
+
+        return new ResultadoArquivo(caminhoArquivo, grafo.getNumVertices(), grafo.getNumArestas(),
+                resultados, null, System.nanoTime() - inicio);
+    }
+}
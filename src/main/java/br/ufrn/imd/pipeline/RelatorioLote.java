@@ -0,0 +1,94 @@
+package br.ufrn.imd.pipeline;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resumo do modo lote: quantos arquivos foram processados, quantos falharam,
+ * o tempo total, a vazão (grafos por segundo) e o tempo somado de cada etapa.
+ * * É atualizado concorrentemente pelas threads do lote.
+ */
+public class RelatorioLote {
+
+    private int arquivos;
+    private int falhas;
+    private long vertices;
+    private long arestas;
+    private final Map<Etapa, Long> nanosPorEtapa = new EnumMap<>(Etapa.class);
+    private long duracaoNanos;
+
+    // Arquivos processados cujo relatório não pôde ser gravado na saída, com o motivo
+    private final List<String> falhasSaida = new ArrayList<>();
+
+    synchronized void registrar(ResultadoArquivo resultado) {
+        arquivos++;
+        if (!resultado.isSucesso()) {
+            falhas++;
+        }
+        vertices += resultado.getNumVertices();
+        arestas += resultado.getNumArestas();
+        for (ResultadoEtapa etapa : resultado.getResultados()) {
+            nanosPorEtapa.merge(etapa.getEtapa(), etapa.getDuracaoNanos(), Long::sum);
+        }
+    }
+
+    /**
+     * Registra que o relatório de um arquivo já processado não pôde ser gravado.
+     * O lote continua com os demais arquivos.
+     */
+    synchronized void registrarFalhaSaida(String caminhoArquivo, IOException erro) {
+        falhasSaida.add(caminhoArquivo + ": " + erro.getMessage());
+    }
+
+    synchronized void setDuracaoNanos(long duracaoNanos) {
+        this.duracaoNanos = duracaoNanos;
+    }
+
+    public synchronized int getArquivos() {
+        return arquivos;
+    }
+
+    public synchronized int getFalhas() {
+        return falhas;
+    }
+
+    /**
+     * @return Quantos relatórios não puderam ser gravados na saída.
+     */
+    public synchronized int getFalhasSaida() {
+        return falhasSaida.size();
+    }
+
+    public synchronized long getDuracaoNanos() {
+        return duracaoNanos;
+    }
+
+    /**
+     * Vazão do lote em grafos por segundo (tempo de parede).
+     */
+    public synchronized double getGrafosPorSegundo() {
+        return duracaoNanos == 0 ? 0.0 : arquivos / (duracaoNanos / 1e9);
+    }
+
+    public synchronized void imprimir(PrintStream saida) {
+        saida.println("--- Resumo do lote ---");
+        saida.printf(" - Arquivos processados: %d (%d com erro)\n", arquivos, falhas);
+        if (!falhasSaida.isEmpty()) {
+            saida.printf(" - Relatórios não gravados: %d\n", falhasSaida.size());
+            for (String falha : falhasSaida) {
+                saida.println("     " + falha);
+            }
+        }
+        saida.printf(" - Vértices/arestas lidos: %d / %d\n", vertices, arestas);
+        saida.printf(" - Tempo total: %.3f s\n", duracaoNanos / 1e9);
+        saida.printf(" - Vazão: %.2f grafos/s\n", getGrafosPorSegundo());
+        saida.println(" - Tempo somado por etapa:");
+        for (Map.Entry<Etapa, Long> entrada : nanosPorEtapa.entrySet()) {
+            saida.printf("     %-16s %12.3f ms\n", entrada.getKey().getNome(), entrada.getValue() / 1e6);
+        }
+    }
+}
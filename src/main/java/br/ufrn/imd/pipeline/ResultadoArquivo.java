@@ -0,0 +1,86 @@
+package br.ufrn.imd.pipeline;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Resultado do processamento de um arquivo no modo lote.
+ */
+public class ResultadoArquivo {
+    private final String caminhoArquivo;
+    private final int numVertices;
+    private final int numArestas;
+    private final List<ResultadoEtapa> resultados;
+    private final Throwable erroLeitura;
+    private final long duracaoNanos;
+
+    public ResultadoArquivo(String caminhoArquivo, int numVertices, int numArestas,
+                            List<ResultadoEtapa> resultados, Throwable erroLeitura, long duracaoNanos) {
+        this.caminhoArquivo = caminhoArquivo;
+        this.numVertices = numVertices;
+        this.numArestas = numArestas;
+        this.resultados = resultados;
+        this.erroLeitura = erroLeitura;
+        this.duracaoNanos = duracaoNanos;
+    }
+
+    public String getCaminhoArquivo() {
+        return caminhoArquivo;
+    }
+
+    public int getNumVertices() {
+        return numVertices;
+    }
+
+    public int getNumArestas() {
+        return numArestas;
+    }
+
+    /**
+     * @return Os resultados das etapas (vazio se o arquivo não pôde ser lido).
+     */
+    public List<ResultadoEtapa> getResultados() {
+        return resultados;
+    }
+
+    /**
+     * @return O erro ao ler o arquivo, ou null se a leitura deu certo.
+     */
+    public Throwable getErroLeitura() {
+        return erroLeitura;
+    }
+
+    public long getDuracaoNanos() {
+        return duracaoNanos;
+    }
+
+    /**
+     * O arquivo foi lido e todas as etapas terminaram sem erro.
+     */
+    public boolean isSucesso() {
+        if (erroLeitura != null) {
+            return false;
+        }
+        for (ResultadoEtapa resultado : resultados) {
+            if (!resultado.isSucesso()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Escreve o relatório deste arquivo no formato de texto do programa.
+     */
+    public void escrever(PrintStream saida) {
+        if (erroLeitura != null) {
+            saida.println("=== Arquivo: " + caminhoArquivo + " ===");
+            saida.println("Erro ao ler ou processar o arquivo DOT: " + erroLeitura.getMessage());
+            return;
+        }
+        saida.println("=== Arquivo: " + caminhoArquivo + " (" + numVertices + " vértices, "
+                + numArestas + " arestas) ===");
+        FormatadorResultados.escreverResultados(resultados, saida, saida);
+        FormatadorResultados.escreverTempos(resultados, saida);
+    }
+}
@@ -0,0 +1,46 @@
+package br.ufrn.imd.pipeline;
+
+/**
+ * Saída de uma etapa do pipeline: o texto que ela produziu, quanto tempo
+ * levou e, se falhou, o erro.
+ */
+public class ResultadoEtapa {
+    private final Etapa etapa;
+    private final String saida;
+    private final long duracaoNanos;
+    private final Throwable erro;
+
+    public ResultadoEtapa(Etapa etapa, String saida, long duracaoNanos, Throwable erro) {
+        this.etapa = etapa;
+        this.saida = saida;
+        this.duracaoNanos = duracaoNanos;
+        this.erro = erro;
+    }
+
+    public Etapa getEtapa() {
+        return etapa;
+    }
+
+    public String getSaida() {
+        return saida;
+    }
+
+    public long getDuracaoNanos() {
+        return duracaoNanos;
+    }
+
+    public double getDuracaoMillis() {
+        return duracaoNanos / 1_000_000.0;
+    }
+
+    /**
+     * @return O erro da etapa, ou null se ela terminou normalmente.
+     */
+    public Throwable getErro() {
+        return erro;
+    }
+
+    public boolean isSucesso() {
+        return erro == null;
+    }
+}
@@ -0,0 +1,19 @@
+package br.ufrn.imd.pipeline;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Destino dos resultados do modo lote.
+ * * Cada arquivo é entregue assim que termina de ser processado, então o
+ * lote nunca guarda em memória os relatórios de todos os arquivos.
+ * As implementações precisam aceitar chamadas de várias threads.
+ */
+public interface SaidaLote extends Closeable {
+
+    void escrever(ResultadoArquivo resultado) throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,31 @@
+package br.ufrn.imd.pipeline;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Escreve o relatório de cada arquivo do lote, inteiro, em uma saída compartilhada.
+ */
+public class SaidaLoteConsole implements SaidaLote {
+
+    private final PrintStream saida;
+
+    public SaidaLoteConsole(PrintStream saida) {
+        this.saida = saida;
+    }
+
+    @Override
+    public void escrever(ResultadoArquivo resultado) {
+        // Monta o bloco fora do lock para que os arquivos não se misturem na saída
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream bloco = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+        resultado.escrever(bloco);
+        bloco.println();
+
+        synchronized (saida) {
+            saida.print(buffer.toString(StandardCharsets.UTF_8));
+            saida.flush();
+        }
+    }
+}
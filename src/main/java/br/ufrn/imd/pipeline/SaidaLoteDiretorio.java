@@ -0,0 +1,32 @@
+package br.ufrn.imd.pipeline;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Escreve o relatório de cada arquivo do lote em um arquivo próprio
+ * ({@code <diretório>/<nome do arquivo>.txt}).
+ */
+public class SaidaLoteDiretorio implements SaidaLote {
+
+    private final Path diretorio;
+
+    public SaidaLoteDiretorio(Path diretorio) throws IOException {
+        this.diretorio = Files.createDirectories(diretorio);
+    }
+
+    @Override
+    public void escrever(ResultadoArquivo resultado) throws IOException {
+        Path nome = Path.of(resultado.getCaminhoArquivo()).getFileName();
+        Path destino = diretorio.resolve(nome + ".txt");
+
+        try (OutputStream arquivo = Files.newOutputStream(destino);
+             PrintStream saida = new PrintStream(arquivo, false, StandardCharsets.UTF_8)) {
+            resultado.escrever(saida);
+        }
+    }
+}
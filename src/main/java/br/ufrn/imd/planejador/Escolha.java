@@ -0,0 +1,73 @@
+package br.ufrn.imd.planejador;
+
+import br.ufrn.imd.pipeline.Etapa;
+
+/**
+ * O algoritmo escolhido para um problema, com o armazenamento dos resultados,
+ * a memória prevista e o motivo da escolha.
+ */
+public class Escolha {
+
+    private final Problema problema;
+
+    /**
+     * Etapa que resolve o problema, ou null se o problema não se aplica ao grafo.
+     */
+    private final Etapa etapa;
+    private final String armazenamento;
+    private final long bytesPrevistos;
+    private final String justificativa;
+
+    /**
+     * Preenchido quando a escolha foi recusada por falta de memória.
+     */
+    private final String motivoRecusa;
+
+    public Escolha(Problema problema, Etapa etapa, String armazenamento, long bytesPrevistos,
+                   String justificativa, String motivoRecusa) {
+        this.problema = problema;
+        this.etapa = etapa;
+        this.armazenamento = armazenamento;
+        this.bytesPrevistos = bytesPrevistos;
+        this.justificativa = justificativa;
+        this.motivoRecusa = motivoRecusa;
+    }
+
+    /**
+     * Cópia desta escolha, recusada pelo motivo dado.
+     */
+    Escolha recusada(String motivo) {
+        return new Escolha(problema, etapa, armazenamento, bytesPrevistos, justificativa, motivo);
+    }
+
+    public Problema getProblema() {
+        return problema;
+    }
+
+    public Etapa getEtapa() {
+        return etapa;
+    }
+
+    public String getArmazenamento() {
+        return armazenamento;
+    }
+
+    public long getBytesPrevistos() {
+        return bytesPrevistos;
+    }
+
+    public String getJustificativa() {
+        return justificativa;
+    }
+
+    public String getMotivoRecusa() {
+        return motivoRecusa;
+    }
+
+    /**
+     * A escolha pode ser executada: o problema se aplica e cabe na memória.
+     */
+    public boolean isExecutavel() {
+        return etapa != null && motivoRecusa == null;
+    }
+}
@@ -0,0 +1,140 @@
+package br.ufrn.imd.planejador;
+
+import br.ufrn.imd.Aresta;
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.uniao_busca.UniaoBusca;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Estatísticas de um grafo usadas pelo planejador.
+ * * As informações de peso são mantidas pelo próprio Grafo enquanto as arestas
+ * são adicionadas (na leitura do DOT); só as componentes conexas são
+ * calculadas aqui, em O(V + E).
+ */
+public class EstatisticasGrafo {
+
+    private final int numVertices;
+    private final long numArestas;
+    private final boolean direcionado;
+    private final double pesoMinimo;
+    private final double pesoMaximo;
+    private final boolean pesosInteiros;
+    private final boolean naoPonderado;
+    private final boolean arestasSemPeso;
+    private final int numComponentes;
+
+    public EstatisticasGrafo(int numVertices, long numArestas, boolean direcionado, double pesoMinimo,
+                             double pesoMaximo, boolean pesosInteiros, boolean naoPonderado,
+                             boolean arestasSemPeso, int numComponentes) {
+        this.numVertices = numVertices;
+        this.numArestas = numArestas;
+        this.direcionado = direcionado;
+        this.pesoMinimo = pesoMinimo;
+        this.pesoMaximo = pesoMaximo;
+        this.pesosInteiros = pesosInteiros;
+        this.naoPonderado = naoPonderado;
+        this.arestasSemPeso = arestasSemPeso;
+        this.numComponentes = numComponentes;
+    }
+
+    public static EstatisticasGrafo coletar(Grafo grafo) {
+        // Componentes fracamente conexas (o sentido das arestas é ignorado)
+        Map<Vertice, Integer> indicePorVertice = new HashMap<>();
+        for (Vertice v : grafo.getVertices()) {
+            indicePorVertice.put(v, indicePorVertice.size());
+        }
+        UniaoBusca componentes = new UniaoBusca(indicePorVertice.size());
+        for (Aresta a : grafo.getTodasArestas()) {
+            componentes.unir(indicePorVertice.get(a.getOrigem()), indicePorVertice.get(a.getDestino()));
+        }
+
+        // Em grafos não-direcionados cada aresta está guardada nos dois sentidos
+        long arestas = grafo.isDirecionado() ? grafo.getNumArestas() : grafo.getNumArestas() / 2;
+
+        // Sem a informação (grafo montado em código), não dá para garantir que todas têm peso
+        boolean semPeso = grafo.getArestasSemPeso() == null || !grafo.getArestasSemPeso().isEmpty();
+
+        return new EstatisticasGrafo(grafo.getNumVertices(), arestas, grafo.isDirecionado(),
+                grafo.getPesoMinimo(), grafo.getPesoMaximo(), grafo.temPesosInteiros(),
+                grafo.isNaoPonderado(), semPeso, componentes.getNumConjuntos());
+    }
+
+    public int getNumVertices() {
+        return numVertices;
+    }
+
+    /**
+     * Número de arestas (em grafos não-direcionados, cada aresta conta uma vez).
+     */
+    public long getNumArestas() {
+        return numArestas;
+    }
+
+    /**
+     * Fração dos pares possíveis que são arestas (entre 0 e 1).
+     */
+    public double getDensidade() {
+        if (numVertices < 2) {
+            return 0;
+        }
+        double pares = (double) numVertices * (numVertices - 1) / (direcionado ? 1 : 2);
+        return Math.min(1.0, numArestas / pares);
+    }
+
+    public boolean isDirecionado() {
+        return direcionado;
+    }
+
+    public double getPesoMinimo() {
+        return pesoMinimo;
+    }
+
+    public double getPesoMaximo() {
+        return pesoMaximo;
+    }
+
+    public boolean temPesosNegativos() {
+        return pesoMinimo < 0;
+    }
+
+    public boolean temPesosInteiros() {
+        return pesosInteiros;
+    }
+
+    public boolean isNaoPonderado() {
+        return naoPonderado;
+    }
+
+    /**
+     * Indica se alguma aresta veio do DOT sem o atributo weight (ou se isso não é sabido).
+     * O Floyd-Warshall e o Johnson ignoram essas arestas; a BFS as contaria como saltos.
+     */
+    public boolean temArestasSemPeso() {
+        return arestasSemPeso;
+    }
+
+    /**
+     * Número de componentes fracamente conexas.
+     */
+    public int getNumComponentes() {
+        return numComponentes;
+    }
+
+    public boolean isConexo() {
+        return numComponentes <= 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("V=%d, E=%d, densidade=%.4f, pesos em [%s, %s]%s%s, %d componente(s)",
+                numVertices, numArestas, getDensidade(), formatar(pesoMinimo), formatar(pesoMaximo),
+                pesosInteiros ? " inteiros" : " reais", naoPonderado ? " (não-ponderado)" : "", numComponentes);
+    }
+
+    private static String formatar(double peso) {
+        return peso == Math.rint(peso) ? String.valueOf((long) peso) : String.valueOf(peso);
+    }
+}
@@ -0,0 +1,153 @@
+package br.ufrn.imd.planejador;
+
+import br.ufrn.imd.pipeline.Etapa;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Escolhe os algoritmos (e o armazenamento dos resultados) a partir das
+ * estatísticas do grafo e dos recursos da máquina.
+ * * - Todos os pares: BFS se o grafo é não-ponderado; senão Floyd-Warshall
+ *   (O(V³)) ou Johnson (O(V·E log V), em paralelo), pelo menor custo estimado.
+ * - Origem única: Dijkstra, ou Bellman-Ford se houver peso negativo.
+ * - Árvore geradora: Kruskal se o grafo é desconexo (a união-busca monta a
+ *   floresta de uma vez; Prim também a monta, mas recomeçando a busca em cada
+ *   componente), Prim se é denso, Borůvka se é grande e há vários núcleos,
+ *   Kruskal nos demais casos.
+ * A memória prevista de cada escolha é acumulada (as etapas rodam ao mesmo
+ * tempo) e uma escolha que não caberia no heap livre é recusada.
+ */
+public class Planejador {
+
+    /**
+     * Custo de um relaxamento com heap (Dijkstra) em relação a uma iteração
+     * do laço interno do Floyd-Warshall, que é sequencial e amigável à cache.
+     */
+    static final double CUSTO_RELATIVO_DIJKSTRA = 16.0;
+
+    /**
+     * Densidade a partir da qual Prim é preferido (o número de arestas domina a ordenação de Kruskal).
+     */
+    static final double DENSIDADE_PRIM = 0.25;
+
+    /**
+     * Arestas a partir das quais vale paralelizar a árvore geradora com Borůvka.
+     */
+    static final long ARESTAS_BORUVKA = 1 << 16;
+
+    /**
+     * Bytes aproximados de uma entrada de HashMap (nó, chave Double/Vertice e tabela).
+     */
+    private static final long BYTES_ENTRADA_MAPA = 64;
+
+    private Planejador() {
+    }
+
+    public static Plano planejar(EstatisticasGrafo estatisticas, Recursos recursos) {
+        List<Escolha> escolhas = new ArrayList<>();
+        escolhas.add(escolherArvoreGeradora(estatisticas, recursos));
+        escolhas.add(escolherOrigemUnica(estatisticas));
+        escolhas.add(escolherTodosPares(estatisticas, recursos));
+
+        // Recusa o que não cabe, das escolhas mais baratas para as mais caras
+        List<Escolha> porCusto = new ArrayList<>(escolhas);
+        porCusto.sort((a, b) -> Long.compare(a.getBytesPrevistos(), b.getBytesPrevistos()));
+        long acumulado = 0;
+        for (Escolha escolha : porCusto) {
+            if (escolha.getEtapa() == null) {
+                continue;
+            }
+            if (acumulado + escolha.getBytesPrevistos() > recursos.getMemoriaDisponivel()) {
+                escolhas.set(escolhas.indexOf(escolha), escolha.recusada("precisaria de ~"
+                        + Plano.formatarBytes(escolha.getBytesPrevistos()) + ", mas só há ~"
+                        + Plano.formatarBytes(Math.max(0, recursos.getMemoriaDisponivel() - acumulado))
+                        + " livres (aumente -Xmx)"));
+            } else {
+                acumulado += escolha.getBytesPrevistos();
+            }
+        }
+
+        return new Plano(estatisticas, recursos, escolhas);
+    }
+
+    static Escolha escolherTodosPares(EstatisticasGrafo e, Recursos r) {
+        long n = e.getNumVertices();
+        Problema problema = Problema.CAMINHOS_TODOS_PARES;
+
+        // A BFS só dá o mesmo resultado que o Floyd-Warshall e o Johnson se todas as
+        // arestas tiverem weight=1 explícito (arestas sem weight são ignoradas por eles)
+        if (e.isNaoPonderado() && !e.temArestasSemPeso()) {
+            boolean curto = n <= Short.MAX_VALUE;
+            int bytesPorPar = curto ? Short.BYTES : Integer.BYTES;
+            return new Escolha(problema, Etapa.BFS, "matriz de saltos " + (curto ? "short" : "int")
+                    + " (" + bytesPorPar + " B/par)", n * (16 + bytesPorPar * n),
+                    "todos os pesos são 1: uma BFS por vértice basta", null);
+        }
+
+        // Distâncias double (8 B/par) + predecessores (uma referência por par)
+        long matrizes = n * (16 + Double.BYTES * n) + n * (16 + (long) r.getTamanhoReferencia() * n);
+
+        double log = Math.log(n + 1) / Math.log(2);
+        double custoFw = (double) n * n * n;
+        double custoJohnson = CUSTO_RELATIVO_DIJKSTRA * n * (e.getNumArestas() + n) * log / r.getNucleos();
+        if (e.temPesosNegativos()) {
+            custoJohnson += (double) n * e.getNumArestas(); // Bellman-Ford dos potenciais
+        }
+
+        String armazenamento = "matriz double (8 B/par) + predecessores";
+        if (custoJohnson < custoFw) {
+            long arestasGuardadas = e.isDirecionado() ? e.getNumArestas() : 2 * e.getNumArestas();
+            long compacto = 4 * (n + 1) + 12 * arestasGuardadas + n * (r.getTamanhoReferencia() + BYTES_ENTRADA_MAPA);
+            long rascunhos = (long) r.getNucleos() * n * 29;
+            return new Escolha(problema, Etapa.JOHNSON, armazenamento, matrizes + compacto + rascunhos,
+                    String.format("grafo esparso: custo estimado %.2g contra %.2g do Floyd-Warshall",
+                            custoJohnson, custoFw), null);
+        }
+        return new Escolha(problema, Etapa.FLOYD_WARSHALL, armazenamento, matrizes,
+                String.format("grafo denso: custo estimado %.2g contra %.2g do Johnson", custoFw, custoJohnson),
+                null);
+    }
+
+    static Escolha escolherOrigemUnica(EstatisticasGrafo e) {
+        long bytes = e.getNumVertices() * 3 * BYTES_ENTRADA_MAPA;
+        String armazenamento = "mapa de distâncias";
+        if (e.temPesosNegativos()) {
+            return new Escolha(Problema.CAMINHOS_ORIGEM_UNICA, Etapa.BELLMAN_FORD, armazenamento, bytes,
+                    "há pesos negativos (menor peso " + e.getPesoMinimo() + ")", null);
+        }
+        return new Escolha(Problema.CAMINHOS_ORIGEM_UNICA, Etapa.DIJKSTRA, armazenamento, bytes,
+                e.temPesosInteiros() ? "pesos inteiros não-negativos: fila de baldes ou heap radix"
+                        : "pesos não-negativos", null);
+    }
+
+    static Escolha escolherArvoreGeradora(EstatisticasGrafo e, Recursos r) {
+        Problema problema = Problema.ARVORE_GERADORA_MINIMA;
+        if (e.isDirecionado()) {
+            return new Escolha(problema, null, null, 0, "grafo direcionado", null);
+        }
+
+        long n = e.getNumVertices();
+        long arestasGuardadas = 2 * e.getNumArestas();
+        String armazenamento = "lista de arestas";
+
+        if (!e.isConexo()) {
+            return new Escolha(problema, Etapa.KRUSKAL, armazenamento,
+                    arestasGuardadas * r.getTamanhoReferencia() + n * (BYTES_ENTRADA_MAPA + 8),
+                    "grafo desconexo (" + e.getNumComponentes()
+                            + " componentes): a floresta sai direto da união-busca", null);
+        }
+        if (e.getDensidade() >= DENSIDADE_PRIM) {
+            return new Escolha(problema, Etapa.PRIM, armazenamento, n * 3 * BYTES_ENTRADA_MAPA,
+                    String.format("grafo denso (%.2f): Prim evita ordenar as arestas", e.getDensidade()), null);
+        }
+        if (r.getNucleos() >= 4 && e.getNumArestas() >= ARESTAS_BORUVKA) {
+            return new Escolha(problema, Etapa.BORUVKA, armazenamento,
+                    arestasGuardadas * (r.getTamanhoReferencia() + 4) + n * (BYTES_ENTRADA_MAPA + 24),
+                    "grafo grande e esparso com " + r.getNucleos() + " núcleos: rodadas paralelas", null);
+        }
+        return new Escolha(problema, Etapa.KRUSKAL, armazenamento,
+                arestasGuardadas * r.getTamanhoReferencia() + n * (BYTES_ENTRADA_MAPA + 8),
+                "grafo esparso: ordenar as arestas é barato", null);
+    }
+}
@@ -0,0 +1,93 @@
+package br.ufrn.imd.planejador;
+
+import br.ufrn.imd.pipeline.Etapa;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado do planejamento: uma escolha por problema, na ordem em que as
+ * etapas devem ser executadas.
+ */
+public class Plano {
+
+    private final EstatisticasGrafo estatisticas;
+    private final Recursos recursos;
+    private final List<Escolha> escolhas;
+
+    public Plano(EstatisticasGrafo estatisticas, Recursos recursos, List<Escolha> escolhas) {
+        this.estatisticas = estatisticas;
+        this.recursos = recursos;
+        this.escolhas = List.copyOf(escolhas);
+    }
+
+    public List<Escolha> getEscolhas() {
+        return escolhas;
+    }
+
+    public EstatisticasGrafo getEstatisticas() {
+        return estatisticas;
+    }
+
+    /**
+     * Etapas das escolhas executáveis (as recusadas e as que não se aplicam ficam de fora).
+     */
+    public List<Etapa> getEtapas() {
+        List<Etapa> etapas = new ArrayList<>();
+        for (Escolha escolha : escolhas) {
+            if (escolha.isExecutavel()) {
+                etapas.add(escolha.getEtapa());
+            }
+        }
+        return etapas;
+    }
+
+    /**
+     * Memória prevista das escolhas executáveis (as etapas podem rodar ao mesmo tempo).
+     */
+    public long getBytesPrevistos() {
+        long total = 0;
+        for (Escolha escolha : escolhas) {
+            if (escolha.isExecutavel()) {
+                total += escolha.getBytesPrevistos();
+            }
+        }
+        return total;
+    }
+
+    public void imprimir(PrintStream saida) {
+        saida.println("\n--- Plano de Execução ---");
+        saida.println("Grafo: " + estatisticas);
+        saida.println("Recursos: " + formatarBytes(recursos.getMemoriaDisponivel()) + " de heap livre, "
+                + recursos.getNucleos() + " núcleo(s)");
+        for (Escolha escolha : escolhas) {
+            saida.print(" - " + escolha.getProblema().getDescricao() + ": ");
+            if (escolha.getEtapa() == null) {
+                saida.println("não se aplica (" + escolha.getJustificativa() + ")");
+                continue;
+            }
+            saida.println(escolha.getEtapa().getNome() + ", " + escolha.getArmazenamento()
+                    + ", ~" + formatarBytes(escolha.getBytesPrevistos()));
+            saida.println("     " + escolha.getJustificativa());
+            if (escolha.getMotivoRecusa() != null) {
+                saida.println("     RECUSADO: " + escolha.getMotivoRecusa());
+            }
+        }
+        saida.println("Memória prevista: ~" + formatarBytes(getBytesPrevistos()));
+    }
+
+    static String formatarBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        String[] unidades = {"KB", "MB", "GB", "TB"};
+        double valor = bytes;
+        int u = -1;
+        while (valor >= 1024 && u < unidades.length - 1) {
+            valor /= 1024;
+            u++;
+        }
+        return String.format("%.1f %s", valor, unidades[u]);
+    }
+}
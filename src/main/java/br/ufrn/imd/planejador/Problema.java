@@ -0,0 +1,20 @@
+package br.ufrn.imd.planejador;
+
+/**
+ * Problemas que o planejador sabe resolver.
+ */
+public enum Problema {
+    ARVORE_GERADORA_MINIMA("árvore geradora mínima"),
+    CAMINHOS_ORIGEM_UNICA("caminhos mínimos de origem única"),
+    CAMINHOS_TODOS_PARES("caminhos mínimos entre todos os pares");
+
+    private final String descricao;
+
+    Problema(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
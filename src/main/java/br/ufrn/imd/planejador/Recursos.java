@@ -0,0 +1,54 @@
+package br.ufrn.imd.planejador;
+
+/**
+ * Memória e processadores disponíveis para executar um plano.
+ */
+public class Recursos {
+
+    /**
+     * Acima deste heap a JVM desliga os compressed oops e cada referência passa a ter 8 bytes.
+     */
+    private static final long LIMITE_OOPS_COMPRIMIDOS = 32L << 30;
+
+    private final long memoriaDisponivel;
+    private final long memoriaMaxima;
+    private final int nucleos;
+
+    public Recursos(long memoriaDisponivel, long memoriaMaxima, int nucleos) {
+        this.memoriaDisponivel = memoriaDisponivel;
+        this.memoriaMaxima = memoriaMaxima;
+        this.nucleos = nucleos;
+    }
+
+    /**
+     * Recursos da JVM atual: heap máximo menos o que já está em uso, e núcleos disponíveis.
+     */
+    public static Recursos atuais() {
+        Runtime runtime = Runtime.getRuntime();
+        long emUso = runtime.totalMemory() - runtime.freeMemory();
+        return new Recursos(runtime.maxMemory() - emUso, runtime.maxMemory(), runtime.availableProcessors());
+    }
+
+    /**
+     * Fatia destes recursos para um entre {@code partes} planos executados ao
+     * mesmo tempo (ex: arquivos do modo lote): cada um fica com parte da memória livre.
+     */
+    public Recursos divididos(int partes) {
+        return new Recursos(memoriaDisponivel / Math.max(1, partes), memoriaMaxima, nucleos);
+    }
+
+    public long getMemoriaDisponivel() {
+        return memoriaDisponivel;
+    }
+
+    public int getNucleos() {
+        return nucleos;
+    }
+
+    /**
+     * Tamanho estimado de uma referência a objeto, em bytes.
+     */
+    public int getTamanhoReferencia() {
+        return memoriaMaxima < LIMITE_OOPS_COMPRIMIDOS ? 4 : 8;
+    }
+}
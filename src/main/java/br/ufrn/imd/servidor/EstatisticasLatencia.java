@@ -0,0 +1,42 @@
+package br.ufrn.imd.servidor;
+
+import java.util.Arrays;
+
+/**
+ * Guarda a latência das últimas requisições em uma janela circular
+ * para reportar percentis (p50, p99) do servidor.
+ */
+class EstatisticasLatencia {
+
+    private final long[] janela;
+    private int proxima;
+    private long total;
+
+    EstatisticasLatencia(int tamanhoJanela) {
+        this.janela = new long[tamanhoJanela];
+    }
+
+    synchronized void registrar(long nanos) {
+        janela[proxima] = nanos;
+        proxima = (proxima + 1) % janela.length;
+        total++;
+    }
+
+    synchronized long getTotal() {
+        return total;
+    }
+
+    /**
+     * Percentil (entre 0 e 100) das latências da janela, em milissegundos.
+     */
+    synchronized double percentilMillis(double percentil) {
+        int n = (int) Math.min(total, janela.length);
+        if (n == 0) {
+            return 0.0;
+        }
+        long[] ordenadas = Arrays.copyOf(janela, n);
+        Arrays.sort(ordenadas);
+        int indice = (int) Math.ceil(percentil / 100.0 * n) - 1;
+        return ordenadas[Math.max(0, indice)] / 1e6;
+    }
+}
@@ -0,0 +1,96 @@
+package br.ufrn.imd.servidor;
+
+import br.ufrn.imd.Aresta;
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.floyd_warshall.FloydWarshall;
+import br.ufrn.imd.cache.ResultadosEmCache;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Um grafo carregado no servidor, junto com os resultados já calculados para ele.
+ * * O grafo nunca é alterado depois de carregado, então as consultas podem
+ * lê-lo em paralelo. O Floyd-Warshall é calculado na primeira consulta de
+ * distância/caminho e reaproveitado nas seguintes (uma falha, como um ciclo
+ * negativo, também é guardada, para não refazer o cálculo a cada consulta). Os demais resultados vêm
+ * do cache compartilhado do servidor, que também serve grafos de mesmo conteúdo.
+ */
+class GrafoResidente {
+
+    private final String nome;
+    private final String caminhoArquivo;
+    private final Grafo grafo;
+    private final boolean temPesoNegativo;
+    private final ResultadosEmCache cache;
+
+    private volatile FloydWarshall.Resultado floydWarshall;
+    private volatile RuntimeException falhaFloydWarshall;
+
+    GrafoResidente(String nome, String caminhoArquivo, Grafo grafo, ResultadosEmCache cache) {
+        this.nome = nome;
+        this.cache = cache;
+        this.caminhoArquivo = caminhoArquivo;
+        this.grafo = grafo;
+
+        boolean negativo = false;
+        for (Aresta a : grafo.getTodasArestas()) {
+            if (a.getPeso() < 0) {
+                negativo = true;
+                break;
+            }
+        }
+        this.temPesoNegativo = negativo;
+    }
+
+    String getNome() {
+        return nome;
+    }
+
+    String getCaminhoArquivo() {
+        return caminhoArquivo;
+    }
+
+    Grafo getGrafo() {
+        return grafo;
+    }
+
+    /**
+     * Retorna o resultado do Floyd-Warshall, calculando-o apenas na primeira chamada.
+     * Se o cálculo falhou, as chamadas seguintes lançam a mesma exceção.
+     */
+    FloydWarshall.Resultado floydWarshall() {
+        FloydWarshall.Resultado resultado = floydWarshall;
+        if (resultado == null) {
+            synchronized (this) {
+                resultado = floydWarshall;
+                if (resultado == null) {
+                    if (falhaFloydWarshall != null) {
+                        throw falhaFloydWarshall;
+                    }
+                    try {
+                        resultado = cache.floydWarshall(grafo, caminhoArquivo);
+                    } catch (RuntimeException e) {
+                        falhaFloydWarshall = e;
+                        throw e;
+                    }
+                    floydWarshall = resultado;
+                }
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Caminhos mínimos a partir de uma origem: Dijkstra quando não há pesos
+     * negativos, Bellman-Ford caso contrário.
+     */
+    Map<Vertice, Double> distancias(Vertice origem) {
+        return temPesoNegativo ? cache.bellmanFord(grafo, origem) : cache.dijkstra(grafo, origem);
+    }
+
+    List<Aresta> mst(Vertice inicio) {
+        return cache.prim(grafo, inicio);
+    }
+}
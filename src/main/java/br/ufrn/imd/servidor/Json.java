@@ -0,0 +1,52 @@
+package br.ufrn.imd.servidor;
+
+/**
+ * Utilitário mínimo para montar respostas JSON sem depender de bibliotecas externas.
+ */
+class Json {
+
+    /**
+     * Escreve uma string JSON (com aspas e escapes).
+     */
+    static StringBuilder texto(StringBuilder sb, String valor) {
+        sb.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"');
+    }
+
+    /**
+     * Escreve um número JSON. Infinito e NaN não existem em JSON e viram null.
+     */
+    static StringBuilder numero(StringBuilder sb, double valor) {
+        if (Double.isInfinite(valor) || Double.isNaN(valor)) {
+            return sb.append("null");
+        }
+        if (valor == Math.rint(valor) && Math.abs(valor) < 1e15) {
+            return sb.append((long) valor);
+        }
+        return sb.append(valor);
+    }
+
+    /**
+     * Monta a resposta de erro padrão: {"erro": "..."}.
+     */
+    static String erro(String mensagem) {
+        return texto(new StringBuilder("{\"erro\":"), mensagem == null ? "" : mensagem).append('}').toString();
+    }
+}
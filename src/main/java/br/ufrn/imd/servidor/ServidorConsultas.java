@@ -0,0 +1,386 @@
+package br.ufrn.imd.servidor;
+
+import br.ufrn.imd.Aresta;
+import br.ufrn.imd.Grafo;
+import br.ufrn.imd.LeitorDOT;
+import br.ufrn.imd.Vertice;
+import br.ufrn.imd.algorithms.floyd_warshall.FloydWarshall;
+import br.ufrn.imd.algorithms.prim.Prim;
+import br.ufrn.imd.cache.CacheResultados;
+import br.ufrn.imd.cache.ResultadosEmCache;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Servidor local de consultas que mantém os grafos carregados em memória.
+ * * Evita pagar, a cada consulta, a inicialização da JVM, a leitura do DOT e o
+ * aquecimento do JIT. Escuta apenas em localhost e atende cada requisição
+ * em uma virtual thread.
+ *
+ * Rotas (respostas em JSON):
+ * - GET    /grafos                                 lista os grafos carregados
+ * - POST   /grafos?nome=g&arquivo=caminho.dot      carrega (ou recarrega) um grafo do
+ *                                                  diretório de grafos (desligado se não houver)
+ * - DELETE /grafos?nome=g                          descarrega um grafo
+ * - GET    /mst?grafo=g&inicio=a                   árvore geradora mínima (Prim)
+ * - GET    /sssp?grafo=g&origem=a                  distâncias a partir de uma origem
+ *                                                  (binário com Accept: application/octet-stream)
+ * - GET    /distancia?grafo=g&origem=a&destino=b   distância mínima (Floyd-Warshall em cache)
+ * - GET    /caminho?grafo=g&origem=a&destino=b     caminho mínimo (Floyd-Warshall em cache)
+ * - GET    /saude                                  estado do servidor e latência (p50/p99)
+ */
+public class ServidorConsultas {
+
+    public static final int PORTA_PADRAO = 8080;
+
+    /**
+     * Limite do cache de resultados em memória compartilhado pelos grafos.
+     */
+    public static final long TAMANHO_CACHE_BYTES = 512L << 20;
+
+    private static final String TIPO_JSON = "application/json; charset=utf-8";
+    private static final String TIPO_BINARIO = "application/octet-stream";
+
+    private final Map<String, GrafoResidente> grafos = new ConcurrentHashMap<>();
+    private final EstatisticasLatencia latencias = new EstatisticasLatencia(4096);
+    private final ResultadosEmCache cache;
+    private final Path diretorioGrafos;
+    private final HttpServer servidor;
+    private final ExecutorService executor;
+
+    /**
+     * Cria o servidor ligado a localhost na porta informada (0 escolhe uma porta livre),
+     * sem permitir que clientes carreguem grafos.
+     */
+    public ServidorConsultas(int porta) throws IOException {
+        this(porta, null);
+    }
+
+    /**
+     * Cria o servidor ligado a localhost na porta informada (0 escolhe uma porta livre).
+     *
+     * @param diretorioGrafos Único diretório de onde POST /grafos pode ler arquivos,
+     *                        ou null para recusar o carregamento pelos clientes
+     */
+    public ServidorConsultas(int porta, Path diretorioGrafos) throws IOException {
+        this.diretorioGrafos = diretorioGrafos == null ? null : diretorioGrafos.toRealPath();
+        this.cache = new ResultadosEmCache(new CacheResultados(TAMANHO_CACHE_BYTES, null));
+        this.servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), porta), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.servidor.setExecutor(executor);
+
+        servidor.createContext("/grafos", troca -> atender(troca, this::rotaGrafos));
+        servidor.createContext("/mst", troca -> atender(troca, this::rotaMst));
+        servidor.createContext("/sssp", troca -> atender(troca, this::rotaSssp));
+        servidor.createContext("/distancia", troca -> atender(troca, this::rotaDistancia));
+        servidor.createContext("/caminho", troca -> atender(troca, this::rotaCaminho));
+        servidor.createContext("/saude", troca -> atender(troca, this::rotaSaude));
+    }
+
+    public void iniciar() {
+        servidor.start();
+    }
+
+    public void parar() {
+        servidor.stop(0);
+        executor.shutdown();
+    }
+
+    public InetSocketAddress getEndereco() {
+        return servidor.getAddress();
+    }
+
+    /**
+     * Lê um arquivo DOT e o deixa disponível com o nome informado.
+     * Não restringe o caminho: é para quem inicia o servidor, não para os clientes.
+     */
+    public void carregar(String nome, String caminhoArquivo) throws IOException {
+        Grafo grafo = new LeitorDOT().lerArquivo(caminhoArquivo);
+        grafos.put(nome, new GrafoResidente(nome, caminhoArquivo, grafo, cache));
+    }
+
+    /**
+     * Carrega um grafo pedido por um cliente, aceitando apenas arquivos dentro
+     * do diretório de grafos (sem escapar dele por "..", caminho absoluto ou link).
+     */
+    private void carregarDoCliente(String nome, String arquivo) throws IOException {
+        if (diretorioGrafos == null) {
+            throw new ProibidoException("Carregamento de grafos pelos clientes desligado"
+                    + " (inicie o servidor com --diretorio-grafos).");
+        }
+        Path caminho = diretorioGrafos.resolve(arquivo).normalize();
+        if (!caminho.startsWith(diretorioGrafos) || !caminho.toRealPath().startsWith(diretorioGrafos)) {
+            throw new ProibidoException("Arquivo fora do diretório de grafos: " + arquivo);
+        }
+        carregar(nome, caminho.toString());
+    }
+
+    // --- Rotas ---
+
+    private Resposta rotaGrafos(HttpExchange troca, Map<String, String> parametros) throws IOException {
+        switch (troca.getRequestMethod()) {
+            case "GET" -> {
+                StringBuilder sb = new StringBuilder("{\"grafos\":[");
+                boolean primeiro = true;
+                for (GrafoResidente residente : grafos.values()) {
+                    if (!primeiro) {
+                        sb.append(',');
+                    }
+                    primeiro = false;
+                    escreverResumo(sb, residente);
+                }
+                return Resposta.json(200, sb.append("]}").toString());
+            }
+            case "POST" -> {
+                String nome = obrigatorio(parametros, "nome");
+                carregarDoCliente(nome, obrigatorio(parametros, "arquivo"));
+                StringBuilder sb = new StringBuilder();
+                escreverResumo(sb, grafos.get(nome));
+                return Resposta.json(201, sb.toString());
+            }
+            case "DELETE" -> {
+                String nome = obrigatorio(parametros, "nome");
+                if (grafos.remove(nome) == null) {
+                    throw new NaoEncontradoException("Grafo não carregado: " + nome);
+                }
+                return Resposta.json(200, "{\"removido\":" + Json.texto(new StringBuilder(), nome) + "}");
+            }
+            default -> {
+                return Resposta.json(405, Json.erro("Método não suportado: " + troca.getRequestMethod()));
+            }
+        }
+    }
+
+    private Resposta rotaMst(HttpExchange troca, Map<String, String> parametros) {
+        GrafoResidente residente = grafo(parametros);
+        if (residente.getGrafo().isDirecionado()) {
+            throw new IllegalArgumentException("O algoritmo de Prim não é aplicável a grafos direcionados.");
+        }
+        Vertice inicio = vertice(residente, parametros, "inicio");
+
+        List<Aresta> mst = residente.mst(inicio);
+        StringBuilder sb = new StringBuilder("{\"custo\":");
+        Json.numero(sb, Prim.custoTotal(mst)).append(",\"arestas\":[");
+        for (int i = 0; i < mst.size(); i++) {
+            Aresta a = mst.get(i);
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"origem\":");
+            Json.texto(sb, a.getOrigem().getRotulo()).append(",\"destino\":");
+            Json.texto(sb, a.getDestino().getRotulo()).append(",\"peso\":");
+            Json.numero(sb, a.getPeso()).append('}');
+        }
+        return Resposta.json(200, sb.append("]}").toString());
+    }
+
+    private Resposta rotaSssp(HttpExchange troca, Map<String, String> parametros) throws IOException {
+        GrafoResidente residente = grafo(parametros);
+        Vertice origem = vertice(residente, parametros, "origem");
+        Map<Vertice, Double> distancias = residente.distancias(origem);
+
+        String aceita = troca.getRequestHeaders().getFirst("Accept");
+        if (aceita != null && aceita.contains(TIPO_BINARIO)) {
+            // Formato binário: int n, seguido de n pares (rótulo UTF, distância double)
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            DataOutputStream dados = new DataOutputStream(buffer);
+            dados.writeInt(distancias.size());
+            for (Map.Entry<Vertice, Double> entrada : distancias.entrySet()) {
+                dados.writeUTF(entrada.getKey().getRotulo());
+                dados.writeDouble(entrada.getValue());
+            }
+            dados.flush();
+            return new Resposta(200, TIPO_BINARIO, buffer.toByteArray());
+        }
+
+        StringBuilder sb = new StringBuilder("{\"origem\":");
+        Json.texto(sb, origem.getRotulo()).append(",\"distancias\":{");
+        boolean primeiro = true;
+        for (Map.Entry<Vertice, Double> entrada : distancias.entrySet()) {
+            if (!primeiro) {
+                sb.append(',');
+            }
+            primeiro = false;
+            Json.texto(sb, entrada.getKey().getRotulo()).append(':');
+            Json.numero(sb, entrada.getValue());
+        }
+        return Resposta.json(200, sb.append("}}").toString());
+    }
+
+    private Resposta rotaDistancia(HttpExchange troca, Map<String, String> parametros) {
+        GrafoResidente residente = grafo(parametros);
+        Vertice origem = vertice(residente, parametros, "origem");
+        Vertice destino = vertice(residente, parametros, "destino");
+
+        double distancia = residente.floydWarshall().getDistancia(origem, destino);
+        StringBuilder sb = new StringBuilder("{\"origem\":");
+        Json.texto(sb, origem.getRotulo()).append(",\"destino\":");
+        Json.texto(sb, destino.getRotulo()).append(",\"distancia\":");
+        Json.numero(sb, distancia);
+        return Resposta.json(200, sb.append('}').toString());
+    }
+
+    private Resposta rotaCaminho(HttpExchange troca, Map<String, String> parametros) {
+        GrafoResidente residente = grafo(parametros);
+        Vertice origem = vertice(residente, parametros, "origem");
+        Vertice destino = vertice(residente, parametros, "destino");
+
+        FloydWarshall.Resultado resultado = residente.floydWarshall();
+        List<Vertice> caminho = FloydWarshall.reconstruirCaminho(resultado, origem, destino);
+        StringBuilder sb = new StringBuilder("{\"distancia\":");
+        Json.numero(sb, resultado.getDistancia(origem, destino)).append(",\"caminho\":[");
+        for (int i = 0; i < caminho.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            Json.texto(sb, caminho.get(i).getRotulo());
+        }
+        return Resposta.json(200, sb.append("]}").toString());
+    }
+
+    private Resposta rotaSaude(HttpExchange troca, Map<String, String> parametros) {
+        String corpo = String.format(Locale.ROOT,
+                "{\"grafos\":%d,\"requisicoes\":%d,\"p50Ms\":%.3f,\"p99Ms\":%.3f,\"cacheBytes\":%d}",
+                grafos.size(), latencias.getTotal(), latencias.percentilMillis(50), latencias.percentilMillis(99),
+                cache.getCache().getBytesEmMemoria());
+        return Resposta.json(200, corpo);
+    }
+
+    // --- Métodos Auxiliares ---
+
+    private void escreverResumo(StringBuilder sb, GrafoResidente residente) {
+        Grafo grafo = residente.getGrafo();
+        sb.append("{\"nome\":");
+        Json.texto(sb, residente.getNome()).append(",\"arquivo\":");
+        Json.texto(sb, residente.getCaminhoArquivo()).append(",\"direcionado\":").append(grafo.isDirecionado())
+                .append(",\"vertices\":").append(grafo.getNumVertices())
+                .append(",\"arestas\":").append(grafo.getTodasArestas().size()).append('}');
+    }
+
+    private GrafoResidente grafo(Map<String, String> parametros) {
+        String nome = obrigatorio(parametros, "grafo");
+        GrafoResidente residente = grafos.get(nome);
+        if (residente == null) {
+            throw new NaoEncontradoException("Grafo não carregado: " + nome);
+        }
+        return residente;
+    }
+
+    private Vertice vertice(GrafoResidente residente, Map<String, String> parametros, String nomeParametro) {
+        String rotulo = obrigatorio(parametros, nomeParametro);
+        Vertice v = residente.getGrafo().getVertice(rotulo);
+        if (v == null) {
+            throw new NaoEncontradoException("Vértice não encontrado: " + rotulo);
+        }
+        return v;
+    }
+
+    private static String obrigatorio(Map<String, String> parametros, String nome) {
+        String valor = parametros.get(nome);
+        if (valor == null || valor.isEmpty()) {
+            throw new IllegalArgumentException("Parâmetro obrigatório ausente: " + nome);
+        }
+        return valor;
+    }
+
+    private static Map<String, String> lerParametros(HttpExchange troca) {
+        Map<String, String> parametros = new HashMap<>();
+        String consulta = troca.getRequestURI().getRawQuery();
+        if (consulta == null) {
+            return parametros;
+        }
+        for (String par : consulta.split("&")) {
+            int igual = par.indexOf('=');
+            String chave = igual < 0 ? par : par.substring(0, igual);
+            String valor = igual < 0 ? "" : par.substring(igual + 1);
+            parametros.put(URLDecoder.decode(chave, StandardCharsets.UTF_8),
+                    URLDecoder.decode(valor, StandardCharsets.UTF_8));
+        }
+        return parametros;
+    }
+
+    /**
+     * Executa uma rota, converte exceções em respostas de erro e registra a latência.
+     */
+    private void atender(HttpExchange troca, Rota rota) throws IOException {
+        long inicio = System.nanoTime();
+        Resposta resposta;
+        try {
+            resposta = rota.responder(troca, lerParametros(troca));
+        } catch (NaoEncontradoException e) {
+            resposta = Resposta.json(404, Json.erro(e.getMessage()));
+        } catch (ProibidoException e) {
+            resposta = Resposta.json(403, Json.erro(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            resposta = Resposta.json(400, Json.erro(e.getMessage()));
+        } catch (IOException e) {
+            resposta = Resposta.json(422, Json.erro("Erro ao ler ou processar o arquivo DOT: " + e.getMessage()));
+        } catch (RuntimeException e) {
+            resposta = Resposta.json(500, Json.erro("Ocorreu um erro inesperado: " + e.getMessage()));
+        }
+
+        try (troca) {
+            troca.getResponseHeaders().set("Content-Type", resposta.tipo);
+            troca.sendResponseHeaders(resposta.status, resposta.corpo.length);
+            try (OutputStream corpo = troca.getResponseBody()) {
+                corpo.write(resposta.corpo);
+            }
+        } finally {
+            latencias.registrar(System.nanoTime() - inicio);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Rota {
+        Resposta responder(HttpExchange troca, Map<String, String> parametros) throws IOException;
+    }
+
+    private static class Resposta {
+        final int status;
+        final String tipo;
+        final byte[] corpo;
+
+        Resposta(int status, String tipo, byte[] corpo) {
+            this.status = status;
+            this.tipo = tipo;
+            this.corpo = corpo;
+        }
+
+        static Resposta json(int status, String corpo) {
+            return new Resposta(status, TIPO_JSON, corpo.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static class NaoEncontradoException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        NaoEncontradoException(String mensagem) {
+            super(mensagem);
+        }
+    }
+
+    private static class ProibidoException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        ProibidoException(String mensagem) {
+            super(mensagem);
+        }
+    }
+}